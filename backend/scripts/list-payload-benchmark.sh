@@ -0,0 +1,54 @@
+#!/usr/bin/env bash
+# Bytes on the wire and server time for 1,000-row employee pages in each response shape,
+# with and without gzip.
+#
+#   scripts/list-payload-benchmark.sh [runs]       (default 20 runs per case)
+#
+# Starts the fat jar with SQL budget headers on, so each response reports its database
+# time (X-SQL-Time-Ms); total minus database time is mostly serialization and compression
+# CPU. Requires a reachable MySQL with at least 1,000 employees
+# (database/benchmark/seed_employees.sql), curl and awk.
+set -euo pipefail
+
+RUNS=${1:-20}
+PORT=${PORT:-18090}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$ROOT/target/employee-management-backend-1.0.0.jar"
+OUT="$ROOT/target/list-payload"
+BASE="http://localhost:$PORT/api"
+SPARSE=id,employeeId,firstName,lastName,departmentName,status
+
+cd "$ROOT"
+mvn -q -B package -DskipTests
+mkdir -p "$OUT"
+java -jar "$JAR" --server.port="$PORT" --app.sql.budget-headers=true > "$OUT/app.log" 2>&1 &
+PID=$!
+trap 'kill $PID 2>/dev/null || true' EXIT
+until curl -sf -o /dev/null -X POST "$BASE/auth/logout"; do sleep 0.2; done
+
+TOKEN=$(curl -sf -H 'Content-Type: application/json' -d '{"username":"admin","password":"admin123"}' \
+    "$BASE/auth/login" | sed 's/.*"token":"\([^"]*\)".*/\1/')
+
+declare -A CASES=(
+    [full]="size=1000"
+    [sparse]="size=1000&fields=$SPARSE"
+    [columnar]="size=1000&shape=columnar"
+    [columnar-sparse]="size=1000&shape=columnar&fields=$SPARSE"
+)
+
+printf "%-16s %-9s %12s %12s %12s\n" shape encoding bytes total_ms non_sql_ms
+for name in full sparse columnar columnar-sparse; do
+    for encoding in identity gzip; do
+        for run in $(seq 1 "$RUNS"); do
+            curl -s -o /dev/null -D "$OUT/headers" -H "Authorization: Bearer $TOKEN" \
+                -H "Accept-Encoding: $encoding" -w '%{size_download} %{time_total}\n' \
+                "$BASE/employees?${CASES[$name]}" > "$OUT/timing"
+            read -r bytes total < "$OUT/timing"
+            sql=$(awk -F': ' 'tolower($1) == "x-sql-time-ms" { print $2 + 0 }' "$OUT/headers")
+            echo "$bytes $(awk -v t="$total" -v s="${sql:-0}" 'BEGIN { printf "%.2f %.2f", t * 1000, t * 1000 - s }')"
+        done > "$OUT/$name-$encoding.txt"
+        # drop the first two runs as warm-up, report medians
+        tail -n +3 "$OUT/$name-$encoding.txt" | sort -k2 -n | awk -v n="$name" -v e="$encoding" \
+            '{ b = $1; t[NR] = $2; c[NR] = $3 } END { m = int((NR + 1) / 2); printf "%-16s %-9s %12d %12.2f %12.2f\n", n, e, b, t[m], c[m] }'
+    done
+done
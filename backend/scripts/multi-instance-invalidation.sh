@@ -0,0 +1,74 @@
+#!/usr/bin/env bash
+# Runs several backend instances against one database and checks that a write on one
+# instance reaches the in-memory state of the others through the invalidation bus.
+#
+#   scripts/multi-instance-invalidation.sh [instances]     (default 3)
+#
+# Node 1 raises one employee's salary to a marker value; every other node's
+# /api/analytics/salaries (served from memory) must report a company maximum near it
+# (the maximum comes from a sketch, so it is within 1%, not exact).
+# The original salary is then restored the same way. Prints the propagation time per
+# node and each node's /api/admin/invalidation counters.
+#
+# Requires a reachable MySQL configured as in application.properties (or via
+# SPRING_DATASOURCE_* environment variables), at least one employee, curl and jq.
+set -euo pipefail
+
+INSTANCES=${1:-3}
+BASE_PORT=${BASE_PORT:-18081}
+TIMEOUT_S=${TIMEOUT_S:-15}
+MARKER=9999999.99
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$ROOT/target/employee-management-backend-1.0.0.jar"
+OUT="$ROOT/target/multi-instance"
+
+cd "$ROOT"
+mvn -q -B package -DskipTests
+mkdir -p "$OUT"
+
+PIDS=()
+trap 'kill "${PIDS[@]}" 2>/dev/null || true' EXIT
+for i in $(seq 1 "$INSTANCES"); do
+    java -jar "$JAR" --server.port=$((BASE_PORT + i - 1)) > "$OUT/node-$i.log" 2>&1 &
+    PIDS+=($!)
+done
+
+url() { echo "http://localhost:$((BASE_PORT + $1 - 1))/api$2"; }
+for i in $(seq 1 "$INSTANCES"); do
+    until curl -sf -o /dev/null -X POST "$(url "$i" /auth/logout)"; do sleep 0.2; done
+done
+
+TOKEN=$(curl -sf -H 'Content-Type: application/json' -d '{"username":"admin","password":"admin123"}' \
+    "$(url 1 /auth/login)" | jq -r '.data.token')
+call() { local node=$1 method=$2 path=$3; shift 3
+    curl -sf -X "$method" -H "Authorization: Bearer $TOKEN" -H 'Content-Type: application/json' "$@" "$(url "$node" "$path")"; }
+
+ID=$(call 1 GET '/employees?size=1' | jq -r '.data.content[0].id')
+EMPLOYEE=$(call 1 GET "/employees/$ID" | jq '.data')
+ORIGINAL=$(echo "$EMPLOYEE" | jq -r '.salary')
+
+# Warm every node's salary column before the write.
+for i in $(seq 1 "$INSTANCES"); do call "$i" GET /analytics/salaries > /dev/null; done
+
+has_marker() { call "$1" GET /analytics/salaries | jq -e --argjson m "$MARKER" '.data.company.max >= $m * 0.9' > /dev/null; }
+
+propagate() { local salary=$1 expect=$2
+    call 1 PUT "/employees/$ID" -d "$(echo "$EMPLOYEE" | jq --argjson s "$salary" '.salary = $s')" > /dev/null
+    local start; start=$(date +%s%N)
+    for i in $(seq 2 "$INSTANCES"); do
+        until { has_marker "$i" && [ "$expect" = present ]; } || { ! has_marker "$i" && [ "$expect" = absent ]; }; do
+            if [ $(( ($(date +%s%N) - start) / 1000000000 )) -ge "$TIMEOUT_S" ]; then
+                echo "node $i did not see salary $salary within ${TIMEOUT_S}s"; exit 1
+            fi
+            sleep 0.05
+        done
+        printf "salary %-12s node %d  %6d ms\n" "$salary" "$i" $(( ($(date +%s%N) - start) / 1000000 ))
+    done
+}
+
+propagate "$MARKER" present
+propagate "$ORIGINAL" absent
+
+for i in $(seq 1 "$INSTANCES"); do
+    echo "node $i: $(call "$i" GET /admin/invalidation | jq -c '.data')"
+done
@@ -0,0 +1,62 @@
+#!/usr/bin/env bash
+# Reproducible startup benchmark: time-to-first-request and RSS per startup mode.
+#
+#   scripts/startup-benchmark.sh [runs]          (default 5 runs per mode)
+#
+# Modes:
+#   default   plain fat jar
+#   faststart fat jar, faststart profile (lazy init, no schema validation, deferred seeding)
+#   aot       unpacked jar built with -Pfast-start, faststart profile, -Dspring.aot.enabled=true
+#   aot-cds   as aot, plus the AppCDS archive from a training run
+#
+# Requires a reachable MySQL configured as in application.properties (or via
+# SPRING_DATASOURCE_* environment variables), curl, and Linux /proc for RSS.
+set -euo pipefail
+
+RUNS=${1:-5}
+PORT=${PORT:-18080}
+ROOT=$(cd "$(dirname "$0")/.." && pwd)
+JAR="$ROOT/target/employee-management-backend-1.0.0.jar"
+OUT="$ROOT/target/fast-start"
+MAIN=com.employeemanagement.EmployeeManagementApplication
+
+cd "$ROOT"
+mvn -q -B package -DskipTests -Pfast-start
+
+# Unpack for CDS: CDS only archives classes loaded from plain jars on the class path,
+# so application classes are re-jarred and the library list is fixed in classpath.txt.
+rm -rf "$OUT" && mkdir -p "$OUT/unpacked"
+(cd "$OUT/unpacked" && jar -xf "$JAR")
+jar -cf "$OUT/app.jar" -C "$OUT/unpacked/BOOT-INF/classes" .
+CP="$OUT/app.jar:$(ls "$OUT"/unpacked/BOOT-INF/lib/*.jar | sort | tr '\n' ':')"
+echo "$CP" > "$OUT/classpath.txt"
+
+# Training run: refresh the context once and dump the classes it loaded.
+java -XX:ArchiveClassesAtExit="$OUT/app.jsa" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -cp "$CP" "$MAIN" --spring.profiles.active=faststart --server.port="$PORT" > "$OUT/cds-training.log" 2>&1 || true
+
+command_for() {
+    case "$1" in
+        default)   echo "java -jar $JAR" ;;
+        faststart) echo "java -jar $JAR --spring.profiles.active=faststart" ;;
+        aot)       echo "java -Dspring.aot.enabled=true -cp $CP $MAIN --spring.profiles.active=faststart" ;;
+        aot-cds)   echo "java -XX:SharedArchiveFile=$OUT/app.jsa -Dspring.aot.enabled=true -cp $CP $MAIN --spring.profiles.active=faststart" ;;
+    esac
+}
+
+printf "%-10s %5s %12s %10s\n" mode run first_req_ms rss_mb
+for mode in default faststart aot aot-cds; do
+    for run in $(seq 1 "$RUNS"); do
+        start=$(date +%s%N)
+        $(command_for "$mode") --server.port="$PORT" > "$OUT/$mode-$run.log" 2>&1 &
+        pid=$!
+        until [ "$(curl -s -o /dev/null -w '%{http_code}' -X POST "http://localhost:$PORT/api/auth/logout")" = "200" ]; do
+            if ! kill -0 "$pid" 2>/dev/null; then echo "$mode run $run failed, see $OUT/$mode-$run.log"; exit 1; fi
+            sleep 0.02
+        done
+        elapsed=$(( ($(date +%s%N) - start) / 1000000 ))
+        rss=$(awk '/VmRSS/ { printf "%.1f", $2 / 1024 }' "/proc/$pid/status")
+        printf "%-10s %5s %12s %10s\n" "$mode" "$run" "$elapsed" "$rss"
+        kill "$pid" && wait "$pid" 2>/dev/null || true
+    done
+done
@@ -0,0 +1,82 @@
+package com.employeemanagement.admission;
+
+import com.employeemanagement.dto.AdmissionStatsDTO;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * AIMD concurrency limit driven by observed latency. A request slower than the target
+ * (or failed with a server error) shrinks the limit multiplicatively; a fast request
+ * while at least half the limit is in use grows it by one.
+ * <p>
+ * Each adjustment is applied once per window, not per completion: only a request admitted
+ * after the last decrease can trigger the next one, so one overload episode seen by many
+ * in-flight requests cuts the limit once, and the limit grows by at most one per
+ * target-latency interval.
+ */
+public class AdaptiveLimiter {
+
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long targetLatencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private long lastDecreaseNanos = System.nanoTime();
+    private long lastIncreaseNanos = lastDecreaseNanos;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long targetLatencyMs) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMs);
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                accepted.increment();
+                return true;
+            }
+        }
+    }
+
+    public void release(long latencyNanos, boolean failed) {
+        int wasInFlight = inFlight.getAndDecrement();
+        long now = System.nanoTime();
+        synchronized (this) {
+            if (failed || latencyNanos > targetLatencyNanos) {
+                // started before the last cut: its slowness is already accounted for
+                if (now - latencyNanos - lastDecreaseNanos >= 0) {
+                    limit = Math.max(minLimit, limit * BACKOFF);
+                    lastDecreaseNanos = now;
+                }
+            } else if (wasInFlight * 2 >= limit && now - lastIncreaseNanos >= targetLatencyNanos
+                    && now - lastDecreaseNanos >= targetLatencyNanos) {
+                limit = Math.min(maxLimit, limit + 1);
+                lastIncreaseNanos = now;
+            }
+        }
+    }
+
+    public AdmissionStatsDTO toDTO(String name) {
+        return AdmissionStatsDTO.builder()
+                .endpointClass(name)
+                .limit((int) limit)
+                .inFlight(inFlight.get())
+                .accepted(accepted.sum())
+                .rejected(rejected.sum())
+                .targetLatencyMs(TimeUnit.NANOSECONDS.toMillis(targetLatencyNanos))
+                .build();
+    }
+}
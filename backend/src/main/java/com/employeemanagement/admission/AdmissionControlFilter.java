@@ -0,0 +1,86 @@
+package com.employeemanagement.admission;
+
+import com.employeemanagement.dto.AdmissionStatsDTO;
+import com.employeemanagement.dto.ApiResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-endpoint-class admission control. Requests over the class's adaptive limit are
+ * rejected immediately with 503 and Retry-After instead of queueing in Tomcat.
+ */
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<EndpointClass, AdaptiveLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private boolean enabled;
+    private String retryAfterSeconds;
+
+    @PostConstruct
+    public void init() {
+        enabled = environment.getProperty("app.admission.enabled", Boolean.class, true);
+        retryAfterSeconds = environment.getProperty("app.admission.retry-after-seconds", "1");
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "app.admission." + endpointClass.name().toLowerCase() + ".";
+            int initial = environment.getProperty(prefix + "initial-limit", Integer.class, endpointClass.getInitialLimit());
+            limiters.put(endpointClass, new AdaptiveLimiter(initial,
+                    environment.getProperty(prefix + "min-limit", Integer.class, 2),
+                    environment.getProperty(prefix + "max-limit", Integer.class, initial * 4),
+                    environment.getProperty(prefix + "target-latency-ms", Long.class, endpointClass.getTargetLatencyMs())));
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || "OPTIONS".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        AdaptiveLimiter limiter = limiters.get(EndpointClass.of(path));
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader("Retry-After", retryAfterSeconds);
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("Server is busy, please retry shortly"));
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    public List<AdmissionStatsDTO> getStats() {
+        return Arrays.stream(EndpointClass.values())
+                .map(c -> limiters.get(c).toDTO(c.name()))
+                .toList();
+    }
+}
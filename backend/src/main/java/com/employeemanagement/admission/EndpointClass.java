@@ -0,0 +1,51 @@
+package com.employeemanagement.admission;
+
+/**
+ * Groups of endpoints that get their own concurrency limit, so an expensive group cannot
+ * starve a cheap one. Reporting covers the dashboard, analytics and admin endpoints that
+ * live inside otherwise cheap controllers.
+ */
+public enum EndpointClass {
+    AUTH(20, 500),
+    EMPLOYEES(50, 250),
+    DEPARTMENTS(30, 200),
+    USERS(20, 250),
+    REPORTING(8, 1500),
+    OTHER(20, 500);
+
+    private final int initialLimit;
+    private final long targetLatencyMs;
+
+    EndpointClass(int initialLimit, long targetLatencyMs) {
+        this.initialLimit = initialLimit;
+        this.targetLatencyMs = targetLatencyMs;
+    }
+
+    public int getInitialLimit() {
+        return initialLimit;
+    }
+
+    public long getTargetLatencyMs() {
+        return targetLatencyMs;
+    }
+
+    public static EndpointClass of(String path) {
+        if (path.startsWith("/employees/dashboard") || path.startsWith("/analytics")
+                || path.startsWith("/admin") || path.startsWith("/audit")) {
+            return REPORTING;
+        }
+        if (path.startsWith("/employees")) {
+            return EMPLOYEES;
+        }
+        if (path.startsWith("/departments")) {
+            return DEPARTMENTS;
+        }
+        if (path.startsWith("/users")) {
+            return USERS;
+        }
+        if (path.startsWith("/auth")) {
+            return AUTH;
+        }
+        return OTHER;
+    }
+}
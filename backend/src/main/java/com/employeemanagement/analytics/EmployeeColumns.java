@@ -0,0 +1,415 @@
+package com.employeemanagement.analytics;
+
+import java.util.*;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar copy of the employee table for ad-hoc group-by queries: salary in cents,
+ * joining date as epoch day, department dictionary-encoded to a dense code and status as
+ * its ordinal, one primitive array each, about 25 bytes per row. Scans split the rows
+ * into chunks that run in parallel on the common pool and merge per-group accumulators.
+ * <p>
+ * Freed slots are reused. Not thread-safe; callers hold a write lock for
+ * {@link #put}/{@link #remove} and a read lock for {@link #scan}.
+ */
+public class EmployeeColumns {
+
+    public static final long NO_SALARY = Long.MIN_VALUE;
+    public static final int NO_DATE = Integer.MIN_VALUE;
+    public static final long NO_DEPARTMENT = -1L;
+
+    private static final int CHUNK = 1 << 16;
+
+    public enum Dimension { DEPARTMENT, STATUS, JOINING_YEAR, SALARY_BAND }
+
+    /**
+     * Filters are ANDed; null or empty means unfiltered. Date bounds are inclusive epoch
+     * days; salary bounds are inclusive cents and exclude rows without a salary.
+     */
+    public record Query(Set<Long> departmentIds, Set<Integer> statuses, Integer joinedFromDay, Integer joinedToDay,
+                        Long minSalaryCents, Long maxSalaryCents, List<Dimension> groupBy, long salaryBandCents) {
+    }
+
+    /** One output group. Dimensions not grouped by are left at their "none" value. */
+    public record Group(long departmentId, int status, int joiningYear, long salaryBandStartCents,
+                        long count, long salaryCount, long salarySumCents, long salaryMinCents, long salaryMaxCents) {
+    }
+
+    /**
+     * Salary revision rule. Filters are ANDed and null matches anything; salary bounds are
+     * inclusive cents. The raise is {@code percentBasisPoints} (hundredths of a percent) of
+     * the current salary rounded half up to the cent, plus {@code amountCents}.
+     */
+    public record RaiseRule(Long departmentId, Integer status, Long minSalaryCents, Long maxSalaryCents,
+                            long percentBasisPoints, long amountCents) {
+
+        public boolean matches(long departmentId, int status, long cents) {
+            return (this.departmentId == null || this.departmentId == departmentId)
+                    && (this.status == null || this.status == status)
+                    && (minSalaryCents == null || cents >= minSalaryCents)
+                    && (maxSalaryCents == null || cents <= maxSalaryCents);
+        }
+
+        public long raiseCents(long cents) {
+            return (cents * percentBasisPoints + 5_000) / 10_000 + amountCents;
+        }
+
+        /** Index of the first rule matching the row, or -1; rules are tried in order. */
+        public static int firstMatch(RaiseRule[] rules, long departmentId, int status, long cents) {
+            for (int r = 0; r < rules.length; r++) {
+                if (rules[r].matches(departmentId, status, cents)) {
+                    return r;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Totals of a raise preview in cents, per rule and per department code
+     * ({@code departmentIds[code]}); rows without a salary or a matching rule are left out.
+     */
+    public record RaisePreview(long[] departmentIds, long[] ruleCounts, long[] ruleBeforeCents, long[] ruleRaiseCents,
+                               long[] ruleMaxRaiseCents, long[] departmentCounts, long[] departmentBeforeCents,
+                               long[] departmentRaiseCents) {
+
+        RaisePreview(long[] departmentIds, int rules) {
+            this(departmentIds, new long[rules], new long[rules], new long[rules], new long[rules],
+                    new long[departmentIds.length], new long[departmentIds.length], new long[departmentIds.length]);
+        }
+
+        void add(int rule, int departmentCode, long cents, long raise) {
+            ruleCounts[rule]++;
+            ruleBeforeCents[rule] += cents;
+            ruleRaiseCents[rule] += raise;
+            ruleMaxRaiseCents[rule] = Math.max(ruleMaxRaiseCents[rule], raise);
+            departmentCounts[departmentCode]++;
+            departmentBeforeCents[departmentCode] += cents;
+            departmentRaiseCents[departmentCode] += raise;
+        }
+
+        RaisePreview merge(RaisePreview other) {
+            for (int r = 0; r < ruleCounts.length; r++) {
+                ruleCounts[r] += other.ruleCounts[r];
+                ruleBeforeCents[r] += other.ruleBeforeCents[r];
+                ruleRaiseCents[r] += other.ruleRaiseCents[r];
+                ruleMaxRaiseCents[r] = Math.max(ruleMaxRaiseCents[r], other.ruleMaxRaiseCents[r]);
+            }
+            for (int d = 0; d < departmentCounts.length; d++) {
+                departmentCounts[d] += other.departmentCounts[d];
+                departmentBeforeCents[d] += other.departmentBeforeCents[d];
+                departmentRaiseCents[d] += other.departmentRaiseCents[d];
+            }
+            return this;
+        }
+    }
+
+    private long[] ids = new long[1024];
+    private long[] salaryCents = new long[1024];
+    private int[] joiningDays = new int[1024];
+    private int[] departmentCodes = new int[1024];
+    private byte[] statuses = new byte[1024];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int size;
+    private final Map<Long, Integer> slotByEmployeeId = new HashMap<>();
+    // code 0 is "no department"
+    private final Map<Long, Integer> departmentCodeById = new HashMap<>();
+    private long[] departmentIdByCode = {NO_DEPARTMENT};
+
+    public void put(long employeeId, long departmentId, int status, int joiningDay, long cents) {
+        Integer slot = slotByEmployeeId.get(employeeId);
+        if (slot == null) {
+            slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            slotByEmployeeId.put(employeeId, slot);
+        }
+        ids[slot] = employeeId;
+        salaryCents[slot] = cents;
+        joiningDays[slot] = joiningDay;
+        departmentCodes[slot] = encodeDepartment(departmentId);
+        statuses[slot] = (byte) status;
+    }
+
+    public void remove(long employeeId) {
+        Integer slot = slotByEmployeeId.remove(employeeId);
+        if (slot == null) {
+            return;
+        }
+        ids[slot] = 0;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+    }
+
+    /** Updates only the salary of a row already present; returns false when absent. */
+    public boolean setSalary(long employeeId, long cents) {
+        Integer slot = slotByEmployeeId.get(employeeId);
+        if (slot == null) {
+            return false;
+        }
+        salaryCents[slot] = cents;
+        return true;
+    }
+
+    public int rowCount() {
+        return slotByEmployeeId.size();
+    }
+
+    public int capacity() {
+        return ids.length;
+    }
+
+    public long footprintBytes() {
+        // five primitive columns plus a boxed HashMap entry (~48 bytes) per employee
+        return (long) ids.length * (8 + 8 + 4 + 4 + 1) + (long) slotByEmployeeId.size() * 48
+                + (long) departmentIdByCode.length * 8 + (long) departmentCodeById.size() * 48;
+    }
+
+    public List<Group> scan(Query query) {
+        boolean[] departmentMask = departmentMask(query.departmentIds());
+        boolean[] statusMask = statusMask(query.statuses());
+        int fromDay = query.joinedFromDay() != null ? query.joinedFromDay() : Integer.MIN_VALUE + 1;
+        int toDay = query.joinedToDay() != null ? query.joinedToDay() : Integer.MAX_VALUE;
+        boolean dateFiltered = query.joinedFromDay() != null || query.joinedToDay() != null;
+        boolean salaryFiltered = query.minSalaryCents() != null || query.maxSalaryCents() != null;
+        long minCents = query.minSalaryCents() != null ? query.minSalaryCents() : Long.MIN_VALUE + 1;
+        long maxCents = query.maxSalaryCents() != null ? query.maxSalaryCents() : Long.MAX_VALUE;
+        List<Dimension> dims = query.groupBy() != null ? query.groupBy() : List.of();
+        boolean byDepartment = dims.contains(Dimension.DEPARTMENT);
+        boolean byStatus = dims.contains(Dimension.STATUS);
+        boolean byYear = dims.contains(Dimension.JOINING_YEAR);
+        boolean byBand = dims.contains(Dimension.SALARY_BAND);
+        long band = Math.max(1, query.salaryBandCents());
+
+        int rows = size;
+        int chunks = (rows + CHUNK - 1) / CHUNK;
+        GroupTable merged = IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            GroupTable groups = new GroupTable();
+            int end = Math.min(rows, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < end; i++) {
+                if (ids[i] == 0) {
+                    continue;
+                }
+                int dept = departmentCodes[i];
+                int status = statuses[i];
+                int day = joiningDays[i];
+                long cents = salaryCents[i];
+                if ((departmentMask != null && !departmentMask[dept])
+                        || (statusMask != null && (status >= statusMask.length || !statusMask[status]))
+                        || (dateFiltered && (day == NO_DATE || day < fromDay || day > toDay))
+                        || (salaryFiltered && (cents == NO_SALARY || cents < minCents || cents > maxCents))) {
+                    continue;
+                }
+                long key = 0;
+                if (byDepartment) {
+                    key |= (long) (dept + 1);
+                }
+                if (byStatus) {
+                    key |= (long) (status + 1) << 16;
+                }
+                if (byYear && day != NO_DATE) {
+                    key |= (long) (yearOfEpochDay(day) + 1) << 19;
+                }
+                if (byBand && cents != NO_SALARY) {
+                    key |= Math.min(cents / band + 1, (1L << 31) - 1) << 33;
+                }
+                groups.add(key, cents);
+            }
+            return groups;
+        }).reduce(GroupTable::merge).orElseGet(GroupTable::new);
+
+        List<Group> result = new ArrayList<>(merged.size);
+        for (int g = 0; g < merged.keys.length; g++) {
+            if (!merged.used[g]) {
+                continue;
+            }
+            long key = merged.keys[g];
+            int deptCode = (int) (key & 0xFFFF) - 1;
+            int status = (int) ((key >>> 16) & 0x7) - 1;
+            int year = (int) ((key >>> 19) & 0x3FFF) - 1;
+            long bandIndex = (key >>> 33) - 1;
+            result.add(new Group(deptCode < 0 ? NO_DEPARTMENT : departmentIdByCode[deptCode], status, year,
+                    bandIndex < 0 ? NO_SALARY : bandIndex * band, merged.counts[g], merged.salaryCounts[g],
+                    merged.sums[g], merged.salaryCounts[g] == 0 ? NO_SALARY : merged.mins[g],
+                    merged.salaryCounts[g] == 0 ? NO_SALARY : merged.maxes[g]));
+        }
+        return result;
+    }
+
+    /**
+     * Applies {@code rules} to every row with a salary, first matching rule wins, and totals
+     * the raises. Chunks run in parallel like {@link #scan}; nothing is modified.
+     */
+    public RaisePreview previewRaises(RaiseRule[] rules) {
+        long[] departmentIds = departmentIdByCode.clone();
+        int rows = size;
+        int chunks = (rows + CHUNK - 1) / CHUNK;
+        return IntStream.range(0, chunks).parallel().mapToObj(chunk -> {
+            RaisePreview totals = new RaisePreview(departmentIds, rules.length);
+            int end = Math.min(rows, (chunk + 1) * CHUNK);
+            for (int i = chunk * CHUNK; i < end; i++) {
+                long cents = salaryCents[i];
+                if (ids[i] == 0 || cents == NO_SALARY) {
+                    continue;
+                }
+                int dept = departmentCodes[i];
+                int rule = RaiseRule.firstMatch(rules, departmentIds[dept], statuses[i], cents);
+                if (rule >= 0) {
+                    totals.add(rule, dept, cents, rules[rule].raiseCents(cents));
+                }
+            }
+            return totals;
+        }).reduce(RaisePreview::merge).orElseGet(() -> new RaisePreview(departmentIds, rules.length));
+    }
+
+    /** Civil year of an epoch day without allocating a LocalDate (H. Hinnant's algorithm). */
+    static int yearOfEpochDay(int epochDay) {
+        long z = epochDay + 719468L;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        long month = mp < 10 ? mp + 3 : mp - 9;
+        return (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+    }
+
+    /** Open-addressing accumulator table keyed by the packed group key; no boxing per row. */
+    private static final class GroupTable {
+        long[] keys = new long[64];
+        boolean[] used = new boolean[64];
+        long[] counts = new long[64];
+        long[] salaryCounts = new long[64];
+        long[] sums = new long[64];
+        long[] mins = new long[64];
+        long[] maxes = new long[64];
+        int size;
+
+        void add(long key, long cents) {
+            int g = slotOf(key);
+            counts[g]++;
+            if (cents != NO_SALARY) {
+                salaryCounts[g]++;
+                sums[g] += cents;
+                mins[g] = Math.min(mins[g], cents);
+                maxes[g] = Math.max(maxes[g], cents);
+            }
+        }
+
+        GroupTable merge(GroupTable other) {
+            for (int o = 0; o < other.keys.length; o++) {
+                if (other.used[o]) {
+                    int g = slotOf(other.keys[o]);
+                    counts[g] += other.counts[o];
+                    salaryCounts[g] += other.salaryCounts[o];
+                    sums[g] += other.sums[o];
+                    mins[g] = Math.min(mins[g], other.mins[o]);
+                    maxes[g] = Math.max(maxes[g], other.maxes[o]);
+                }
+            }
+            return this;
+        }
+
+        private int slotOf(long key) {
+            int mask = keys.length - 1;
+            int g = (int) (mix(key) & mask);
+            while (used[g]) {
+                if (keys[g] == key) {
+                    return g;
+                }
+                g = (g + 1) & mask;
+            }
+            if (size * 2 >= keys.length) {
+                grow();
+                return slotOf(key);
+            }
+            used[g] = true;
+            keys[g] = key;
+            mins[g] = Long.MAX_VALUE;
+            maxes[g] = Long.MIN_VALUE;
+            size++;
+            return g;
+        }
+
+        private void grow() {
+            GroupTable bigger = new GroupTable();
+            int capacity = keys.length * 2;
+            bigger.keys = new long[capacity];
+            bigger.used = new boolean[capacity];
+            bigger.counts = new long[capacity];
+            bigger.salaryCounts = new long[capacity];
+            bigger.sums = new long[capacity];
+            bigger.mins = new long[capacity];
+            bigger.maxes = new long[capacity];
+            bigger.merge(this);
+            keys = bigger.keys;
+            used = bigger.used;
+            counts = bigger.counts;
+            salaryCounts = bigger.salaryCounts;
+            sums = bigger.sums;
+            mins = bigger.mins;
+            maxes = bigger.maxes;
+            size = bigger.size;
+        }
+
+        private static long mix(long key) {
+            key *= 0x9E3779B97F4A7C15L;
+            return key ^ (key >>> 29);
+        }
+    }
+
+    private boolean[] departmentMask(Set<Long> departmentIds) {
+        if (departmentIds == null || departmentIds.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[departmentIdByCode.length];
+        for (Long id : departmentIds) {
+            Integer code = id == null || id == NO_DEPARTMENT ? Integer.valueOf(0) : departmentCodeById.get(id);
+            if (code != null) {
+                mask[code] = true;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean[] statusMask(Set<Integer> statuses) {
+        if (statuses == null || statuses.isEmpty()) {
+            return null;
+        }
+        boolean[] mask = new boolean[8];
+        for (int status : statuses) {
+            mask[status] = true;
+        }
+        return mask;
+    }
+
+    private int encodeDepartment(long departmentId) {
+        if (departmentId == NO_DEPARTMENT) {
+            return 0;
+        }
+        Integer code = departmentCodeById.get(departmentId);
+        if (code == null) {
+            if (departmentIdByCode.length == 0xFFFF) {
+                throw new IllegalStateException("Too many departments for the column dictionary");
+            }
+            code = departmentIdByCode.length;
+            departmentIdByCode = Arrays.copyOf(departmentIdByCode, code + 1);
+            departmentIdByCode[code] = departmentId;
+            departmentCodeById.put(departmentId, code);
+        }
+        return code;
+    }
+
+    private int nextSlot() {
+        if (size == ids.length) {
+            int capacity = size * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            salaryCents = Arrays.copyOf(salaryCents, capacity);
+            joiningDays = Arrays.copyOf(joiningDays, capacity);
+            departmentCodes = Arrays.copyOf(departmentCodes, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,72 @@
+package com.employeemanagement.analytics;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Primitive salary column keyed by employee id: salary in cents and department id per
+ * slot, with freed slots reused. Not thread-safe; callers guard access.
+ */
+public class SalaryColumn {
+
+    public static final long NO_DEPARTMENT = -1L;
+
+    private long[] cents = new long[1024];
+    private long[] departmentIds = new long[1024];
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    private int size;
+    private final Map<Long, Integer> slotByEmployeeId = new HashMap<>();
+
+    public void put(long employeeId, long departmentId, long salaryCents) {
+        Integer slot = slotByEmployeeId.get(employeeId);
+        if (slot == null) {
+            slot = freeCount > 0 ? freeSlots[--freeCount] : nextSlot();
+            slotByEmployeeId.put(employeeId, slot);
+        }
+        cents[slot] = salaryCents;
+        departmentIds[slot] = departmentId;
+    }
+
+    /**
+     * Removes the employee and returns its slot, or -1 when absent. The slot still holds the
+     * removed values until it is reused, so callers can read them back.
+     */
+    public int remove(long employeeId) {
+        Integer slot = slotByEmployeeId.remove(employeeId);
+        if (slot == null) {
+            return -1;
+        }
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+        }
+        freeSlots[freeCount++] = slot;
+        return slot;
+    }
+
+    public long centsAt(int slot) {
+        return cents[slot];
+    }
+
+    public long departmentAt(int slot) {
+        return departmentIds[slot];
+    }
+
+    public int count() {
+        return slotByEmployeeId.size();
+    }
+
+    public long footprintBytes() {
+        // two long[] columns plus a boxed HashMap entry (~48 bytes) per employee
+        return (long) cents.length * 16 + (long) slotByEmployeeId.size() * 48;
+    }
+
+    private int nextSlot() {
+        if (size == cents.length) {
+            cents = Arrays.copyOf(cents, size * 2);
+            departmentIds = Arrays.copyOf(departmentIds, size * 2);
+        }
+        return size++;
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeemanagement.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read-only service method whose concurrent identical calls (same method,
+ * arguments and caller roles) share one in-flight computation.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Coalesced {
+
+    /** How long a completed result is served as fresh. 0 = coalesce in-flight calls only. */
+    long ttlMillis() default 0;
+
+    /** How long after the TTL a stale result is still served while one caller refreshes it. */
+    long staleWhileRevalidateMillis() default 0;
+}
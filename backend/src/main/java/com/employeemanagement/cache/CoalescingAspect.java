@@ -0,0 +1,104 @@
+package com.employeemanagement.cache;
+
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.event.EntityChangedEvent;
+import com.employeemanagement.invalidation.RemoteChangeEvent;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import jakarta.annotation.PreDestroy;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Applies {@link Coalesced} to service methods. Ordered ahead of the transaction
+ * interceptor, so callers that wait for a shared computation never open a transaction
+ * or borrow a pooled connection; only the computing caller does.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 100)
+public class CoalescingAspect {
+
+    @Value("${app.coalescing.enabled:true}")
+    private boolean enabled;
+
+    private final AtomicInteger refreshThreads = new AtomicInteger();
+    private final ThreadPoolExecutor refreshExecutor = new ThreadPoolExecutor(1, 2,
+            30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(32), r -> {
+                Thread thread = new Thread(r, "coalescer-refresh-" + refreshThreads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.DiscardPolicy());
+    private final RequestCoalescer coalescer = new RequestCoalescer(refreshExecutor);
+
+    @Around("@annotation(coalesced)")
+    public Object coalesce(ProceedingJoinPoint joinPoint, Coalesced coalesced) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        RequestCoalescer.Result result = coalescer.execute(InvocationKey.of(joinPoint), coalesced.ttlMillis(),
+                coalesced.staleWhileRevalidateMillis(), () -> proceed(joinPoint));
+        if (result.outcome() != RequestCoalescer.Outcome.COMPUTED) {
+            ServiceCallEvent.start(joinPoint.getSignature().toShortString()).finish(0, true);
+        }
+        try {
+            return result.future().join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            throw cause instanceof UndeclaredThrowableException u ? u.getUndeclaredThrowable() : cause;
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent<?> event) {
+        coalescer.clear();
+    }
+
+    @TransactionalEventListener
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        coalescer.clear();
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        coalescer.clear();
+    }
+
+    public void invalidateAll() {
+        coalescer.clear();
+    }
+
+    public Map<String, Long> getStats() {
+        return Map.of("computed", coalescer.getComputed(), "shared", coalescer.getShared(),
+                "refreshFailures", coalescer.getRefreshFailures());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint) {
+        try {
+            return joinPoint.proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new UndeclaredThrowableException(t);
+        }
+    }
+}
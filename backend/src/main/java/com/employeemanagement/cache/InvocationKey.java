@@ -0,0 +1,28 @@
+package com.employeemanagement.cache;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * Identifies a service call by method, arguments and the caller's roles, so results
+ * shared between callers never cross a role boundary.
+ */
+public final class InvocationKey {
+
+    private InvocationKey() {
+    }
+
+    public static String of(ProceedingJoinPoint joinPoint) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        String roles = auth == null ? "" : auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+        return joinPoint.getSignature().toLongString() + Arrays.deepToString(joinPoint.getArgs()) + "|" + roles;
+    }
+}
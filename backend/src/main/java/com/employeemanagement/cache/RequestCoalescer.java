@@ -0,0 +1,122 @@
+package com.employeemanagement.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Single-flight execution keyed by string. The first caller for a key computes the
+ * value; callers arriving while it runs get the same future. Completed values can be
+ * kept for a TTL and then served stale while one background refresh runs.
+ */
+public class RequestCoalescer {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    public enum Outcome {
+        COMPUTED, JOINED, FRESH, STALE
+    }
+
+    public record Result(CompletableFuture<Object> future, Outcome outcome) {
+    }
+
+    private static class Entry {
+        private final CompletableFuture<Object> future = new CompletableFuture<>();
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile long completedAt;
+    }
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Executor refreshExecutor;
+    private final LongAdder computed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder refreshFailures = new LongAdder();
+
+    public RequestCoalescer(Executor refreshExecutor) {
+        this.refreshExecutor = refreshExecutor;
+    }
+
+    public Result execute(String key, long ttlMillis, long staleMillis, Supplier<Object> loader) {
+        while (true) {
+            Entry current = entries.get(key);
+            if (current != null) {
+                if (!current.future.isDone()) {
+                    shared.increment();
+                    return new Result(current.future, Outcome.JOINED);
+                }
+                if (!current.future.isCompletedExceptionally()) {
+                    long age = System.currentTimeMillis() - current.completedAt;
+                    if (age <= ttlMillis) {
+                        shared.increment();
+                        return new Result(current.future, Outcome.FRESH);
+                    }
+                    if (age <= ttlMillis + staleMillis) {
+                        if (current.refreshing.compareAndSet(false, true)) {
+                            refreshExecutor.execute(() -> refresh(key, current, loader));
+                        }
+                        shared.increment();
+                        return new Result(current.future, Outcome.STALE);
+                    }
+                }
+            }
+            Entry created = new Entry();
+            if (current == null ? entries.putIfAbsent(key, created) == null : entries.replace(key, current, created)) {
+                run(key, created, loader, ttlMillis + staleMillis > 0);
+                return new Result(created.future, Outcome.COMPUTED);
+            }
+        }
+    }
+
+    public void clear() {
+        entries.clear();
+    }
+
+    public long getComputed() {
+        return computed.sum();
+    }
+
+    public long getShared() {
+        return shared.sum();
+    }
+
+    public long getRefreshFailures() {
+        return refreshFailures.sum();
+    }
+
+    private void run(String key, Entry entry, Supplier<Object> loader, boolean retain) {
+        computed.increment();
+        try {
+            Object value = loader.get();
+            entry.completedAt = System.currentTimeMillis();
+            entry.future.complete(value);
+            if (!retain) {
+                entries.remove(key, entry);
+            }
+        } catch (Throwable t) {
+            entries.remove(key, entry);
+            entry.future.completeExceptionally(t);
+        }
+    }
+
+    private void refresh(String key, Entry stale, Supplier<Object> loader) {
+        Entry fresh = new Entry();
+        computed.increment();
+        try {
+            Object value = loader.get();
+            fresh.completedAt = System.currentTimeMillis();
+            fresh.future.complete(value);
+            entries.replace(key, stale, fresh);
+        } catch (Throwable t) {
+            // the stale value keeps being served until it expires; the next stale hit retries
+            refreshFailures.increment();
+            logger.warn("Background refresh of {} failed", key, t);
+            stale.refreshing.set(false);
+        }
+    }
+}
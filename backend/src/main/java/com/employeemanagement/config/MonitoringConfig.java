@@ -0,0 +1,15 @@
+package com.employeemanagement.config;
+
+import com.employeemanagement.monitoring.SqlInstrumentationPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+public class MonitoringConfig {
+
+    @Bean
+    static SqlInstrumentationPostProcessor sqlInstrumentationPostProcessor(Environment environment) {
+        return new SqlInstrumentationPostProcessor(environment);
+    }
+}
@@ -1,10 +1,15 @@
 package com.employeemanagement.config;
 
+import com.employeemanagement.admission.AdmissionControlFilter;
+import com.employeemanagement.idempotency.IdempotencyFilter;
+import com.employeemanagement.resilience.ResilienceAspect;
 import com.employeemanagement.security.AuthTokenFilter;
 import com.employeemanagement.security.UserDetailsServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -31,11 +36,19 @@ public class SecurityConfig {
     @Autowired
     private UserDetailsServiceImpl userDetailsService;
 
+    @Value("${app.outbox.stand-in-receiver.enabled:false}")
+    private boolean standInReceiverEnabled;
+
     @Bean
     public AuthTokenFilter authenticationJwtTokenFilter() {
         return new AuthTokenFilter();
     }
 
+    @Bean
+    public AdmissionControlFilter admissionControlFilter() {
+        return new AdmissionControlFilter();
+    }
+
     @Bean
     public DaoAuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
@@ -66,16 +79,22 @@ public class SecurityConfig {
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             )
-            .authorizeHttpRequests(auth -> auth
-                .requestMatchers("/auth/**").permitAll()
-                .requestMatchers("/uploads/**").permitAll()
-                .requestMatchers("/dashboard/**").hasAnyRole("ADMIN", "USER")
-                .requestMatchers("/employees/**").hasAnyRole("ADMIN", "USER")
-                .requestMatchers("/departments/**").hasAnyRole("ADMIN", "USER")
-                .anyRequest().authenticated()
-            );
+            .authorizeHttpRequests(auth -> {
+                if (standInReceiverEnabled) {
+                    // webhooks post without a login, as a real receiver would accept them
+                    auth.requestMatchers("/outbox-receiver/**").permitAll();
+                }
+                auth
+                    .requestMatchers("/auth/**").permitAll()
+                    .requestMatchers("/uploads/**").permitAll()
+                    .requestMatchers("/dashboard/**").hasAnyRole("ADMIN", "USER")
+                    .requestMatchers("/employees/**").hasAnyRole("ADMIN", "USER")
+                    .requestMatchers("/departments/**").hasAnyRole("ADMIN", "USER")
+                    .anyRequest().authenticated();
+            });
 
         http.authenticationProvider(authenticationProvider());
+        http.addFilterBefore(admissionControlFilter(), UsernamePasswordAuthenticationFilter.class);
         http.addFilterBefore(authenticationJwtTokenFilter(), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
@@ -87,6 +106,8 @@ public class SecurityConfig {
         configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:5173"));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        configuration.setExposedHeaders(List.of(IdempotencyFilter.REPLAYED_HEADER, ResilienceAspect.STALE_HEADER,
+                ResilienceAspect.AGE_HEADER, HttpHeaders.RETRY_AFTER));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
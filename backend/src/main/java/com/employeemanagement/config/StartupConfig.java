@@ -0,0 +1,34 @@
+package com.employeemanagement.config;
+
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.Arrays;
+import java.util.concurrent.ScheduledExecutorService;
+
+@Configuration
+public class StartupConfig {
+
+    /**
+     * With spring.main.lazy-initialization a bean is only created on first use, so its
+     * {@code @Scheduled} methods would never be registered, nor would beans that run their
+     * own {@link ScheduledExecutorService} start it. Keep those beans eager.
+     */
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> Arrays.stream(ReflectionUtils.getUniqueDeclaredMethods(beanType))
+                .anyMatch(method -> AnnotatedElementUtils.hasAnnotation(method, Scheduled.class))
+                || ownsScheduler(beanType);
+    }
+
+    private static boolean ownsScheduler(Class<?> beanType) {
+        boolean[] found = {false};
+        ReflectionUtils.doWithFields(beanType, field -> found[0] = true,
+                field -> ScheduledExecutorService.class.isAssignableFrom(field.getType()));
+        return found[0];
+    }
+}
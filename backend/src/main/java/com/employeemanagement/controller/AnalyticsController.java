@@ -0,0 +1,74 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.ColumnarQueryDTO;
+import com.employeemanagement.dto.ColumnarQueryResultDTO;
+import com.employeemanagement.dto.HeadcountPointDTO;
+import com.employeemanagement.dto.SalaryAnalyticsDTO;
+import com.employeemanagement.service.ColumnarAnalyticsService;
+import com.employeemanagement.service.HeadcountSnapshotService;
+import com.employeemanagement.service.HeadcountSnapshotService.Granularity;
+import com.employeemanagement.service.SalaryAnalyticsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/analytics")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AnalyticsController {
+
+    @Autowired
+    private HeadcountSnapshotService headcountSnapshotService;
+
+    @Autowired
+    private SalaryAnalyticsService salaryAnalyticsService;
+
+    @Autowired
+    private ColumnarAnalyticsService columnarAnalyticsService;
+
+    @GetMapping("/headcount")
+    public ResponseEntity<ApiResponse<List<HeadcountPointDTO>>> getHeadcountSeries(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") Granularity granularity,
+            @RequestParam(required = false) Long departmentId,
+            @RequestParam(defaultValue = "true") boolean byDepartment) {
+        return ResponseEntity.ok(ApiResponse.success("Headcount series",
+                headcountSnapshotService.getTimeSeries(from, to, granularity, departmentId, byDepartment)));
+    }
+
+    @PostMapping("/headcount/snapshot")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> takeSnapshot() {
+        return ResponseEntity.ok(ApiResponse.success("Snapshot written",
+                headcountSnapshotService.takeSnapshot(LocalDate.now())));
+    }
+
+    @PostMapping("/headcount/backfill")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Integer>> backfill(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean overwrite) {
+        return ResponseEntity.ok(ApiResponse.success("Backfill complete",
+                headcountSnapshotService.backfill(from, to, overwrite)));
+    }
+
+    @GetMapping("/salaries")
+    public ResponseEntity<ApiResponse<SalaryAnalyticsDTO>> getSalaryDistribution(
+            @RequestParam(defaultValue = "10") int buckets) {
+        return ResponseEntity.ok(ApiResponse.success("Salary distribution",
+                salaryAnalyticsService.getDistribution(buckets)));
+    }
+
+    @PostMapping("/query")
+    public ResponseEntity<ApiResponse<ColumnarQueryResultDTO>> query(@RequestBody ColumnarQueryDTO query) {
+        return ResponseEntity.ok(ApiResponse.success("Query result", columnarAnalyticsService.query(query)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.AuditLogDTO;
+import com.employeemanagement.dto.AuditMetricsDTO;
+import com.employeemanagement.service.AuditService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/audit")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class AuditController {
+
+    @Autowired
+    private AuditService auditService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<AuditLogDTO>>> search(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) Long entityId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Audit log fetched",
+                auditService.search(entityType, entityId, from, to, page, size)));
+    }
+
+    @GetMapping("/metrics")
+    public ResponseEntity<ApiResponse<AuditMetricsDTO>> getMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("Audit metrics", auditService.getMetrics()));
+    }
+}
@@ -1,19 +1,33 @@
 package com.employeemanagement.controller;
 
 import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.ColumnarPageDTO;
 import com.employeemanagement.dto.DashboardStatsDTO;
 import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.EmployeeFacetsDTO;
+import com.employeemanagement.dto.EmployeeSuggestionDTO;
+import com.employeemanagement.dto.FacetedPageDTO;
+import com.employeemanagement.dto.JobDTO;
+import com.employeemanagement.dto.SubtreeStatsDTO;
 import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.service.EmployeeArchiveService;
 import com.employeemanagement.service.EmployeeService;
+import com.employeemanagement.service.EmployeeSuggestService;
+import com.employeemanagement.service.OrgChartService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.*;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/employees")
 @CrossOrigin(origins = "*", maxAge = 3600)
@@ -22,18 +36,79 @@ public class EmployeeController {
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private OrgChartService orgChartService;
+
+    @Autowired
+    private EmployeeSuggestService employeeSuggestService;
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
     @GetMapping
-    public ResponseEntity<ApiResponse<Page<EmployeeDTO>>> getAllEmployees(
+    public ResponseEntity<ApiResponse<?>> getAllEmployees(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) Long departmentId,
-            @RequestParam(required = false) String status) {
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf,
+            @RequestParam(defaultValue = "false") boolean includeFacets,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "rows") String shape,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        boolean columnar = "columnar".equalsIgnoreCase(shape);
+        if (includeArchived) {
+            if (asOf != null || includeFacets || fields != null || columnar) {
+                return ResponseEntity.badRequest().body(ApiResponse.error(
+                        "includeArchived cannot be combined with asOf, includeFacets, fields or shape"));
+            }
+            return ResponseEntity.ok(ApiResponse.success("Employees fetched",
+                    employeeArchiveService.getEmployeesIncludingArchived(page, size, sortBy, sortDir, search,
+                            departmentId, status)));
+        }
+        if (fields != null || columnar) {
+            if (asOf != null) {
+                return ResponseEntity.badRequest().body(ApiResponse.error("fields and shape are not available for asOf queries"));
+            }
+            EmployeeFacetsDTO facets = includeFacets ? employeeService.getFacets(search, departmentId, status) : null;
+            if (columnar) {
+                ColumnarPageDTO result = employeeService.getEmployeeColumns(page, size, sortBy, sortDir, search,
+                        departmentId, status, fields);
+                result.setFacets(facets);
+                return ResponseEntity.ok(ApiResponse.success("Employees fetched", result));
+            }
+            FacetedPageDTO<Map<String, Object>> result = employeeService.getEmployeeRows(page, size, sortBy, sortDir,
+                    search, departmentId, status, fields);
+            result.setFacets(facets);
+            return ResponseEntity.ok(ApiResponse.success("Employees fetched", result));
+        }
+
         Page<EmployeeDTO> employees = employeeService.getAllEmployees(page, size, sortBy, sortDir, search, departmentId,
-                status);
-        return ResponseEntity.ok(ApiResponse.success("Employees fetched", employees));
+                status, asOf);
+        if (!includeFacets) {
+            return ResponseEntity.ok(ApiResponse.success("Employees fetched", employees));
+        }
+        if (asOf != null) {
+            return ResponseEntity.badRequest().body(ApiResponse.error("Facets are not available for asOf queries"));
+        }
+        FacetedPageDTO<EmployeeDTO> faceted = FacetedPageDTO.<EmployeeDTO>builder()
+                .content(employees.getContent())
+                .number(employees.getNumber())
+                .size(employees.getSize())
+                .totalElements(employees.getTotalElements())
+                .totalPages(employees.getTotalPages())
+                .facets(employeeService.getFacets(search, departmentId, status))
+                .build();
+        return ResponseEntity.ok(ApiResponse.success("Employees fetched", faceted));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<EmployeeSuggestionDTO>>> suggest(@RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(ApiResponse.success("Suggestions fetched", employeeSuggestService.suggest(q, limit)));
     }
 
     @GetMapping("/{id}")
@@ -72,6 +147,50 @@ public class EmployeeController {
                 employeeService.updateStatus(id, status)));
     }
 
+    @PatchMapping("/{id}/manager")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeDTO>> changeManager(@PathVariable Long id,
+            @RequestParam(required = false) Long managerId) {
+        return ResponseEntity.ok(ApiResponse.success("Manager updated",
+                employeeService.changeManager(id, managerId)));
+    }
+
+    /** Moves a previously archived employee back to the current employees, still INACTIVE. */
+    @PostMapping("/{id}/restore")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<EmployeeDTO>> restoreEmployee(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Employee restored", employeeArchiveService.restore(id)));
+    }
+
+    /** Starts an archival run now instead of waiting for app.archive.cron. */
+    @PostMapping("/archive/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<JobDTO>> runArchival() {
+        return ResponseEntity.accepted().body(ApiResponse.success("Archival job submitted",
+                employeeArchiveService.requestArchival()));
+    }
+
+    @GetMapping("/{id}/reports")
+    public ResponseEntity<ApiResponse<Page<EmployeeDTO>>> getReports(@PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean directOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Reports fetched",
+                orgChartService.getReports(id, directOnly, page, size)));
+    }
+
+    @GetMapping("/{id}/chain")
+    public ResponseEntity<ApiResponse<List<EmployeeDTO>>> getChainOfCommand(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Chain of command fetched",
+                orgChartService.getChainOfCommand(id)));
+    }
+
+    @GetMapping("/{id}/subtree-stats")
+    public ResponseEntity<ApiResponse<SubtreeStatsDTO>> getSubtreeStats(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Subtree stats fetched",
+                orgChartService.getSubtreeStats(id)));
+    }
+
     @PostMapping("/{id}/upload-image")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<ApiResponse<String>> uploadProfileImage(@PathVariable Long id,
@@ -85,7 +204,8 @@ public class EmployeeController {
     }
 
     @GetMapping("/dashboard/stats")
-    public ResponseEntity<ApiResponse<DashboardStatsDTO>> getDashboardStats() {
-        return ResponseEntity.ok(ApiResponse.success("Dashboard stats", employeeService.getDashboardStats()));
+    public ResponseEntity<ApiResponse<DashboardStatsDTO>> getDashboardStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(ApiResponse.success("Dashboard stats", employeeService.getDashboardStats(asOf)));
     }
 }
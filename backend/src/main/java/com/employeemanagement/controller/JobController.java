@@ -0,0 +1,66 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.JobDTO;
+import com.employeemanagement.dto.JobRequestDTO;
+import com.employeemanagement.service.JobService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+@RestController
+@RequestMapping("/jobs")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class JobController {
+
+    @Autowired
+    private JobService jobService;
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<JobDTO>> submitJob(@Valid @RequestBody JobRequestDTO request) {
+        return ResponseEntity.accepted().body(ApiResponse.success("Job submitted", jobService.submit(request)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Page<JobDTO>>> getJobs(
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Jobs fetched", jobService.getJobs(status, page, size)));
+    }
+
+    @GetMapping("/types")
+    public ResponseEntity<ApiResponse<Set<String>>> getJobTypes() {
+        return ResponseEntity.ok(ApiResponse.success("Job types fetched", jobService.getTypes()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<JobDTO>> getJob(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Job fetched", jobService.getJob(id)));
+    }
+
+    @PostMapping("/{id}/cancel")
+    public ResponseEntity<ApiResponse<JobDTO>> cancelJob(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Cancellation requested", jobService.cancel(id)));
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadJobFile(@PathVariable Long id) {
+        Path file = jobService.getResultFile(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
+}
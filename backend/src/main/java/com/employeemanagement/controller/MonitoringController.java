@@ -0,0 +1,155 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.admission.AdmissionControlFilter;
+import com.employeemanagement.cache.CoalescingAspect;
+import com.employeemanagement.dto.AdmissionStatsDTO;
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.HandlerSqlStatsDTO;
+import com.employeemanagement.dto.OutboxDeadLetterDTO;
+import com.employeemanagement.idempotency.IdempotencyFilter;
+import com.employeemanagement.invalidation.InvalidationBus;
+import com.employeemanagement.job.JobRunner;
+import com.employeemanagement.monitoring.SqlMetricsRegistry;
+import com.employeemanagement.outbox.OutboxDispatcher;
+import com.employeemanagement.resilience.ResilienceAspect;
+import com.employeemanagement.service.EmployeeArchiveService;
+import com.employeemanagement.service.EmployeeListViewService;
+import com.employeemanagement.service.EmployeeSuggestService;
+import com.employeemanagement.service.OutboxService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/admin")
+@PreAuthorize("hasRole('ADMIN')")
+public class MonitoringController {
+
+    @Autowired
+    private SqlMetricsRegistry sqlMetricsRegistry;
+
+    @Autowired
+    private CoalescingAspect coalescingAspect;
+
+    @Autowired
+    private AdmissionControlFilter admissionControlFilter;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private EmployeeSuggestService employeeSuggestService;
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private EmployeeArchiveService employeeArchiveService;
+
+    @Autowired
+    private EmployeeListViewService employeeListViewService;
+
+    @Autowired
+    private IdempotencyFilter idempotencyFilter;
+
+    @Autowired
+    private ResilienceAspect resilienceAspect;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @GetMapping("/sql-stats")
+    public ResponseEntity<ApiResponse<List<HandlerSqlStatsDTO>>> getSqlStats() {
+        return ResponseEntity.ok(ApiResponse.success("SQL stats per handler", sqlMetricsRegistry.snapshot()));
+    }
+
+    @DeleteMapping("/sql-stats")
+    public ResponseEntity<ApiResponse<Void>> resetSqlStats() {
+        sqlMetricsRegistry.reset();
+        return ResponseEntity.ok(ApiResponse.success("SQL stats reset", null));
+    }
+
+    @GetMapping("/coalescing")
+    public ResponseEntity<ApiResponse<Map<String, Long>>> getCoalescingStats() {
+        return ResponseEntity.ok(ApiResponse.success("Coalescing stats", coalescingAspect.getStats()));
+    }
+
+    @GetMapping("/admission")
+    public ResponseEntity<ApiResponse<List<AdmissionStatsDTO>>> getAdmissionStats() {
+        return ResponseEntity.ok(ApiResponse.success("Admission control stats", admissionControlFilter.getStats()));
+    }
+
+    @GetMapping("/invalidation")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getInvalidationStats() {
+        return ResponseEntity.ok(ApiResponse.success("Invalidation bus stats", invalidationBus.getStats()));
+    }
+
+    @GetMapping("/suggest-index")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getSuggestIndexStats() {
+        return ResponseEntity.ok(ApiResponse.success("Suggest index stats", employeeSuggestService.getStats()));
+    }
+
+    @PostMapping("/suggest-index/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildSuggestIndex() {
+        employeeSuggestService.load();
+        return ResponseEntity.ok(ApiResponse.success("Suggest index rebuilt", employeeSuggestService.getStats()));
+    }
+
+    @GetMapping("/jobs")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getJobRunnerStats() {
+        return ResponseEntity.ok(ApiResponse.success("Job runner stats", jobRunner.getStats()));
+    }
+
+    @GetMapping("/archive")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getArchiveStats() {
+        return ResponseEntity.ok(ApiResponse.success("Archive stats", employeeArchiveService.getStats()));
+    }
+
+    @GetMapping("/list-view")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getListViewStats() {
+        return ResponseEntity.ok(ApiResponse.success("Employee list view stats", employeeListViewService.getStats()));
+    }
+
+    @PostMapping("/list-view/rebuild")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> rebuildListView() {
+        return ResponseEntity.ok(ApiResponse.success("Employee list view rebuilt", employeeListViewService.rebuild()));
+    }
+
+    @GetMapping("/idempotency")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getIdempotencyStats() {
+        return ResponseEntity.ok(ApiResponse.success("Idempotency stats", idempotencyFilter.getStats()));
+    }
+
+    @GetMapping("/circuit-breaker")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getCircuitBreakerStats() {
+        return ResponseEntity.ok(ApiResponse.success("Database circuit breaker stats", resilienceAspect.getStats()));
+    }
+
+    @GetMapping("/outbox")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getOutboxStats() {
+        return ResponseEntity.ok(ApiResponse.success("Outbox stats", outboxDispatcher.getStats()));
+    }
+
+    @GetMapping("/outbox/dead-letters")
+    public ResponseEntity<ApiResponse<Page<OutboxDeadLetterDTO>>> getOutboxDeadLetters(
+            @RequestParam(required = false) String webhook,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Outbox dead letters fetched",
+                outboxService.getDeadLetters(webhook, page, size)));
+    }
+
+    @PostMapping("/outbox/dead-letters/retry")
+    public ResponseEntity<ApiResponse<Integer>> retryOutboxDeadLetters(@RequestParam String webhook) {
+        return ResponseEntity.ok(ApiResponse.success("Outbox dead letter retry requested",
+                outboxService.requestRetry(webhook)));
+    }
+}
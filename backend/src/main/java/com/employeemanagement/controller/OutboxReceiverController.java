@@ -0,0 +1,91 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Stand-in webhook receiver for trying the outbox without a downstream system: point a
+ * webhook at {@code /api/outbox-receiver/<name>}. Counts duplicates (an event id seen
+ * before) and order violations (an aggregate's event older than one already received), and
+ * fails a share of requests with 503 when {@code failure-rate} is set.
+ */
+@RestController
+@RequestMapping("/outbox-receiver")
+@ConditionalOnProperty(name = "app.outbox.stand-in-receiver.enabled", havingValue = "true")
+public class OutboxReceiverController {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.outbox.stand-in-receiver.failure-rate:0}")
+    private double failureRate;
+
+    private final Set<Long> seenIds = ConcurrentHashMap.newKeySet();
+    private final Map<String, Long> lastIdByAggregate = new ConcurrentHashMap<>();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder events = new LongAdder();
+    private final LongAdder duplicates = new LongAdder();
+    private final LongAdder outOfOrder = new LongAdder();
+    private final LongAdder injectedFailures = new LongAdder();
+
+    @PostMapping("/{webhook}")
+    public ResponseEntity<Void> receive(@PathVariable String webhook,
+                                        @RequestHeader(value = "Content-Encoding", required = false) String encoding,
+                                        @RequestBody byte[] body) throws IOException {
+        if (failureRate > 0 && ThreadLocalRandom.current().nextDouble() < failureRate) {
+            injectedFailures.increment();
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        JsonNode batch;
+        try (InputStream in = "gzip".equalsIgnoreCase(encoding)
+                ? new GZIPInputStream(new ByteArrayInputStream(body)) : new ByteArrayInputStream(body)) {
+            batch = objectMapper.readTree(in);
+        }
+        batches.increment();
+        for (JsonNode event : batch.path("events")) {
+            long id = event.path("id").asLong();
+            events.increment();
+            if (!seenIds.add(id)) {
+                duplicates.increment();
+                continue;
+            }
+            String aggregate = webhook + ":" + event.path("aggregateType").asText() + ":"
+                    + event.path("aggregateId").asLong();
+            Long previous = lastIdByAggregate.merge(aggregate, id, Math::max);
+            if (previous != id) {
+                outOfOrder.increment();
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("batches", batches.sum());
+        stats.put("events", events.sum());
+        stats.put("uniqueEvents", seenIds.size());
+        stats.put("duplicates", duplicates.sum());
+        stats.put("outOfOrder", outOfOrder.sum());
+        stats.put("injectedFailures", injectedFailures.sum());
+        return ResponseEntity.ok(ApiResponse.success("Stand-in receiver stats", stats));
+    }
+}
@@ -0,0 +1,58 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.RecordingDTO;
+import com.employeemanagement.service.ProfilingService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/profiling/recordings")
+@PreAuthorize("hasRole('ADMIN')")
+public class ProfilingController {
+
+    @Autowired
+    private ProfilingService profilingService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<RecordingDTO>>> listRecordings() {
+        return ResponseEntity.ok(ApiResponse.success("Recordings fetched", profilingService.list()));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<RecordingDTO>> startRecording(
+            @RequestParam(defaultValue = "60") long durationSeconds,
+            @RequestParam(defaultValue = "profile") String settings) {
+        return ResponseEntity.ok(ApiResponse.success("Recording started",
+                profilingService.start(durationSeconds, settings)));
+    }
+
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<ApiResponse<RecordingDTO>> stopRecording(@PathVariable long id) {
+        return ResponseEntity.ok(ApiResponse.success("Recording stopped", profilingService.stop(id)));
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+        Path file = profilingService.getFile(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(new FileSystemResource(file));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<ApiResponse<Void>> deleteRecording(@PathVariable long id) {
+        profilingService.delete(id);
+        return ResponseEntity.ok(ApiResponse.success("Recording deleted", null));
+    }
+}
@@ -0,0 +1,57 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.ReportDTO;
+import com.employeemanagement.service.PayrollReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.YearMonth;
+import java.util.List;
+
+@RestController
+@RequestMapping("/reports")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class ReportController {
+
+    private static final MediaType XLSX =
+            MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    @Autowired
+    private PayrollReportService payrollReportService;
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<ReportDTO>>> getReports() {
+        return ResponseEntity.ok(ApiResponse.success("Reports fetched", payrollReportService.getReports()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<ReportDTO>> getReport(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Report fetched", payrollReportService.getReport(id)));
+    }
+
+    /** Queues (re)generation of a month's payroll report, e.g. {@code ?month=2026-09}; defaults to last month. */
+    @PostMapping("/payroll")
+    public ResponseEntity<ApiResponse<ReportDTO>> requestPayroll(@RequestParam(required = false) YearMonth month) {
+        YearMonth period = month != null ? month : YearMonth.now().minusMonths(1);
+        return ResponseEntity.accepted().body(ApiResponse.success("Report generation queued",
+                payrollReportService.requestPayroll(period)));
+    }
+
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadReport(@PathVariable Long id) {
+        Path file = payrollReportService.getFile(id);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .contentType(XLSX)
+                .body(new FileSystemResource(file));
+    }
+}
@@ -0,0 +1,72 @@
+package com.employeemanagement.controller;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.SalaryRevisionDTO;
+import com.employeemanagement.dto.SalaryRevisionItemDTO;
+import com.employeemanagement.dto.SalaryRevisionPreviewDTO;
+import com.employeemanagement.dto.SalaryRevisionRequestDTO;
+import com.employeemanagement.service.SalaryRevisionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/salary-revisions")
+@CrossOrigin(origins = "*", maxAge = 3600)
+@PreAuthorize("hasRole('ADMIN')")
+public class SalaryRevisionController {
+
+    @Autowired
+    private SalaryRevisionService salaryRevisionService;
+
+    /** Impact of the rules on current salaries, per rule and per department; nothing is stored. */
+    @PostMapping("/preview")
+    public ResponseEntity<ApiResponse<SalaryRevisionPreviewDTO>> preview(
+            @Valid @RequestBody SalaryRevisionRequestDTO request) {
+        return ResponseEntity.ok(ApiResponse.success("Salary revision previewed", salaryRevisionService.preview(request)));
+    }
+
+    @PostMapping
+    public ResponseEntity<ApiResponse<SalaryRevisionDTO>> createRevision(
+            @Valid @RequestBody SalaryRevisionRequestDTO request) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResponse.success("Salary revision created", salaryRevisionService.create(request)));
+    }
+
+    @GetMapping
+    public ResponseEntity<ApiResponse<List<SalaryRevisionDTO>>> getRevisions() {
+        return ResponseEntity.ok(ApiResponse.success("Salary revisions fetched", salaryRevisionService.getRevisions()));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ApiResponse<SalaryRevisionDTO>> getRevision(@PathVariable Long id) {
+        return ResponseEntity.ok(ApiResponse.success("Salary revision fetched", salaryRevisionService.getRevision(id)));
+    }
+
+    @GetMapping("/{id}/items")
+    public ResponseEntity<ApiResponse<Page<SalaryRevisionItemDTO>>> getItems(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(ApiResponse.success("Salary revision items fetched",
+                salaryRevisionService.getItems(id, page, Math.min(size, 500))));
+    }
+
+    @PostMapping("/{id}/apply")
+    public ResponseEntity<ApiResponse<SalaryRevisionDTO>> applyRevision(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(ApiResponse.success("Salary revision queued",
+                salaryRevisionService.apply(id)));
+    }
+
+    @PostMapping("/{id}/rollback")
+    public ResponseEntity<ApiResponse<SalaryRevisionDTO>> rollbackRevision(@PathVariable Long id) {
+        return ResponseEntity.accepted().body(ApiResponse.success("Salary revision rollback queued",
+                salaryRevisionService.rollback(id)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.employeemanagement.controller;
 
 import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.dto.KeysetPageDTO;
 import com.employeemanagement.dto.UserDTO;
 import com.employeemanagement.service.UserService;
 import jakarta.validation.Valid;
@@ -10,8 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/users")
 @PreAuthorize("hasRole('ADMIN')")
@@ -21,8 +20,15 @@ public class UserController {
     private UserService userService;
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<UserDTO>>> getAllUsers() {
-        return ResponseEntity.ok(ApiResponse.success("Users fetched", userService.getAllUsers()));
+    public ResponseEntity<ApiResponse<KeysetPageDTO<UserDTO>>> getUsers(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String role,
+            @RequestParam(defaultValue = "username") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String after) {
+        return ResponseEntity.ok(ApiResponse.success("Users fetched",
+                userService.getUsers(search, role, sortBy, sortDir, size, after)));
     }
 
     @GetMapping("/{id}")
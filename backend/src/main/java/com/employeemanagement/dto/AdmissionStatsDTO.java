@@ -0,0 +1,19 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AdmissionStatsDTO {
+    private String endpointClass;
+    private int limit;
+    private int inFlight;
+    private long accepted;
+    private long rejected;
+    private long targetLatencyMs;
+}
@@ -0,0 +1,23 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditLogDTO {
+    private Long id;
+    private String entityType;
+    private Long entityId;
+    private String action;
+    private String principal;
+    private Map<String, Object> changes;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,21 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditMetricsDTO {
+    private int bufferCapacity;
+    private int bufferDepth;
+    private long enqueued;
+    private long dropped;
+    private long written;
+    private long failed;
+    private long batches;
+    private long lastFlushMillis;
+}
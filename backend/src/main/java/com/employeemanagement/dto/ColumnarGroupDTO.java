@@ -0,0 +1,25 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ColumnarGroupDTO {
+    private Long departmentId;
+    private String departmentName;
+    private String status;
+    private Integer joiningYear;
+    private BigDecimal salaryBandStart;
+    private long count;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+}
@@ -0,0 +1,28 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page in columnar shape: {@code columns.get(i)} holds the values of {@code fields.get(i)}
+ * for every row, so each field name is sent once per page instead of once per row.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ColumnarPageDTO {
+    private List<String> fields;
+    private List<List<Object>> columns;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private EmployeeFacetsDTO facets;
+}
@@ -0,0 +1,27 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ColumnarQueryDTO {
+    private List<Long> departmentIds;
+    private List<String> statuses;
+    private LocalDate joinedFrom;
+    private LocalDate joinedTo;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    /** Any of DEPARTMENT, STATUS, JOINING_YEAR, SALARY_BAND. */
+    private List<String> groupBy;
+    @Builder.Default
+    private BigDecimal salaryBand = BigDecimal.valueOf(10000);
+}
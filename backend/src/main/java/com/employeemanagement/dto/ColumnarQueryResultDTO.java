@@ -0,0 +1,21 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ColumnarQueryResultDTO {
+    private List<ColumnarGroupDTO> groups;
+    private long rowsScanned;
+    private long elapsedMicros;
+    private long rowsPerSecond;
+    private long footprintBytes;
+    private double bytesPerRow;
+}
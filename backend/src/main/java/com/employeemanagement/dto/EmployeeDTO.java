@@ -1,6 +1,7 @@
 package com.employeemanagement.dto;
 
 import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -38,6 +39,9 @@ public class EmployeeDTO {
     private Long departmentId;
     private String departmentName;
 
+    private Long managerId;
+    private String managerName;
+
     @DecimalMin(value = "0.0", message = "Salary must be positive")
     private BigDecimal salary;
 
@@ -48,4 +52,8 @@ public class EmployeeDTO {
     private String profileImage;
 
     private String address;
+
+    /** Only set on listings with includeArchived. */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean archived;
 }
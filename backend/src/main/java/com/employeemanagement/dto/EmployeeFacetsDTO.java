@@ -0,0 +1,23 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Facet counts for an employee search. Each facet ignores its own filter and applies the
+ * others, so the department counts say how many results each department would give with
+ * the current search and status.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeFacetsDTO {
+    private List<FacetCountDTO> departments;
+    private List<FacetCountDTO> statuses;
+    private List<FacetCountDTO> joiningYears;
+}
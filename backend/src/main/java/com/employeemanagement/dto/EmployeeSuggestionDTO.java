@@ -0,0 +1,18 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeSuggestionDTO {
+    private Long id;
+    private String employeeId;
+    private String fullName;
+    private String email;
+    private String departmentName;
+}
@@ -0,0 +1,24 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** A page with the same content/number/size/total fields as a serialized Page, plus facets. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FacetedPageDTO<T> {
+    private List<T> content;
+    private int number;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private EmployeeFacetsDTO facets;
+}
@@ -0,0 +1,22 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HandlerSqlStatsDTO {
+    private String handler;
+    private long requests;
+    private long statements;
+    private double avgStatements;
+    private long maxStatements;
+    private long rows;
+    private double dbTimeMs;
+    private double avgDbTimeMs;
+    private long overBudget;
+}
@@ -0,0 +1,22 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeadcountPointDTO {
+    private LocalDate date;
+    private Long departmentId;
+    private String departmentName;
+    private long totalEmployees;
+    private long activeEmployees;
+    private long inactiveEmployees;
+    private double averageSalary;
+}
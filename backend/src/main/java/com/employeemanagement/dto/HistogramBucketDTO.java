@@ -0,0 +1,18 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HistogramBucketDTO {
+    private BigDecimal lowerBound;
+    private BigDecimal upperBound;
+    private long count;
+}
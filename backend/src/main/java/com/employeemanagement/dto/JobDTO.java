@@ -0,0 +1,35 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.entity.Job.JobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobDTO {
+    private Long id;
+    private String type;
+    private JobStatus status;
+    private JobPriority priority;
+    private Object params;
+    /** Partial while the job runs. */
+    private Object result;
+    private String error;
+    private long processed;
+    private Long total;
+    private Double percentComplete;
+    private int attempts;
+    private boolean cancelRequested;
+    private String submittedBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime heartbeatAt;
+    private LocalDateTime finishedAt;
+}
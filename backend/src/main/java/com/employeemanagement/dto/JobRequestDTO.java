@@ -0,0 +1,23 @@
+package com.employeemanagement.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobRequestDTO {
+    @NotBlank(message = "Job type is required")
+    private String type;
+
+    /** HIGH, NORMAL or LOW; defaults to the handler's priority. */
+    private String priority;
+
+    private Map<String, Object> params;
+}
@@ -0,0 +1,26 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page fetched after a cursor instead of at an offset. Pass {@code nextCursor} back as
+ * {@code after} for the following page; it is null on the last page. {@code totalElements}
+ * is only counted for the first page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KeysetPageDTO<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+}
@@ -0,0 +1,26 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.event.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxDeadLetterDTO {
+    private Long id;
+    private String webhook;
+    private Long eventId;
+    private String aggregateType;
+    private Long aggregateId;
+    private ChangeType changeType;
+    private LocalDateTime eventCreatedAt;
+    private String error;
+    private boolean retryRequested;
+    private LocalDateTime createdAt;
+}
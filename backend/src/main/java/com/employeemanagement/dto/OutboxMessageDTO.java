@@ -0,0 +1,28 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.event.ChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One event as delivered to a webhook. {@code id} increases with every event, so receivers
+ * can drop duplicates (delivery is at least once) and check per-aggregate order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxMessageDTO {
+    private Long id;
+    private String aggregateType;
+    private Long aggregateId;
+    private ChangeType changeType;
+    private LocalDateTime occurredAt;
+    @JsonRawValue
+    private String data;
+}
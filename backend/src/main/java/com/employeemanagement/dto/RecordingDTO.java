@@ -0,0 +1,22 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecordingDTO {
+    private long id;
+    private String name;
+    private String state;
+    private String settings;
+    private Instant startTime;
+    private long durationSeconds;
+    private long sizeBytes;
+}
@@ -0,0 +1,33 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.Report.ReportStatus;
+import com.employeemanagement.entity.Report.ReportType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReportDTO {
+    private Long id;
+    private ReportType type;
+    private LocalDate periodStart;
+    private LocalDate periodEnd;
+    private ReportStatus status;
+    private Long jobId;
+    /** A previously generated file stays downloadable while a regeneration is pending. */
+    private boolean downloadable;
+    private Long sizeBytes;
+    private Long employeesScanned;
+    private Object summary;
+    private String error;
+    private String requestedBy;
+    private LocalDateTime requestedAt;
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,19 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryAnalyticsDTO {
+    private double relativeAccuracy;
+    private SalaryDistributionDTO company;
+    private List<SalaryDistributionDTO> departments;
+    private long columnFootprintBytes;
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryDistributionDTO {
+    private Long departmentId;
+    private String departmentName;
+    private long count;
+    private BigDecimal min;
+    private BigDecimal max;
+    private BigDecimal median;
+    private BigDecimal p90;
+    private BigDecimal p99;
+    private List<HistogramBucketDTO> histogram;
+}
@@ -0,0 +1,38 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.SalaryRevision.RevisionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionDTO {
+    private Long id;
+    private String name;
+    private List<SalaryRevisionRuleDTO> rules;
+    private RevisionStatus status;
+    private Long jobId;
+    /** Totals previewed at creation. */
+    private SalaryRevisionPreviewDTO preview;
+    /** Applied totals, from the revision's items. */
+    private Long employeesAffected;
+    private BigDecimal totalBefore;
+    private BigDecimal totalIncrease;
+    private Long rolledBack;
+    private Long rollbackSkipped;
+    private String error;
+    private String createdBy;
+    private LocalDateTime createdAt;
+    private String appliedBy;
+    private LocalDateTime appliedAt;
+    private String rolledBackBy;
+    private LocalDateTime rolledBackAt;
+}
@@ -0,0 +1,27 @@
+package com.employeemanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/** Preview line for one rule or one department. */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalaryRevisionImpactDTO {
+    private Integer ruleIndex;
+    private Long departmentId;
+    private String departmentName;
+    private long employees;
+    private BigDecimal currentTotal;
+    private BigDecimal increase;
+    private BigDecimal newTotal;
+    private BigDecimal increasePercent;
+    private BigDecimal maxIncrease;
+}
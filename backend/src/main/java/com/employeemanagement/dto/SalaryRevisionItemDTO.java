@@ -0,0 +1,24 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionItemDTO {
+    /** The employee's id; code and name are null once the employee is deleted or archived. */
+    private Long id;
+    private String employeeId;
+    private String fullName;
+    private int ruleIndex;
+    private BigDecimal oldSalary;
+    private BigDecimal newSalary;
+    private BigDecimal increase;
+    private boolean rolledBack;
+}
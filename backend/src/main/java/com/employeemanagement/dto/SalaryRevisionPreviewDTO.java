@@ -0,0 +1,25 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionPreviewDTO {
+    private long employeesAffected;
+    private BigDecimal currentTotal;
+    private BigDecimal increase;
+    private BigDecimal newTotal;
+    private BigDecimal increasePercent;
+    private List<SalaryRevisionImpactDTO> rules;
+    private List<SalaryRevisionImpactDTO> departments;
+    private long rowsScanned;
+    private long elapsedMicros;
+}
@@ -0,0 +1,26 @@
+package com.employeemanagement.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionRequestDTO {
+    @Size(max = 100, message = "Name must not exceed 100 characters")
+    private String name;
+
+    /** Tried in order; the first rule matching an employee sets the raise. */
+    @NotEmpty(message = "At least one rule is required")
+    @Size(max = 50, message = "At most 50 rules")
+    @Valid
+    private List<SalaryRevisionRuleDTO> rules;
+}
@@ -0,0 +1,26 @@
+package com.employeemanagement.dto;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Filters are ANDed; null matches any department, status or salary. The raise is
+ * {@code percent} of the current salary (at most two decimals) plus a flat {@code amount}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionRuleDTO {
+    private Long departmentId;
+    private EmployeeStatus status;
+    private BigDecimal minSalary;
+    private BigDecimal maxSalary;
+    private BigDecimal percent;
+    private BigDecimal amount;
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SubtreeStatsDTO {
+    private Long managerId;
+    private String managerName;
+    private long directReports;
+    private long totalReports;
+    private long activeReports;
+    private int depth;
+    private BigDecimal totalSalary;
+    private BigDecimal averageSalary;
+    private Map<String, Long> headcountByDepartment;
+}
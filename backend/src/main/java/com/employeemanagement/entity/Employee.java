@@ -37,6 +37,12 @@ public class Employee {
     @JoinColumn(name = "department_id")
     private Department department;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "manager_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Employee manager;
+
     @Column(name = "salary", precision = 12, scale = 2)
     private BigDecimal salary;
 
@@ -0,0 +1,70 @@
+package com.employeemanagement.entity;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * An employee moved out of {@code employees} by archival, under the same id. Department
+ * and manager are plain ids: the referenced rows may be gone by the time of a restore.
+ */
+@Entity
+@Table(name = "employees_archive")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeArchive {
+
+    @Id
+    private Long id;
+
+    @Column(name = "employee_id", unique = true, nullable = false, length = 20)
+    private String employeeId;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(name = "email", unique = true, nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "phone", length = 15)
+    private String phone;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "salary", precision = 12, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "joining_date")
+    private LocalDate joiningDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private EmployeeStatus status;
+
+    @Column(name = "profile_image")
+    private String profileImage;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
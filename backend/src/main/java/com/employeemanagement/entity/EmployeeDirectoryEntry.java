@@ -0,0 +1,78 @@
+package com.employeemanagement.entity;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only row of the {@code employee_directory} view: hot and archived employees
+ * together. Mapped through a subselect so schema validation does not compare the
+ * UNION's derived column types against the tables'.
+ */
+@Entity
+@Immutable
+@Subselect("SELECT * FROM employee_directory")
+@Synchronize({"employees", "employees_archive"})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeDirectoryEntry {
+
+    @Id
+    private Long id;
+
+    @Column(name = "employee_id")
+    private String employeeId;
+
+    @Column(name = "first_name")
+    private String firstName;
+
+    @Column(name = "last_name")
+    private String lastName;
+
+    @Column(name = "email")
+    private String email;
+
+    @Column(name = "phone")
+    private String phone;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "salary")
+    private BigDecimal salary;
+
+    @Column(name = "joining_date")
+    private LocalDate joiningDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status")
+    private EmployeeStatus status;
+
+    @Column(name = "profile_image")
+    private String profileImage;
+
+    @Column(name = "address")
+    private String address;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    /** Null while the employee is in the hot table. */
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+}
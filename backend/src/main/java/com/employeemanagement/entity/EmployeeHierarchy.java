@@ -0,0 +1,39 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+
+/**
+ * Closure table for the manager hierarchy: one row per (ancestor, descendant) pair,
+ * including each employee with itself at depth 0. Maintained by OrgChartService.
+ */
+@Entity
+@Table(name = "employee_hierarchy", indexes = {
+        @Index(name = "idx_employee_hierarchy_descendant", columnList = "descendant_id, depth")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeHierarchy {
+
+    @EmbeddedId
+    private Key id;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "ancestor_id")
+        private Long ancestorId;
+
+        @Column(name = "descendant_id")
+        private Long descendantId;
+    }
+}
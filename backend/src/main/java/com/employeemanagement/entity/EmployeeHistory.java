@@ -0,0 +1,72 @@
+package com.employeemanagement.entity;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * One version of an employee. A version is valid over [validFrom, validTo); the current
+ * version has validTo = {@link #OPEN_END}, so as-of lookups are plain range predicates.
+ * recordedAt is when the row was written (transaction time).
+ */
+@Entity
+@Table(name = "employee_history", indexes = {
+        @Index(name = "idx_employee_history_entity", columnList = "entity_id, valid_to"),
+        @Index(name = "idx_employee_history_valid", columnList = "valid_to, valid_from"),
+        @Index(name = "idx_employee_history_dept_status", columnList = "department_id, status, valid_to")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeHistory {
+
+    public static final LocalDateTime OPEN_END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "employee_id", nullable = false, length = 20)
+    private String employeeId;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(name = "email", nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "salary", precision = 12, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "joining_date")
+    private LocalDate joiningDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private EmployeeStatus status;
+
+    @Column(name = "valid_from", nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(name = "valid_to", nullable = false)
+    private LocalDateTime validTo;
+
+    @Column(name = "recorded_at", nullable = false)
+    private LocalDateTime recordedAt;
+}
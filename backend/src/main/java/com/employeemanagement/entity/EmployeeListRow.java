@@ -0,0 +1,66 @@
+package com.employeemanagement.entity;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/** Denormalized employee list row; see {@code EmployeeListViewService}. Id is the employee's id. */
+@Entity
+@Table(name = "employee_list_view")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeListRow {
+
+    @Id
+    private Long id;
+
+    @Column(name = "employee_id", nullable = false, length = 20)
+    private String employeeId;
+
+    @Column(name = "first_name", nullable = false, length = 50)
+    private String firstName;
+
+    @Column(name = "last_name", nullable = false, length = 50)
+    private String lastName;
+
+    @Column(name = "email", nullable = false, length = 100)
+    private String email;
+
+    @Column(name = "phone", length = 15)
+    private String phone;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name", length = 100)
+    private String departmentName;
+
+    @Column(name = "manager_id")
+    private Long managerId;
+
+    @Column(name = "manager_name", length = 101)
+    private String managerName;
+
+    @Column(name = "salary", precision = 12, scale = 2)
+    private BigDecimal salary;
+
+    @Column(name = "joining_date")
+    private LocalDate joiningDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private EmployeeStatus status;
+
+    @Column(name = "profile_image")
+    private String profileImage;
+
+    @Column(name = "address", length = 500)
+    private String address;
+
+    @Column(name = "search_key", nullable = false, length = 230)
+    private String searchKey;
+}
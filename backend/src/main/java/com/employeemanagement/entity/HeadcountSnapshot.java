@@ -0,0 +1,57 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Daily per-department rollup of the employees table. A null departmentId
+ * holds employees without a department.
+ */
+@Entity
+@Table(name = "headcount_snapshots",
+        indexes = @Index(name = "idx_headcount_snapshots_date_dept", columnList = "snapshot_date, department_id"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class HeadcountSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(name = "department_id")
+    private Long departmentId;
+
+    @Column(name = "department_name", length = 100)
+    private String departmentName;
+
+    @Column(name = "total_employees", nullable = false)
+    private long totalEmployees;
+
+    @Column(name = "active_employees", nullable = false)
+    private long activeEmployees;
+
+    @Column(name = "inactive_employees", nullable = false)
+    private long inactiveEmployees;
+
+    @Column(name = "salary_sum", precision = 19, scale = 2)
+    private BigDecimal salarySum;
+
+    @Column(name = "salary_count", nullable = false)
+    private long salaryCount;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
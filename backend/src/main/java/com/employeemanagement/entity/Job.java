@@ -0,0 +1,92 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "jobs", indexes = {
+        @Index(name = "idx_jobs_status_priority", columnList = "status, priority, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Job {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "type", nullable = false, length = 50)
+    private String type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private JobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "priority", nullable = false)
+    private JobPriority priority;
+
+    /** Handler parameters as JSON. */
+    @Column(name = "params", columnDefinition = "TEXT")
+    private String params;
+
+    /** Partial result while running, final result once finished; JSON. */
+    @Column(name = "result", columnDefinition = "TEXT")
+    private String result;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "processed", nullable = false)
+    @Builder.Default
+    private long processed = 0;
+
+    @Column(name = "total")
+    private Long total;
+
+    /** Handler-defined resume position, e.g. the last employee id done. */
+    @Column(name = "checkpoint")
+    private Long checkpoint;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0;
+
+    @Column(name = "cancel_requested", nullable = false)
+    @Builder.Default
+    private boolean cancelRequested = false;
+
+    @Column(name = "owner_node", length = 64)
+    private String ownerNode;
+
+    @Column(name = "submitted_by", length = 50)
+    private String submittedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public enum JobStatus {
+        QUEUED, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    /** Declared most urgent first; the ordinal is the queue order. */
+    public enum JobPriority {
+        HIGH, NORMAL, LOW
+    }
+}
@@ -0,0 +1,55 @@
+package com.employeemanagement.entity;
+
+import com.employeemanagement.event.ChangeType;
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "outbox_dead_letters", indexes = {
+        @Index(name = "idx_outbox_dead_letters_aggregate", columnList = "webhook, aggregate_type, aggregate_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_outbox_dead_letters_event", columnNames = {"webhook", "event_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxDeadLetter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "webhook", nullable = false, length = 50)
+    private String webhook;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "aggregate_type", nullable = false, length = 20)
+    private String aggregateType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType changeType;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "event_created_at", nullable = false)
+    private LocalDateTime eventCreatedAt;
+
+    /** Why it was dead-lettered; "parked" ones only wait behind an earlier dead letter. */
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "retry_requested", nullable = false)
+    private boolean retryRequested;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,48 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDateTime;
+
+/** Delivery state of one webhook; see {@code OutboxDispatcher}. */
+@Entity
+@Table(name = "outbox_subscriptions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxSubscription {
+
+    @Id
+    @Column(name = "webhook", length = 50)
+    private String webhook;
+
+    /** Every event up to this id has been delivered or dead-lettered. */
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    /** Failed attempts at the batch after lastEventId. */
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "lease_owner", length = 64)
+    private String leaseOwner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "delivered", nullable = false)
+    private long delivered;
+
+    @Column(name = "dead_lettered", nullable = false)
+    private long deadLettered;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
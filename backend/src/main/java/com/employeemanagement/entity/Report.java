@@ -0,0 +1,73 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "reports", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reports_type_period", columnNames = {"type", "period_start"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class Report {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private ReportType type;
+
+    @Column(name = "period_start", nullable = false)
+    private LocalDate periodStart;
+
+    @Column(name = "period_end", nullable = false)
+    private LocalDate periodEnd;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ReportStatus status;
+
+    /** The job generating (or that last generated) the file. */
+    @Column(name = "job_id")
+    private Long jobId;
+
+    /** Set once a file has been generated; kept while a regeneration is pending. */
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(name = "employees_scanned")
+    private Long employeesScanned;
+
+    /** Report totals as JSON. */
+    @Column(name = "summary", columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "requested_by", length = 50)
+    private String requestedBy;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    public enum ReportType {
+        MONTHLY_PAYROLL
+    }
+
+    public enum ReportStatus {
+        PENDING, READY, FAILED
+    }
+}
@@ -0,0 +1,81 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "salary_revisions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevision {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "name", nullable = false, length = 100)
+    private String name;
+
+    /** Ordered rules as JSON; the first matching rule sets an employee's raise. */
+    @Column(name = "rules", nullable = false, columnDefinition = "TEXT")
+    private String rules;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private RevisionStatus status;
+
+    /** The job applying or rolling back the revision, latest first. */
+    @Column(name = "job_id")
+    private Long jobId;
+
+    /** Preview totals at creation as JSON, for comparison with the applied totals. */
+    @Column(name = "preview", columnDefinition = "TEXT")
+    private String preview;
+
+    @Column(name = "employees_affected")
+    private Long employeesAffected;
+
+    @Column(name = "total_before", precision = 15, scale = 2)
+    private BigDecimal totalBefore;
+
+    @Column(name = "total_increase", precision = 15, scale = 2)
+    private BigDecimal totalIncrease;
+
+    @Column(name = "rolled_back")
+    private Long rolledBack;
+
+    /** Items not rolled back because the salary was changed again after the revision. */
+    @Column(name = "rollback_skipped")
+    private Long rollbackSkipped;
+
+    @Column(name = "error", length = 1000)
+    private String error;
+
+    @Column(name = "created_by", length = 50)
+    private String createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "applied_by", length = 50)
+    private String appliedBy;
+
+    @Column(name = "applied_at")
+    private LocalDateTime appliedAt;
+
+    @Column(name = "rolled_back_by", length = 50)
+    private String rolledBackBy;
+
+    @Column(name = "rolled_back_at")
+    private LocalDateTime rolledBackAt;
+
+    public enum RevisionStatus {
+        DRAFT, APPLYING, APPLIED, ROLLING_BACK, ROLLED_BACK,
+        /** Apply or rollback stopped part way; either can be run again and resumes. */
+        FAILED
+    }
+}
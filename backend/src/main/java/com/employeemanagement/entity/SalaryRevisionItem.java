@@ -0,0 +1,50 @@
+package com.employeemanagement.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/** One employee's raise under a salary revision; {@code entityId} is the employee's id. */
+@Entity
+@Table(name = "salary_revision_items", indexes = {
+        @Index(name = "idx_salary_revision_items_chunk", columnList = "revision_id, chunk")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SalaryRevisionItem {
+
+    @EmbeddedId
+    private Key id;
+
+    /** Apply batch; each chunk is one set-based update, and rolled back the same way. */
+    @Column(name = "chunk", nullable = false)
+    private int chunk;
+
+    @Column(name = "rule_index", nullable = false)
+    private int ruleIndex;
+
+    @Column(name = "old_salary", nullable = false, precision = 12, scale = 2)
+    private BigDecimal oldSalary;
+
+    @Column(name = "new_salary", nullable = false, precision = 12, scale = 2)
+    private BigDecimal newSalary;
+
+    @Column(name = "rolled_back", nullable = false)
+    private boolean rolledBack;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+
+        @Column(name = "revision_id")
+        private Long revisionId;
+
+        @Column(name = "entity_id")
+        private Long entityId;
+    }
+}
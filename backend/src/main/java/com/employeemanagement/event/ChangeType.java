@@ -0,0 +1,9 @@
+package com.employeemanagement.event;
+
+public enum ChangeType {
+    CREATED, UPDATED, DELETED,
+    /** Moved to or from employees_archive; the record itself is unchanged. */
+    ARCHIVED, RESTORED,
+    /** Salary set by a salary revision; outbox events carry only the salary fields. */
+    SALARY_REVISED
+}
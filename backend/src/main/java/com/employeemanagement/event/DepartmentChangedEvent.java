@@ -0,0 +1,17 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.dto.DepartmentDTO;
+
+public class DepartmentChangedEvent extends EntityChangedEvent<DepartmentDTO> {
+
+    public static final String ENTITY_TYPE = "DEPARTMENT";
+
+    public DepartmentChangedEvent(ChangeType changeType, Long entityId, DepartmentDTO before, DepartmentDTO after) {
+        super(changeType, entityId, before, after);
+    }
+
+    @Override
+    public String getEntityType() {
+        return ENTITY_TYPE;
+    }
+}
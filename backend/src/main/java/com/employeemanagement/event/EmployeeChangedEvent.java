@@ -0,0 +1,17 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.dto.EmployeeDTO;
+
+public class EmployeeChangedEvent extends EntityChangedEvent<EmployeeDTO> {
+
+    public static final String ENTITY_TYPE = "EMPLOYEE";
+
+    public EmployeeChangedEvent(ChangeType changeType, Long entityId, EmployeeDTO before, EmployeeDTO after) {
+        super(changeType, entityId, before, after);
+    }
+
+    @Override
+    public String getEntityType() {
+        return ENTITY_TYPE;
+    }
+}
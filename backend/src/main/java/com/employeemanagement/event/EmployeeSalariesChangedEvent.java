@@ -0,0 +1,28 @@
+package com.employeemanagement.event;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Salaries of many employees changed by one set-based update (a salary revision applied
+ * or rolled back). Published once per chunk instead of an {@link EmployeeChangedEvent}
+ * per employee; listeners keeping derived state update it in bulk.
+ */
+@Getter
+public class EmployeeSalariesChangedEvent {
+
+    public record SalaryChange(Long employeeId, BigDecimal oldSalary, BigDecimal newSalary) {
+    }
+
+    private final List<SalaryChange> changes;
+
+    public EmployeeSalariesChangedEvent(List<SalaryChange> changes) {
+        this.changes = changes;
+    }
+
+    public List<Long> getEmployeeIds() {
+        return changes.stream().map(SalaryChange::employeeId).toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.event;
+
+import lombok.Getter;
+
+/**
+ * Published by the services after an entity write. {@code before} is null for
+ * creations and {@code after} is null for deletions.
+ */
+@Getter
+public abstract class EntityChangedEvent<T> {
+
+    private final ChangeType changeType;
+    private final Long entityId;
+    private final T before;
+    private final T after;
+
+    protected EntityChangedEvent(ChangeType changeType, Long entityId, T before, T after) {
+        this.changeType = changeType;
+        this.entityId = entityId;
+        this.before = before;
+        this.after = after;
+    }
+
+    public abstract String getEntityType();
+}
@@ -0,0 +1,17 @@
+package com.employeemanagement.event;
+
+import com.employeemanagement.dto.UserDTO;
+
+public class UserChangedEvent extends EntityChangedEvent<UserDTO> {
+
+    public static final String ENTITY_TYPE = "USER";
+
+    public UserChangedEvent(ChangeType changeType, Long entityId, UserDTO before, UserDTO after) {
+        super(changeType, entityId, before, after);
+    }
+
+    @Override
+    public String getEntityType() {
+        return ENTITY_TYPE;
+    }
+}
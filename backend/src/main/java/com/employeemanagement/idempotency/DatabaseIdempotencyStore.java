@@ -0,0 +1,160 @@
+package com.employeemanagement.idempotency;
+
+import com.employeemanagement.entity.IdempotencyKey;
+import com.employeemanagement.repository.IdempotencyKeyRepository;
+import com.employeemanagement.util.StripedTtlCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared store for several instances: a key is claimed with INSERT IGNORE on the
+ * {@code idempotency_keys} primary key, so exactly one instance wins it. Completed
+ * responses are also kept in a local {@link StripedTtlCache}, which answers most
+ * retries without a query; in-progress claims are never cached locally.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "database")
+public class DatabaseIdempotencyStore implements IdempotencyStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseIdempotencyStore.class);
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.idempotency.stripes:64}")
+    private int stripes;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.in-progress-timeout-seconds:60}")
+    private long inProgressTimeoutSeconds;
+
+    private StripedTtlCache<String, StoredResponse> completed;
+    private final AtomicLong localHits = new AtomicLong();
+    private final AtomicLong databaseClaims = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        completed = new StripedTtlCache<>(maxEntries, stripes);
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint) {
+        StoredResponse cached = completed.get(key);
+        if (cached != null) {
+            localHits.incrementAndGet();
+            return Claim.of(cached, fingerprint);
+        }
+        databaseClaims.incrementAndGet();
+        // one retry: the row found may have expired, and is deleted before claiming again
+        for (int attempt = 0; attempt < 2; attempt++) {
+            LocalDateTime now = LocalDateTime.now();
+            if (idempotencyKeyRepository.claim(key, fingerprint, now, now.plusSeconds(inProgressTimeoutSeconds)) == 1) {
+                return Claim.ACQUIRED;
+            }
+            IdempotencyKey row = idempotencyKeyRepository.findById(key).orElse(null);
+            if (row == null) {
+                continue;
+            }
+            if (row.getExpiresAt().isAfter(now)) {
+                StoredResponse existing = toResponse(row);
+                if (existing.isCompleted()) {
+                    completed.put(key, existing, ttlMillisUntil(row.getExpiresAt(), now));
+                }
+                return Claim.of(existing, fingerprint);
+            }
+            idempotencyKeyRepository.deleteIfExpired(key, now);
+        }
+        // lost both races to concurrent claims; let the client retry
+        return new Claim(Outcome.IN_PROGRESS, null);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(ttlHours);
+        int updated = idempotencyKeyRepository.complete(key, response.status(), response.contentType(),
+                writeHeaders(response.headers()), response.body(), expiresAt);
+        if (updated == 0) {
+            // the claim expired and was taken over; the other request's response stands
+            logger.warn("Idempotency claim {} expired before its response was stored", key);
+            return;
+        }
+        completed.put(key, response, ttlHours * 3_600_000);
+    }
+
+    @Override
+    public void release(String key) {
+        idempotencyKeyRepository.release(key);
+    }
+
+    @Scheduled(cron = "${app.idempotency.cleanup-cron:0 23 * * * *}")
+    public void purgeExpired() {
+        completed.purgeExpired();
+        int deleted = idempotencyKeyRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            logger.info("Purged {} expired idempotency keys", deleted);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "database");
+        stats.put("localEntries", completed.size());
+        stats.put("localCapacity", completed.capacity());
+        stats.put("localHits", localHits.get());
+        stats.put("databaseClaims", databaseClaims.get());
+        stats.put("evictions", completed.evictions());
+        return stats;
+    }
+
+    private StoredResponse toResponse(IdempotencyKey row) {
+        return new StoredResponse(row.getFingerprint(), row.getStatus(), row.getContentType(),
+                readHeaders(row.getHeaders()), row.getBody());
+    }
+
+    private static long ttlMillisUntil(LocalDateTime expiresAt, LocalDateTime now) {
+        return Math.max(1, Duration.between(now, expiresAt).toMillis());
+    }
+
+    private String writeHeaders(Map<String, String> headers) {
+        try {
+            return objectMapper.writeValueAsString(headers);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response headers", e);
+        }
+    }
+
+    private Map<String, String> readHeaders(String json) {
+        if (json == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(json, new TypeReference<Map<String, String>>() { });
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored response headers", e);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.employeemanagement.idempotency;
+
+import com.employeemanagement.dto.ApiResponse;
+import com.employeemanagement.idempotency.IdempotencyStore.Claim;
+import com.employeemanagement.idempotency.IdempotencyStore.StoredResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Makes mutating requests that carry an {@code Idempotency-Key} header safe to retry. The
+ * first request with a key runs and its response is stored; a retry with the same key and
+ * the same request gets that response replayed without reaching the controller, while the
+ * first is still running it gets 409, and reusing the key for a different request gets 422.
+ * Keys are scoped to the authenticated user. Runs after the security filter chain, so
+ * unauthenticated or forbidden requests never claim a key.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 10)
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final Set<String> METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 255;
+    /** Client errors that say nothing final about the request and must stay retryable. */
+    private static final Set<Integer> UNSTORED_STATUSES = Set.of(401, 403, 408, 409, 429);
+    private static final List<String> REPLAYED_HEADERS = List.of(HttpHeaders.LOCATION, HttpHeaders.CONTENT_DISPOSITION);
+
+    @Autowired
+    private IdempotencyStore store;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.idempotency.max-body-bytes:65536}")
+    private int maxBodyBytes;
+
+    private final AtomicLong executed = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong inProgress = new AtomicLong();
+    private final AtomicLong mismatched = new AtomicLong();
+    private final AtomicLong released = new AtomicLong();
+    private final AtomicLong skipped = new AtomicLong();
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !METHODS.contains(request.getMethod()) || request.getHeader(HEADER) == null
+                || request.getRequestURI().startsWith(request.getContextPath() + "/auth/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be 1 to " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            skipped.incrementAndGet();
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        // multipart boundaries differ on every retry, so uploads are matched on method and URI only
+        boolean multipart = isMultipartOrForm(request);
+        // a chunked body has no Content-Length: read one byte past the limit to find out
+        byte[] body = multipart ? new byte[0] : request.getInputStream().readNBytes(maxBodyBytes + 1);
+        if (body.length > maxBodyBytes) {
+            skipped.incrementAndGet();
+            filterChain.doFilter(new CachedBodyRequest(request, body, request.getInputStream()), response);
+            return;
+        }
+        HttpServletRequest wrapped = multipart ? request : new CachedBodyRequest(request, body);
+
+        String storeKey = sha256(principal().getBytes(StandardCharsets.UTF_8), new byte[] {'\n'},
+                key.getBytes(StandardCharsets.UTF_8));
+        String fingerprint = sha256((request.getMethod() + " " + request.getRequestURI() + "?"
+                + (request.getQueryString() == null ? "" : request.getQueryString()) + "\n")
+                .getBytes(StandardCharsets.UTF_8), body);
+
+        Claim claim = store.claim(storeKey, fingerprint);
+        switch (claim.outcome()) {
+            case REPLAY -> {
+                replayed.incrementAndGet();
+                replay(claim.response(), response);
+                return;
+            }
+            case IN_PROGRESS -> {
+                inProgress.incrementAndGet();
+                response.setHeader("Retry-After", "1");
+                writeError(response, HttpStatus.CONFLICT, "A request with this " + HEADER + " is still in progress");
+                return;
+            }
+            case MISMATCH -> {
+                mismatched.incrementAndGet();
+                writeError(response, HttpStatus.UNPROCESSABLE_ENTITY,
+                        HEADER + " was already used for a different request");
+                return;
+            }
+            default -> executed.incrementAndGet();
+        }
+
+        ContentCachingResponseWrapper caching = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(wrapped, caching);
+            int status = caching.getStatus();
+            if (status < 500 && !UNSTORED_STATUSES.contains(status) && caching.getContentSize() <= maxBodyBytes) {
+                store.complete(storeKey, new StoredResponse(fingerprint, status, caching.getContentType(),
+                        replayedHeaders(caching), caching.getContentAsByteArray()));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                store.release(storeKey);
+                released.incrementAndGet();
+            }
+            caching.copyBodyToResponse();
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("executed", executed.get());
+        stats.put("replayed", replayed.get());
+        stats.put("inProgress", inProgress.get());
+        stats.put("mismatched", mismatched.get());
+        stats.put("released", released.get());
+        stats.put("skippedTooLarge", skipped.get());
+        stats.put("store", store.getStats());
+        return stats;
+    }
+
+    private void replay(StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach(response::setHeader);
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        if (stored.body() != null) {
+            response.setContentLength(stored.body().length);
+            response.getOutputStream().write(stored.body());
+        }
+    }
+
+    private static Map<String, String> replayedHeaders(HttpServletResponse response) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String name : REPLAYED_HEADERS) {
+            String value = response.getHeader(name);
+            if (value != null) {
+                headers.put(name, value);
+            }
+        }
+        return headers;
+    }
+
+    private void writeError(HttpServletResponse response, HttpStatus status, String message) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ApiResponse.error(message));
+    }
+
+    private static boolean isMultipartOrForm(HttpServletRequest request) {
+        String contentType = request.getContentType();
+        return contentType != null && (contentType.startsWith(MediaType.MULTIPART_FORM_DATA_VALUE)
+                || contentType.startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE));
+    }
+
+    private static String principal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null ? "" : authentication.getName();
+    }
+
+    private static String sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.employeemanagement.idempotency;
+
+import java.util.Map;
+
+/**
+ * Remembers the response to each idempotency key so {@link IdempotencyFilter} can replay
+ * it. A key is first claimed (in progress), then completed with the response, or
+ * released if the request failed and may be retried. Selected with
+ * {@code app.idempotency.store}.
+ */
+public interface IdempotencyStore {
+
+    /** {@code status} 0 marks a claim still in progress, without a response yet. */
+    record StoredResponse(String fingerprint, int status, String contentType, Map<String, String> headers,
+                          byte[] body) {
+
+        static StoredResponse inProgress(String fingerprint) {
+            return new StoredResponse(fingerprint, 0, null, Map.of(), null);
+        }
+
+        boolean isCompleted() {
+            return status != 0;
+        }
+    }
+
+    enum Outcome {
+        /** The caller owns the key and must complete or release it. */
+        ACQUIRED,
+        /** Same request seen before; {@code response} is its stored response. */
+        REPLAY,
+        /** Same request still being processed elsewhere. */
+        IN_PROGRESS,
+        /** The key was used for a different request. */
+        MISMATCH
+    }
+
+    record Claim(Outcome outcome, StoredResponse response) {
+
+        static final Claim ACQUIRED = new Claim(Outcome.ACQUIRED, null);
+
+        static Claim of(StoredResponse existing, String fingerprint) {
+            if (!existing.fingerprint().equals(fingerprint)) {
+                return new Claim(Outcome.MISMATCH, null);
+            }
+            return existing.isCompleted() ? new Claim(Outcome.REPLAY, existing) : new Claim(Outcome.IN_PROGRESS, null);
+        }
+    }
+
+    Claim claim(String key, String fingerprint);
+
+    void complete(String key, StoredResponse response);
+
+    void release(String key);
+
+    Map<String, Object> getStats();
+}
@@ -0,0 +1,73 @@
+package com.employeemanagement.idempotency;
+
+import com.employeemanagement.util.StripedTtlCache;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Default store: keys live only in this instance's {@link StripedTtlCache}, so a retry
+ * routed to another instance runs again. Use the database store behind a load balancer
+ * without sticky sessions.
+ */
+@Component
+@ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory", matchIfMissing = true)
+public class MemoryIdempotencyStore implements IdempotencyStore {
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries;
+
+    @Value("${app.idempotency.stripes:64}")
+    private int stripes;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private long ttlHours;
+
+    @Value("${app.idempotency.in-progress-timeout-seconds:60}")
+    private long inProgressTimeoutSeconds;
+
+    private StripedTtlCache<String, StoredResponse> cache;
+
+    @PostConstruct
+    public void init() {
+        cache = new StripedTtlCache<>(maxEntries, stripes);
+    }
+
+    @Override
+    public Claim claim(String key, String fingerprint) {
+        StoredResponse existing = cache.putIfAbsent(key, StoredResponse.inProgress(fingerprint),
+                inProgressTimeoutSeconds * 1000);
+        return existing == null ? Claim.ACQUIRED : Claim.of(existing, fingerprint);
+    }
+
+    @Override
+    public void complete(String key, StoredResponse response) {
+        cache.put(key, response, ttlHours * 3_600_000);
+    }
+
+    @Override
+    public void release(String key) {
+        cache.remove(key);
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval-ms:60000}")
+    public void purgeExpired() {
+        cache.purgeExpired();
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("store", "memory");
+        stats.put("entries", cache.size());
+        stats.put("capacity", cache.capacity());
+        stats.put("evictions", cache.evictions());
+        stats.put("expirations", cache.expirations());
+        return stats;
+    }
+}
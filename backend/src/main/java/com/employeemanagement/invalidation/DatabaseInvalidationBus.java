@@ -0,0 +1,124 @@
+package com.employeemanagement.invalidation;
+
+import com.employeemanagement.entity.ChangeNotification;
+import com.employeemanagement.event.EntityChangedEvent;
+import com.employeemanagement.repository.ChangeNotificationRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default transport: notifications are rows in {@code change_notifications}, written in
+ * the same transaction as the change and polled by every instance above a high-water mark.
+ * <p>
+ * AUTO_INCREMENT ids are assigned at insert but become visible at commit, so a slow
+ * transaction can commit an id below one already seen. Each poll therefore re-reads a
+ * small window under the mark and skips ids it has already delivered.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "database", matchIfMissing = true)
+public class DatabaseInvalidationBus implements InvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabaseInvalidationBus.class);
+    private static final int SEEN_CAPACITY = 4096;
+
+    @Autowired
+    private ChangeNotificationRepository changeNotificationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.invalidation.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.invalidation.gap-window:100}")
+    private long gapWindow;
+
+    @Value("${app.invalidation.retention-hours:24}")
+    private long retentionHours;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong received = new AtomicLong();
+    private final Set<Long> seen = Collections.newSetFromMap(new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+            return size() > SEEN_CAPACITY;
+        }
+    });
+    private volatile long highWaterMark;
+
+    @PostConstruct
+    public void init() {
+        gapWindow = Math.min(gapWindow, batchSize / 2);
+        highWaterMark = changeNotificationRepository.findMaxId();
+        logger.info("Invalidation bus node {} starting at change {}", nodeId, highWaterMark);
+    }
+
+    @Override
+    public void publish(EntityChangedEvent<?> event) {
+        changeNotificationRepository.save(ChangeNotification.builder()
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .changeType(event.getChangeType())
+                .originNode(nodeId)
+                .createdAt(LocalDateTime.now())
+                .build());
+        published.incrementAndGet();
+    }
+
+    @Scheduled(fixedDelayString = "${app.invalidation.poll-interval-ms:1000}")
+    public synchronized void poll() {
+        List<ChangeNotification> batch;
+        do {
+            batch = changeNotificationRepository.findByIdGreaterThanOrderByIdAsc(
+                    Math.max(0, highWaterMark - gapWindow), PageRequest.of(0, batchSize));
+            for (ChangeNotification notification : batch) {
+                highWaterMark = Math.max(highWaterMark, notification.getId());
+                if (!seen.add(notification.getId()) || nodeId.equals(notification.getOriginNode())) {
+                    continue;
+                }
+                received.incrementAndGet();
+                eventPublisher.publishEvent(new RemoteChangeEvent(notification.getEntityType(),
+                        notification.getEntityId(), notification.getChangeType(), notification.getOriginNode()));
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    @Scheduled(cron = "${app.invalidation.cleanup-cron:0 17 * * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = changeNotificationRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} change notifications older than {}h", deleted, retentionHours);
+        }
+    }
+
+    @Override
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("transport", "database");
+        stats.put("nodeId", nodeId);
+        stats.put("highWaterMark", highWaterMark);
+        stats.put("published", published.get());
+        stats.put("received", received.get());
+        return stats;
+    }
+}
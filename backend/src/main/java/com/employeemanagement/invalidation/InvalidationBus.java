@@ -0,0 +1,23 @@
+package com.employeemanagement.invalidation;
+
+import com.employeemanagement.event.EntityChangedEvent;
+
+import java.util.Map;
+
+/**
+ * Broadcasts entity changes to the other backend instances. Implementations deliver
+ * changes from other nodes as {@link RemoteChangeEvent}s; a node never receives its own.
+ * Selected with {@code app.invalidation.transport}.
+ */
+public interface InvalidationBus {
+
+    /**
+     * Called inside the writing transaction, before commit, so a transport that shares the
+     * database can make the notification atomic with the change.
+     */
+    void publish(EntityChangedEvent<?> event);
+
+    String getNodeId();
+
+    Map<String, Object> getStats();
+}
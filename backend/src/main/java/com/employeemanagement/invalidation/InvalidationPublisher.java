@@ -0,0 +1,38 @@
+package com.employeemanagement.invalidation;
+
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.event.EntityChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Forwards every local entity change to the {@link InvalidationBus} while the writing
+ * transaction is still open, so a rolled-back write never reaches other instances.
+ */
+@Component
+public class InvalidationPublisher {
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    public void onEntityChanged(EntityChangedEvent<?> event) {
+        invalidationBus.publish(event);
+    }
+
+    /** Other instances see a bulk salary change as an update of each employee; the bus carries only type and id. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        for (EmployeeSalariesChangedEvent.SalaryChange change : event.getChanges()) {
+            invalidationBus.publish(new EmployeeChangedEvent(ChangeType.UPDATED, change.employeeId(), null, null));
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.employeemanagement.invalidation;
+
+import com.employeemanagement.event.EntityChangedEvent;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Single-instance transport: local listeners already see {@code EntityChangedEvent}s,
+ * so there is nothing to broadcast.
+ */
+@Component
+@ConditionalOnProperty(name = "app.invalidation.transport", havingValue = "local")
+public class LocalInvalidationBus implements InvalidationBus {
+
+    @Override
+    public void publish(EntityChangedEvent<?> event) {
+    }
+
+    @Override
+    public String getNodeId() {
+        return "local";
+    }
+
+    @Override
+    public Map<String, Object> getStats() {
+        return Map.of("transport", "local", "nodeId", getNodeId());
+    }
+}
@@ -0,0 +1,11 @@
+package com.employeemanagement.invalidation;
+
+import com.employeemanagement.event.ChangeType;
+
+/**
+ * Republished locally when the invalidation bus receives a change made on another
+ * instance. Unlike {@link com.employeemanagement.event.EntityChangedEvent} it carries no
+ * before/after state, only what was touched, so listeners reload or drop their copy.
+ */
+public record RemoteChangeEvent(String entityType, Long entityId, ChangeType changeType, String originNode) {
+}
@@ -0,0 +1,99 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.service.DepartmentService;
+import com.employeemanagement.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves every employee of one department to another, optionally deleting the emptied
+ * department afterwards. Moved employees leave the source, so a rerun naturally resumes.
+ */
+@Component
+public class DepartmentReassignJob implements JobHandler<DepartmentReassignJob.Params> {
+
+    private static final int MAX_ERRORS = 100;
+
+    public record Params(Long fromDepartmentId, Long toDepartmentId, boolean deleteSource) {
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private DepartmentService departmentService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Override
+    public String type() {
+        return "department-reassign";
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public JobPriority defaultPriority() {
+        return JobPriority.LOW;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.fromDepartmentId() == null || params.toDepartmentId() == null) {
+            throw new RuntimeException("fromDepartmentId and toDepartmentId are required");
+        }
+        if (params.fromDepartmentId().equals(params.toDepartmentId())) {
+            throw new RuntimeException("Source and target department are the same");
+        }
+        if (!departmentRepository.existsById(params.fromDepartmentId())
+                || !departmentRepository.existsById(params.toDepartmentId())) {
+            throw new RuntimeException("Department not found");
+        }
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) {
+        List<Long> ids = employeeRepository.findIdsByDepartmentId(params.fromDepartmentId());
+        long moved = 0;
+        long failed = 0;
+        Map<Long, String> errors = new LinkedHashMap<>();
+        for (Long id : ids) {
+            context.throwIfCancelled();
+            try {
+                employeeService.changeDepartment(id, params.toDepartmentId());
+                moved++;
+            } catch (RuntimeException e) {
+                failed++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.put(id, e.getMessage());
+                }
+            }
+            context.progress(moved + failed, (long) ids.size());
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("moved", moved);
+        result.put("failed", failed);
+        result.put("errors", errors);
+        if (params.deleteSource() && failed == 0) {
+            context.throwIfCancelled();
+            departmentService.deleteDepartment(params.fromDepartmentId());
+            result.put("sourceDeleted", true);
+        }
+        return result;
+    }
+}
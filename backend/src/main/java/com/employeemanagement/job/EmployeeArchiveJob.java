@@ -0,0 +1,78 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.service.EmployeeArchiveService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Runs archival batch by batch, each batch its own transaction, so locks are short and
+ * a cancelled or crashed run keeps what it moved. Probes the hot list query before and
+ * after, and reports both in the result.
+ */
+@Component
+public class EmployeeArchiveJob implements JobHandler<EmployeeArchiveJob.Params> {
+
+    /** Optional overrides of app.archive.inactive-days and batch-size. */
+    public record Params(Integer inactiveDays, Integer batchSize) {
+    }
+
+    @Autowired
+    private EmployeeArchiveService archiveService;
+
+    @Override
+    public String type() {
+        return EmployeeArchiveService.JOB_TYPE;
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public JobPriority defaultPriority() {
+        return JobPriority.LOW;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.inactiveDays() != null && params.inactiveDays() < 30) {
+            throw new RuntimeException("inactiveDays must be at least 30");
+        }
+        if (params.batchSize() != null && (params.batchSize() < 1 || params.batchSize() > 5000)) {
+            throw new RuntimeException("batchSize must be between 1 and 5000");
+        }
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) {
+        int days = params.inactiveDays() != null ? params.inactiveDays() : archiveService.getInactiveDays();
+        int batch = params.batchSize() != null ? params.batchSize() : archiveService.getBatchSize();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(days);
+
+        Map<String, Object> before = archiveService.probeHotWorkload();
+        long candidates = archiveService.countCandidates(cutoff);
+        long archived = 0;
+        int moved;
+        do {
+            context.throwIfCancelled();
+            moved = archiveService.archiveBatch(cutoff, batch);
+            archived += moved;
+            context.progress(archived, Math.max(candidates, archived));
+            context.partialResult(Map.of("archived", archived));
+        } while (moved == batch);
+        Map<String, Object> after = archiveService.probeHotWorkload();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("archived", archived);
+        result.put("inactiveDays", days);
+        result.put("before", before);
+        result.put("after", after);
+        return result;
+    }
+}
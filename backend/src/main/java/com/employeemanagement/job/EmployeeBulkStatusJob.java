@@ -0,0 +1,106 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sets the status of many employees, one transaction per employee so each change is
+ * audited and published like a single update. Ids are processed in ascending order and
+ * the last one done is the checkpoint, so a rerun skips what is already done.
+ */
+@Component
+public class EmployeeBulkStatusJob implements JobHandler<EmployeeBulkStatusJob.Params> {
+
+    private static final int MAX_EMPLOYEES = 100_000;
+    private static final int MAX_ERRORS = 100;
+
+    public record Params(List<Long> employeeIds, String status) {
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Override
+    public String type() {
+        return "employee-bulk-status";
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.employeeIds() == null || params.employeeIds().isEmpty()) {
+            throw new RuntimeException("employeeIds is required");
+        }
+        if (params.employeeIds().size() > MAX_EMPLOYEES) {
+            throw new RuntimeException("At most " + MAX_EMPLOYEES + " employees per job");
+        }
+        status(params);
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) {
+        EmployeeStatus status = status(params);
+        List<Long> ids = params.employeeIds().stream().distinct().sorted().toList();
+        Long resumeAfter = context.getResumeCheckpoint();
+        long processed = 0;
+        long updated = 0;
+        long failed = 0;
+        Map<Long, String> errors = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (resumeAfter != null && id <= resumeAfter) {
+                processed++;
+                continue;
+            }
+            context.throwIfCancelled();
+            try {
+                employeeService.updateStatus(id, status);
+                updated++;
+            } catch (RuntimeException e) {
+                failed++;
+                if (errors.size() < MAX_ERRORS) {
+                    errors.put(id, e.getMessage());
+                }
+            }
+            processed++;
+            context.progress(processed, (long) ids.size());
+            context.checkpoint(id);
+            if (processed % 100 == 0) {
+                context.partialResult(result(updated, failed, errors, resumeAfter));
+            }
+        }
+        return result(updated, failed, errors, resumeAfter);
+    }
+
+    /** {@code updated} and {@code failed} count this attempt only; earlier attempts' ids are skipped. */
+    private static Map<String, Object> result(long updated, long failed, Map<Long, String> errors, Long resumeAfter) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("updated", updated);
+        result.put("failed", failed);
+        result.put("errors", new LinkedHashMap<>(errors));
+        if (resumeAfter != null) {
+            result.put("resumedAfterId", resumeAfter);
+        }
+        return result;
+    }
+
+    private static EmployeeStatus status(Params params) {
+        if (params.status() == null) {
+            throw new RuntimeException("status is required");
+        }
+        try {
+            return EmployeeStatus.valueOf(params.status().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown status: " + params.status());
+        }
+    }
+}
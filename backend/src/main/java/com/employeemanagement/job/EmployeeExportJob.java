@@ -0,0 +1,88 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.service.EmployeeService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * CSV export of the employee list with the same filters as {@code GET /employees},
+ * optionally as of a past instant. A rerun after a crash starts the file over.
+ */
+@Component
+public class EmployeeExportJob implements JobHandler<EmployeeExportJob.Params> {
+
+    private static final int PAGE_SIZE = 1000;
+
+    public record Params(String search, Long departmentId, String status, LocalDateTime asOf) {
+    }
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Override
+    public String type() {
+        return "employee-export";
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.status() != null) {
+            try {
+                EmployeeStatus.valueOf(params.status().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown status: " + params.status());
+            }
+        }
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) throws Exception {
+        Path file = context.outputFile("csv");
+        long written = 0;
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            writer.write("id,employeeId,firstName,lastName,email,phone,department,manager,salary,joiningDate,status");
+            writer.newLine();
+            Page<EmployeeDTO> page;
+            int number = 0;
+            do {
+                context.throwIfCancelled();
+                page = employeeService.getAllEmployees(number++, PAGE_SIZE, "id", "asc", params.search(),
+                        params.departmentId(), params.status(), params.asOf());
+                for (EmployeeDTO e : page.getContent()) {
+                    writer.write(String.join(",", csv(e.getId()), csv(e.getEmployeeId()), csv(e.getFirstName()),
+                            csv(e.getLastName()), csv(e.getEmail()), csv(e.getPhone()), csv(e.getDepartmentName()),
+                            csv(e.getManagerName()), csv(e.getSalary()), csv(e.getJoiningDate()), csv(e.getStatus())));
+                    writer.newLine();
+                }
+                written += page.getNumberOfElements();
+                context.progress(written, page.getTotalElements());
+            } while (page.hasNext());
+        }
+        return Map.of("file", file.getFileName().toString(), "rows", written);
+    }
+
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String s = value.toString();
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            return s;
+        }
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
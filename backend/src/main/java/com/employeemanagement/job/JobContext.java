@@ -0,0 +1,102 @@
+package com.employeemanagement.job;
+
+import java.nio.file.Path;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Handler side of a running job. Progress, checkpoint and partial result are only kept
+ * here; {@link JobRunner} writes them to the job row on its next heartbeat, so handlers
+ * can report after every item without a database round trip.
+ */
+public class JobContext {
+
+    private final long jobId;
+    private final Long resumeCheckpoint;
+    private final Path outputDir;
+
+    private volatile long processed;
+    private volatile Long total;
+    private volatile Long checkpoint;
+    private volatile Object partialResult;
+    private volatile boolean cancelled;
+    private volatile boolean lost;
+
+    JobContext(long jobId, long processed, Long resumeCheckpoint, Path outputDir) {
+        this.jobId = jobId;
+        this.processed = processed;
+        this.resumeCheckpoint = resumeCheckpoint;
+        this.checkpoint = resumeCheckpoint;
+        this.outputDir = outputDir;
+    }
+
+    public long getJobId() {
+        return jobId;
+    }
+
+    /** Checkpoint saved by a previous attempt of this job, or null on the first run. */
+    public Long getResumeCheckpoint() {
+        return resumeCheckpoint;
+    }
+
+    public void progress(long processed, Long total) {
+        this.processed = processed;
+        this.total = total;
+    }
+
+    public void checkpoint(long checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /** Visible to pollers before the job ends. Pass a snapshot, not an object still being mutated. */
+    public void partialResult(Object partialResult) {
+        this.partialResult = partialResult;
+    }
+
+    /**
+     * File for the job's output, e.g. an export; downloadable from {@code /jobs/{id}/file}
+     * when the handler returns its name under the {@code file} key of its result.
+     */
+    public Path outputFile(String extension) {
+        return outputDir.resolve("job-" + jobId + "." + extension);
+    }
+
+    /** Throws {@link CancellationException} once the job is cancelled or the worker is shutting down. */
+    public void throwIfCancelled() {
+        if (cancelled || lost || Thread.currentThread().isInterrupted()) {
+            throw new CancellationException("Job " + jobId + " cancelled");
+        }
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    long getProcessed() {
+        return processed;
+    }
+
+    Long getTotal() {
+        return total;
+    }
+
+    Long getCheckpoint() {
+        return checkpoint;
+    }
+
+    Object getPartialResult() {
+        return partialResult;
+    }
+
+    void cancel() {
+        cancelled = true;
+    }
+
+    /** The row was requeued by another instance (missed heartbeats); stop without writing. */
+    void markLost() {
+        lost = true;
+    }
+
+    boolean isLost() {
+        return lost;
+    }
+}
@@ -0,0 +1,34 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Job.JobPriority;
+
+/**
+ * A kind of background job. Handlers are Spring beans picked up by {@link JobRunner} and
+ * selected by {@link #type()} when a job is submitted to {@code POST /jobs}.
+ * <p>
+ * A job may be run more than once: after a crash its row is requeued and another worker
+ * starts it again with the last saved {@link JobContext#getResumeCheckpoint() checkpoint}.
+ * Handlers should therefore be idempotent, or resume from the checkpoint.
+ *
+ * @param <P> parameters, bound from the request's {@code params} JSON
+ */
+public interface JobHandler<P> {
+
+    String type();
+
+    Class<P> paramsType();
+
+    default JobPriority defaultPriority() {
+        return JobPriority.NORMAL;
+    }
+
+    /** Rejects bad parameters at submit time; throw a RuntimeException with the reason. */
+    default void validate(P params) {
+    }
+
+    /**
+     * Runs the job on a worker thread. Call {@link JobContext#throwIfCancelled()} between
+     * units of work. The return value is stored as the job's result JSON.
+     */
+    Object run(P params, JobContext context) throws Exception;
+}
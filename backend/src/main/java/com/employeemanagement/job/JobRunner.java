@@ -0,0 +1,330 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Job;
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.entity.Job.JobStatus;
+import com.employeemanagement.invalidation.InvalidationBus;
+import com.employeemanagement.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs {@link JobHandler}s on a fixed pool of worker threads, apart from the Tomcat request
+ * threads. The {@code jobs} table is the queue: this class only holds a bounded local
+ * window of it, ordered by priority then age, and tops it up from the table on each poll.
+ * <p>
+ * A worker claims its job with a conditional UPDATE, so with several instances each job
+ * runs on one of them. Running jobs heartbeat their progress to the row; a job whose
+ * heartbeat stops (its instance died) is requeued after {@code app.jobs.stale-after-seconds}
+ * and failed once it has used {@code app.jobs.max-attempts}. Heartbeats and stale recovery
+ * run on the runner's own scheduler threads, apart from the queue top-up, so neither a busy
+ * Spring scheduler nor a slow poll query can delay a heartbeat past the stale cutoff.
+ */
+@Component
+public class JobRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(JobRunner.class);
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private InvalidationBus invalidationBus;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /** Resolved on first use: handlers may depend on services that submit jobs. */
+    @Autowired
+    private ObjectProvider<JobHandler<?>> handlerBeans;
+
+    @Value("${app.jobs.workers:2}")
+    private int workers;
+
+    @Value("${app.jobs.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${app.jobs.poll-interval-ms:2000}")
+    private long pollIntervalMs;
+
+    @Value("${app.jobs.stale-after-seconds:60}")
+    private long staleAfterSeconds;
+
+    @Value("${app.jobs.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${app.jobs.dir:jobs/}")
+    private String jobsDir;
+
+    private volatile Map<String, JobHandler<?>> handlers;
+    private final Set<Long> local = ConcurrentHashMap.newKeySet();
+    private final Map<Long, JobContext> running = new ConcurrentHashMap<>();
+    private final AtomicLong succeeded = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong cancelled = new AtomicLong();
+    private final AtomicLong requeued = new AtomicLong();
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService scheduler;
+    private Path outputDir;
+    private volatile boolean shuttingDown;
+
+    @PostConstruct
+    public void init() throws IOException {
+        outputDir = Files.createDirectories(Paths.get(jobsDir));
+        AtomicInteger threads = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0, TimeUnit.MILLISECONDS, new PriorityBlockingQueue<>(),
+                r -> new Thread(r, "job-worker-" + threads.incrementAndGet()));
+        AtomicInteger schedulerThreads = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(2,
+                r -> new Thread(r, "job-scheduler-" + schedulerThreads.incrementAndGet()));
+        scheduler.scheduleWithFixedDelay(this::keepAlive, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Job runner: {} workers", workers);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        // interrupted handlers hit throwIfCancelled() and their jobs are released back to QUEUED
+        shuttingDown = true;
+        scheduler.shutdown();
+        executor.shutdownNow();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            logger.warn("Jobs {} still running at shutdown; they are requeued once their heartbeat goes stale",
+                    running.keySet());
+        }
+    }
+
+    public Optional<JobHandler<?>> getHandler(String type) {
+        return Optional.ofNullable(handlers().get(type));
+    }
+
+    public Set<String> getTypes() {
+        return handlers().keySet();
+    }
+
+    public Path getOutputDir() {
+        return outputDir;
+    }
+
+    /** Queues the job locally if the window has room; otherwise a later poll picks it up. */
+    public void enqueue(Job job) {
+        if (shuttingDown || local.size() >= workers + queueCapacity) {
+            return;
+        }
+        if (local.add(job.getId())) {
+            executor.execute(new JobTask(job.getId(), job.getPriority()));
+        }
+    }
+
+    /** Stops the job at its next {@link JobContext#throwIfCancelled()} if it runs here. */
+    public void cancelLocal(Long jobId) {
+        JobContext context = running.get(jobId);
+        if (context != null) {
+            context.cancel();
+        }
+    }
+
+    /** Heartbeats this node's running jobs and requeues or fails those whose heartbeat went stale. */
+    void keepAlive() {
+        if (shuttingDown) {
+            return;
+        }
+        try {
+            heartbeat();
+            recoverStale();
+        } catch (Exception e) {
+            logger.warn("Job heartbeat failed: {}", e.getMessage());
+        }
+    }
+
+    /** Tops up the local window from the queued rows. */
+    void poll() {
+        if (shuttingDown) {
+            return;
+        }
+        try {
+            int free = workers + queueCapacity - local.size();
+            if (free > 0) {
+                for (Job job : jobRepository.findByStatusOrderByPriorityAscIdAsc(JobStatus.QUEUED, PageRequest.of(0, free))) {
+                    enqueue(job);
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("Job poll failed: {}", e.getMessage());
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("node", invalidationBus.getNodeId());
+        stats.put("workers", workers);
+        stats.put("running", running.keySet());
+        stats.put("queuedLocally", executor.getQueue().size());
+        stats.put("succeeded", succeeded.get());
+        stats.put("failed", failed.get());
+        stats.put("cancelled", cancelled.get());
+        stats.put("requeued", requeued.get());
+        stats.put("types", getTypes());
+        return stats;
+    }
+
+    private void heartbeat() {
+        if (running.isEmpty()) {
+            return;
+        }
+        String node = invalidationBus.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, JobContext> entry : running.entrySet()) {
+            JobContext context = entry.getValue();
+            int updated = jobRepository.heartbeat(entry.getKey(), node, context.getProcessed(), context.getTotal(),
+                    context.getCheckpoint(), toJson(context.getPartialResult()), now, JobStatus.RUNNING);
+            if (updated == 0) {
+                logger.warn("Job {} is no longer owned by this node; stopping it", entry.getKey());
+                context.markLost();
+            }
+        }
+        for (Long id : jobRepository.findCancelRequested(running.keySet())) {
+            cancelLocal(id);
+        }
+    }
+
+    private void recoverStale() {
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(staleAfterSeconds);
+        int failedStale = jobRepository.failStale(cutoff, maxAttempts, "Abandoned after " + maxAttempts + " attempts",
+                LocalDateTime.now(), JobStatus.FAILED, JobStatus.RUNNING);
+        int requeuedStale = jobRepository.requeueStale(cutoff, maxAttempts, JobStatus.QUEUED, JobStatus.RUNNING);
+        if (failedStale + requeuedStale > 0) {
+            logger.info("Stale jobs: {} requeued, {} failed", requeuedStale, failedStale);
+            requeued.addAndGet(requeuedStale);
+            failed.addAndGet(failedStale);
+        }
+    }
+
+    private void runJob(long id) {
+        try {
+            String node = invalidationBus.getNodeId();
+            if (shuttingDown || jobRepository.claim(id, node, LocalDateTime.now(), JobStatus.QUEUED, JobStatus.RUNNING) == 0) {
+                return;
+            }
+            Job job = jobRepository.findById(id).orElseThrow();
+            execute(job, node);
+        } catch (Exception e) {
+            logger.error("Job {} could not be run", id, e);
+        } finally {
+            local.remove(id);
+        }
+    }
+
+    private void execute(Job job, String node) {
+        JobContext context = new JobContext(job.getId(), job.getProcessed(), job.getCheckpoint(), outputDir);
+        running.put(job.getId(), context);
+        try {
+            JobHandler<?> handler = handlers().get(job.getType());
+            if (handler == null) {
+                throw new IllegalStateException("No handler for job type " + job.getType());
+            }
+            Object result = run(handler, job.getParams(), context);
+            finish(job, node, JobStatus.SUCCEEDED, context, result, null);
+            succeeded.incrementAndGet();
+        } catch (CancellationException e) {
+            if (context.isLost()) {
+                return;
+            }
+            if (shuttingDown && !context.isCancelled()) {
+                jobRepository.release(job.getId(), node, context.getCheckpoint(), context.getProcessed(),
+                        JobStatus.QUEUED, JobStatus.RUNNING);
+                return;
+            }
+            finish(job, node, JobStatus.CANCELLED, context, context.getPartialResult(), null);
+            cancelled.incrementAndGet();
+        } catch (Exception e) {
+            if (context.isLost()) {
+                return;
+            }
+            logger.warn("Job {} ({}) failed: {}", job.getId(), job.getType(), e.getMessage());
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            finish(job, node, JobStatus.FAILED, context, context.getPartialResult(),
+                    message.length() > 1000 ? message.substring(0, 1000) : message);
+            failed.incrementAndGet();
+        } finally {
+            running.remove(job.getId());
+        }
+    }
+
+    private Map<String, JobHandler<?>> handlers() {
+        Map<String, JobHandler<?>> resolved = handlers;
+        if (resolved == null) {
+            resolved = new TreeMap<>();
+            for (JobHandler<?> handler : handlerBeans) {
+                if (resolved.put(handler.type(), handler) != null) {
+                    throw new IllegalStateException("Duplicate job type: " + handler.type());
+                }
+            }
+            handlers = resolved = Collections.unmodifiableMap(resolved);
+        }
+        return resolved;
+    }
+
+    private <P> Object run(JobHandler<P> handler, String params, JobContext context) throws Exception {
+        P bound = objectMapper.readValue(params != null ? params : "{}", handler.paramsType());
+        return handler.run(bound, context);
+    }
+
+    private void finish(Job job, String node, JobStatus status, JobContext context, Object result, String error) {
+        jobRepository.finish(job.getId(), node, status, context.getProcessed(), context.getTotal(), toJson(result),
+                error, LocalDateTime.now(), JobStatus.RUNNING);
+    }
+
+    private String toJson(Object value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    /** Orders the local window: higher priority first, then older jobs. */
+    private class JobTask implements Runnable, Comparable<JobTask> {
+
+        private final long id;
+        private final JobPriority priority;
+
+        JobTask(long id, JobPriority priority) {
+            this.id = id;
+            this.priority = priority;
+        }
+
+        @Override
+        public void run() {
+            runJob(id);
+        }
+
+        @Override
+        public int compareTo(JobTask other) {
+            int byPriority = priority.compareTo(other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.service.PayrollReportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/** Generates a report row's XLSX; submitted by {@link PayrollReportService}. */
+@Component
+public class PayrollReportJob implements JobHandler<PayrollReportJob.Params> {
+
+    public record Params(Long reportId) {
+    }
+
+    @Autowired
+    private PayrollReportService payrollReportService;
+
+    @Override
+    public String type() {
+        return "payroll-report";
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public JobPriority defaultPriority() {
+        return JobPriority.LOW;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.reportId() == null) {
+            throw new RuntimeException("reportId is required");
+        }
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) throws Exception {
+        try {
+            Map<String, Object> summary = payrollReportService.generate(params.reportId(), context);
+            payrollReportService.markReady(params.reportId(), summary);
+            return summary;
+        } catch (CancellationException e) {
+            if (context.isCancelled()) {
+                payrollReportService.markFailed(params.reportId(), "Cancelled");
+            }
+            throw e;
+        } catch (Exception e) {
+            payrollReportService.markFailed(params.reportId(), e.getMessage());
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.employeemanagement.job;
+
+import com.employeemanagement.analytics.EmployeeColumns;
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.service.SalaryRevisionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+/**
+ * Applies or rolls back a salary revision chunk by chunk, each chunk its own transaction;
+ * submitted by {@link SalaryRevisionService}. Apply checkpoints the last employee id, and
+ * both directions skip work already done, so a requeued or re-run job resumes safely.
+ */
+@Component
+public class SalaryRevisionJob implements JobHandler<SalaryRevisionJob.Params> {
+
+    /** {@code action} is APPLY or ROLLBACK. */
+    public record Params(Long revisionId, String action) {
+    }
+
+    @Autowired
+    private SalaryRevisionService salaryRevisionService;
+
+    @Override
+    public String type() {
+        return SalaryRevisionService.JOB_TYPE;
+    }
+
+    @Override
+    public Class<Params> paramsType() {
+        return Params.class;
+    }
+
+    @Override
+    public JobPriority defaultPriority() {
+        return JobPriority.HIGH;
+    }
+
+    @Override
+    public void validate(Params params) {
+        if (params.revisionId() == null) {
+            throw new RuntimeException("revisionId is required");
+        }
+        if (!"APPLY".equals(params.action()) && !"ROLLBACK".equals(params.action())) {
+            throw new RuntimeException("action must be APPLY or ROLLBACK");
+        }
+    }
+
+    @Override
+    public Object run(Params params, JobContext context) {
+        Long id = params.revisionId();
+        try {
+            return "APPLY".equals(params.action()) ? apply(id, context) : rollback(id, context);
+        } catch (CancellationException e) {
+            if (context.isCancelled()) {
+                salaryRevisionService.markFailed(id, "Cancelled");
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            salaryRevisionService.markFailed(id, e.getMessage());
+            throw e;
+        }
+    }
+
+    private Map<String, Object> apply(Long id, JobContext context) {
+        EmployeeColumns.RaiseRule[] rules = salaryRevisionService.getRules(id);
+        int limit = salaryRevisionService.getChunkSize();
+        long total = salaryRevisionService.countEmployeesWithSalary();
+        int chunk = salaryRevisionService.nextChunk(id);
+        long afterId = context.getResumeCheckpoint() != null ? context.getResumeCheckpoint() : 0;
+        long scanned = 0;
+        while (true) {
+            context.throwIfCancelled();
+            long lastId = salaryRevisionService.applyChunk(id, rules, afterId, chunk++, limit);
+            if (lastId < 0) {
+                break;
+            }
+            afterId = lastId;
+            scanned += limit;
+            context.checkpoint(afterId);
+            context.progress(Math.min(scanned, total), total);
+        }
+        context.progress(total, total);
+        return salaryRevisionService.markApplied(id);
+    }
+
+    private Map<String, Object> rollback(Long id, JobContext context) {
+        List<Integer> chunks = salaryRevisionService.getChunksToRollBack(id);
+        long done = 0;
+        for (int chunk : chunks) {
+            context.throwIfCancelled();
+            salaryRevisionService.rollbackChunk(id, chunk);
+            context.progress(++done, (long) chunks.size());
+        }
+        return salaryRevisionService.markRolledBack(id);
+    }
+}
@@ -0,0 +1,105 @@
+package com.employeemanagement.monitoring;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * JDK dynamic proxies over DataSource, Connection, Statement and ResultSet that time
+ * statement execution and row fetching and capture bind parameters.
+ */
+public final class JdbcProxies {
+
+    private JdbcProxies() {
+    }
+
+    public static DataSource dataSource(DataSource target, SqlRecorder recorder) {
+        return proxy(DataSource.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            return result instanceof Connection connection ? connection(connection, recorder) : result;
+        });
+    }
+
+    private static Connection connection(Connection target, SqlRecorder recorder) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return proxy(method.getReturnType(), new StatementHandler(result, sql, recorder));
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet resultSet(ResultSet target, SqlRecorder recorder) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            if (!"next".equals(method.getName())) {
+                return invoke(target, method, args);
+            }
+            long start = System.nanoTime();
+            boolean hasRow = (Boolean) invoke(target, method, args);
+            recorder.fetch(hasRow, System.nanoTime() - start);
+            return hasRow;
+        });
+    }
+
+    private static class StatementHandler implements InvocationHandler {
+
+        private final Object target;
+        private final String sql;
+        private final SqlRecorder recorder;
+        private final Map<Integer, Object> params = new TreeMap<>();
+
+        StatementHandler(Object target, String sql, SqlRecorder recorder) {
+            this.target = target;
+            this.sql = sql;
+            this.recorder = recorder;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                params.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                params.clear();
+            } else if (name.startsWith("execute")) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String s ? s : sql;
+                long start = System.nanoTime();
+                try {
+                    return wrapResultSet(JdbcProxies.invoke(target, method, args));
+                } finally {
+                    recorder.statement(executed, params.isEmpty() ? Map.of() : new TreeMap<>(params),
+                            System.nanoTime() - start);
+                }
+            } else if (name.equals("getResultSet") || name.equals("getGeneratedKeys")) {
+                return wrapResultSet(JdbcProxies.invoke(target, method, args));
+            }
+            return JdbcProxies.invoke(target, method, args);
+        }
+
+        private Object wrapResultSet(Object result) {
+            return result instanceof ResultSet rs ? resultSet(rs, recorder) : result;
+        }
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(JdbcProxies.class.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+}
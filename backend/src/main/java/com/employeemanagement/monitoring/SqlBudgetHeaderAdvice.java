@@ -0,0 +1,46 @@
+package com.employeemanagement.monitoring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exposes the request's SQL budget usage as response headers (non-production only).
+ */
+@ControllerAdvice
+@ConditionalOnProperty(name = "app.sql.budget-headers", havingValue = "true")
+public class SqlBudgetHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private SqlMetricsRegistry sqlMetricsRegistry;
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            HttpHeaders headers = response.getHeaders();
+            headers.set("X-SQL-Statements", String.valueOf(stats.getStatements()));
+            headers.set("X-SQL-Budget", String.valueOf(sqlMetricsRegistry.getStatementBudget()));
+            headers.set("X-SQL-Rows", String.valueOf(stats.getRows()));
+            headers.set("X-SQL-Time-Ms", String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos())));
+            headers.set("X-SQL-Handler", stats.getHandler());
+        }
+        return body;
+    }
+}
@@ -0,0 +1,28 @@
+package com.employeemanagement.monitoring;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps every DataSource bean in the instrumenting JDBC proxies.
+ */
+public class SqlInstrumentationPostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public SqlInstrumentationPostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource
+                && environment.getProperty("app.sql.instrumentation.enabled", Boolean.class, true)) {
+            long threshold = environment.getProperty("app.sql.slow-threshold-ms", Long.class, 200L);
+            return JdbcProxies.dataSource(dataSource, new SqlRecorder(threshold));
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,85 @@
+package com.employeemanagement.monitoring;
+
+import com.employeemanagement.dto.HandlerSqlStatsDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-controller-method SQL totals, so a regression shows up against the handler that
+ * caused it.
+ */
+@Component
+public class SqlMetricsRegistry {
+
+    private static final Logger budgetLog = LoggerFactory.getLogger("sql.budget");
+
+    @Value("${app.sql.budget.statements:25}")
+    private int statementBudget;
+
+    private final Map<String, HandlerTotals> totals = new ConcurrentHashMap<>();
+
+    public int getStatementBudget() {
+        return statementBudget;
+    }
+
+    public void record(SqlRequestStats stats) {
+        HandlerTotals t = totals.computeIfAbsent(stats.getHandler(), h -> new HandlerTotals());
+        t.requests.increment();
+        t.statements.add(stats.getStatements());
+        t.rows.add(stats.getRows());
+        t.dbNanos.add(stats.getDbNanos());
+        t.maxStatements.accumulateAndGet(stats.getStatements(), Math::max);
+        if (stats.getStatements() > statementBudget) {
+            t.overBudget.increment();
+            budgetLog.warn("{} ran {} statements (budget {}), {} rows, {} ms in the database", stats.getHandler(),
+                    stats.getStatements(), statementBudget, stats.getRows(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getDbNanos()));
+        }
+    }
+
+    public List<HandlerSqlStatsDTO> snapshot() {
+        return totals.entrySet().stream()
+                .map(e -> e.getValue().toDTO(e.getKey()))
+                .sorted(Comparator.comparingDouble(HandlerSqlStatsDTO::getAvgDbTimeMs).reversed())
+                .toList();
+    }
+
+    public void reset() {
+        totals.clear();
+    }
+
+    private static class HandlerTotals {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder dbNanos = new LongAdder();
+        private final LongAdder overBudget = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+
+        HandlerSqlStatsDTO toDTO(String handler) {
+            long n = Math.max(1, requests.sum());
+            double dbMs = dbNanos.sum() / 1_000_000.0;
+            return HandlerSqlStatsDTO.builder()
+                    .handler(handler)
+                    .requests(requests.sum())
+                    .statements(statements.sum())
+                    .avgStatements((double) statements.sum() / n)
+                    .maxStatements(maxStatements.get())
+                    .rows(rows.sum())
+                    .dbTimeMs(dbMs)
+                    .avgDbTimeMs(dbMs / n)
+                    .overBudget(overBudget.sum())
+                    .build();
+        }
+    }
+}
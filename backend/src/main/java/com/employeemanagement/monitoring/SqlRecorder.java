@@ -0,0 +1,44 @@
+package com.employeemanagement.monitoring;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Receives timings from the instrumented JDBC proxies, charges them to the current
+ * request and logs statements slower than the threshold with their bind parameters.
+ */
+public class SqlRecorder {
+
+    private static final Logger slowLog = LoggerFactory.getLogger("sql.slow");
+
+    private final long slowThresholdNanos;
+
+    public SqlRecorder(long slowThresholdMs) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+    }
+
+    void statement(String sql, Map<Integer, Object> params, long nanos) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementExecuted(nanos);
+        }
+        if (nanos >= slowThresholdNanos) {
+            slowLog.warn("{} ms [{}] {} params={}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                    stats != null ? stats.getHandler() : "background", sql, params);
+        }
+    }
+
+    void fetch(boolean rowReturned, long nanos) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            if (rowReturned) {
+                stats.rowFetched(nanos);
+            } else {
+                stats.fetchTime(nanos);
+            }
+        }
+    }
+}
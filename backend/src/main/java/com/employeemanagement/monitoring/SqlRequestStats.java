@@ -0,0 +1,62 @@
+package com.employeemanagement.monitoring;
+
+/**
+ * SQL work done on behalf of one HTTP request. Only touched by the request thread.
+ */
+public class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private String handler = "unmapped";
+    private int statements;
+    private long rows;
+    private long dbNanos;
+
+    public static SqlRequestStats begin() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void statementExecuted(long nanos) {
+        statements++;
+        dbNanos += nanos;
+    }
+
+    void rowFetched(long nanos) {
+        rows++;
+        dbNanos += nanos;
+    }
+
+    void fetchTime(long nanos) {
+        dbNanos += nanos;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    public void setHandler(String handler) {
+        this.handler = handler;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+}
@@ -0,0 +1,474 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.dto.OutboxMessageDTO;
+import com.employeemanagement.entity.OutboxDeadLetter;
+import com.employeemanagement.entity.OutboxEvent;
+import com.employeemanagement.entity.OutboxSubscription;
+import com.employeemanagement.outbox.WebhookClient.Response;
+import com.employeemanagement.outbox.WebhookClient.Result;
+import com.employeemanagement.repository.OutboxDeadLetterRepository;
+import com.employeemanagement.repository.OutboxEventRepository;
+import com.employeemanagement.repository.OutboxSubscriptionRepository;
+import com.employeemanagement.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Relays {@code outbox_events} to the webhooks configured under
+ * {@code app.outbox.webhooks.<name>.url}. Each webhook has a cursor in
+ * {@code outbox_subscriptions} and is delivered by whichever instance holds its lease, in
+ * gzipped batches of up to {@code batch-size} events in id order, so events of one
+ * employee arrive in the order they committed. Delivery is at least once.
+ *
+ * <p>A batch that fails with a network error, timeout or 5xx holds the cursor and is retried
+ * with exponential backoff capped at {@code backoff-max-ms}, however long the receiver is
+ * down; from {@code alert-after-attempts} on every failure is logged at ERROR and the
+ * webhook is reported as blocked. Only a batch the receiver rejects
+ * with a 4xx is split in halves until the rejected events are isolated and dead-lettered.
+ * Later events of a dead-lettered aggregate are parked with the dead letters until they
+ * are retried, so a receiver never sees an aggregate's events out of order.
+ *
+ * <p>Runs on its own thread, not the shared scheduler, so a slow receiver never delays
+ * other scheduled work.
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxDispatcher.class);
+    private static final int MAX_BATCHES_PER_POLL = 20;
+    private static final String PARKED = "Parked behind an earlier dead letter of the same aggregate";
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private OutboxService outboxService;
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private OutboxSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private OutboxDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private WebhookClient webhookClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.outbox.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.outbox.poll-interval-ms:1000}")
+    private long pollIntervalMs;
+
+    @Value("${app.outbox.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.outbox.alert-after-attempts:8}")
+    private int alertAfterAttempts;
+
+    @Value("${app.outbox.backoff-initial-ms:1000}")
+    private long backoffInitialMs;
+
+    @Value("${app.outbox.backoff-max-ms:300000}")
+    private long backoffMaxMs;
+
+    @Value("${app.outbox.gap-timeout-ms:5000}")
+    private long gapTimeoutMs;
+
+    @Value("${app.outbox.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${app.outbox.retention-hours:72}")
+    private long retentionHours;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, WebhookMetrics> metrics = new ConcurrentHashMap<>();
+    private Map<String, WebhookProperties> webhooks = Map.of();
+    private ScheduledExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        webhooks = Binder.get(environment)
+                .bind("app.outbox.webhooks", Bindable.mapOf(String.class, WebhookProperties.class))
+                .orElse(Map.of());
+        if (!enabled || webhooks.isEmpty()) {
+            logger.info("Outbox dispatcher idle: {}", enabled ? "no webhooks configured" : "outbox disabled");
+            return;
+        }
+        long start = eventRepository.findMaxId();
+        LocalDateTime now = LocalDateTime.now();
+        for (String name : webhooks.keySet()) {
+            if (subscriptionRepository.register(name, start, now) == 1) {
+                logger.info("Outbox webhook {} registered at event {}", name, start);
+            }
+            metrics.put(name, new WebhookMetrics());
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> new Thread(r, "outbox-dispatcher"));
+        executor.scheduleWithFixedDelay(this::dispatchAll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+        logger.info("Outbox dispatcher node {} delivering to {}", nodeId, webhooks.keySet());
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (executor == null) {
+            return;
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+        for (String name : webhooks.keySet()) {
+            subscriptionRepository.releaseLease(name, nodeId);
+        }
+    }
+
+    /** Drops events every configured webhook is past, once older than {@code retention-hours}. */
+    @Scheduled(cron = "${app.outbox.cleanup-cron:0 41 * * * *}")
+    public void purgeDelivered() {
+        Long upTo = webhooks.isEmpty() ? Long.valueOf(Long.MAX_VALUE)
+                : subscriptionRepository.findMinLastEventId(webhooks.keySet());
+        if (upTo == null) {
+            return;
+        }
+        int deleted = eventRepository.deleteDelivered(upTo, LocalDateTime.now().minusHours(retentionHours));
+        if (deleted > 0) {
+            logger.info("Purged {} delivered outbox events older than {}h", deleted, retentionHours);
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long maxId = eventRepository.findMaxId();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("enabled", enabled);
+        stats.put("nodeId", nodeId);
+        stats.put("lastEventId", maxId);
+        Map<String, Object> perWebhook = new LinkedHashMap<>();
+        for (OutboxSubscription subscription : subscriptionRepository.findAllById(webhooks.keySet())) {
+            Map<String, Object> webhook = new LinkedHashMap<>();
+            webhook.put("lastEventId", subscription.getLastEventId());
+            webhook.put("lag", maxId - subscription.getLastEventId());
+            webhook.put("delivered", subscription.getDelivered());
+            webhook.put("deadLettered", subscription.getDeadLettered());
+            webhook.put("attempts", subscription.getAttempts());
+            webhook.put("blocked", subscription.getAttempts() >= alertAfterAttempts);
+            webhook.put("nextAttemptAt", subscription.getNextAttemptAt());
+            webhook.put("lastError", subscription.getLastError());
+            webhook.put("leaseOwner", subscription.getLeaseOwner());
+            WebhookMetrics local = metrics.get(subscription.getWebhook());
+            if (local != null) {
+                webhook.put("local", local.toMap());
+            }
+            perWebhook.put(subscription.getWebhook(), webhook);
+        }
+        stats.put("webhooks", perWebhook);
+        return stats;
+    }
+
+    void dispatchAll() {
+        webhooks.forEach((name, target) -> {
+            try {
+                dispatch(name, target);
+            } catch (RuntimeException e) {
+                logger.warn("Outbox dispatch to {} failed: {}", name, e.toString());
+            }
+        });
+    }
+
+    private void dispatch(String name, WebhookProperties target) {
+        for (int batch = 0; batch < MAX_BATCHES_PER_POLL; batch++) {
+            LocalDateTime now = LocalDateTime.now();
+            if (subscriptionRepository.acquireLease(name, nodeId, now, now.plusSeconds(leaseSeconds)) == 0) {
+                return;
+            }
+            OutboxSubscription subscription = subscriptionRepository.findById(name).orElseThrow();
+            if (subscription.getNextAttemptAt() != null && subscription.getNextAttemptAt().isAfter(now)) {
+                return;
+            }
+            try {
+                if (batch == 0) {
+                    redeliverRequested(name, target);
+                }
+                if (!deliverNextBatch(name, target, subscription, now)) {
+                    return;
+                }
+            } catch (LeaseLostException e) {
+                logger.info("Outbox webhook {} taken over by another instance; dropping the batch", name);
+                return;
+            }
+        }
+    }
+
+    /** Delivers the batch after the cursor; true when a full batch went out and more may follow. */
+    private boolean deliverNextBatch(String name, WebhookProperties target, OutboxSubscription subscription,
+                                     LocalDateTime now) {
+        List<OutboxEvent> fetched = eventRepository.findByIdGreaterThanOrderByIdAsc(subscription.getLastEventId(),
+                PageRequest.of(0, batchSize));
+        List<OutboxEvent> events = beforeGap(subscription.getLastEventId(), fetched, now);
+        if (events.isEmpty()) {
+            return false;
+        }
+        Map<String, Boolean> parked = parkedAggregates(name, events);
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+        long lastEventId = events.get(events.size() - 1).getId();
+
+        Delivery delivery = deliverSplitting(name, target, events, parked, deadLetters);
+        if (delivery.result() == Result.RETRY) {
+            // the receiver is unavailable, not refusing the content: hold the cursor and retry
+            int attempts = subscription.getAttempts() + 1;
+            long backoff = Math.min(backoffMaxMs, backoffInitialMs << Math.min(attempts - 1, 20));
+            if (!outboxService.recordFailure(name, nodeId, subscription.getLastEventId(), delivery.error(),
+                    now.plusNanos(backoff * 1_000_000))) {
+                throw new LeaseLostException();
+            }
+            if (attempts >= alertAfterAttempts) {
+                logger.error("Outbox delivery to {} blocked at event {} after {} attempts, retrying in {} ms: {}",
+                        name, events.get(0).getId(), attempts, backoff, delivery.error());
+            } else {
+                logger.warn("Outbox delivery to {} failed (attempt {}), retrying in {} ms: {}", name, attempts,
+                        backoff, delivery.error());
+            }
+            return false;
+        }
+        if (!outboxService.advance(name, nodeId, subscription.getLastEventId(), lastEventId, delivery.delivered(),
+                deadLetters)) {
+            throw new LeaseLostException();
+        }
+        metrics(name).deadLettered.add(deadLetters.size());
+        recordSkippedIds(name, subscription.getLastEventId(), events);
+        return events.size() == fetched.size() && fetched.size() == batchSize;
+    }
+
+    /**
+     * Sends {@code events}, minus those of parked aggregates; on a rejection splits the batch
+     * in halves, in order, down to the single events the receiver refuses. Events of an
+     * aggregate dead-lettered in the first half are parked in the second.
+     */
+    Delivery deliverSplitting(String name, WebhookProperties target, List<OutboxEvent> events,
+                                      Map<String, Boolean> parked, List<OutboxDeadLetter> deadLetters) {
+        List<OutboxEvent> sendable = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            Boolean retry = parked.get(aggregateKey(event));
+            if (retry != null) {
+                deadLetters.add(toDeadLetter(name, event, PARKED, retry));
+            } else {
+                sendable.add(event);
+            }
+        }
+        if (sendable.isEmpty()) {
+            return new Delivery(Result.DELIVERED, null, 0);
+        }
+        Response response = send(name, target, sendable.stream().map(this::toMessage).toList());
+        if (response.result() != Result.REJECTED) {
+            return new Delivery(response.result(), response.error(),
+                    response.result() == Result.DELIVERED ? sendable.size() : 0);
+        }
+        if (sendable.size() == 1) {
+            OutboxEvent event = sendable.get(0);
+            logger.warn("Outbox webhook {} rejected event {}: {}", name, event.getId(), response.error());
+            deadLetters.add(toDeadLetter(name, event, "Rejected: " + response.error(), false));
+            parked.put(aggregateKey(event), false);
+            return new Delivery(Result.DELIVERED, null, 0);
+        }
+        int mid = sendable.size() / 2;
+        Delivery first = deliverSplitting(name, target, sendable.subList(0, mid), parked, deadLetters);
+        if (first.result() != Result.DELIVERED) {
+            return first;
+        }
+        Delivery second = deliverSplitting(name, target, sendable.subList(mid, sendable.size()), parked, deadLetters);
+        return second.result() != Result.DELIVERED ? second
+                : new Delivery(Result.DELIVERED, null, first.delivered() + second.delivered());
+    }
+
+    private void redeliverRequested(String name, WebhookProperties target) {
+        List<OutboxDeadLetter> letters = deadLetterRepository.findByWebhookAndRetryRequestedTrueOrderByEventIdAsc(
+                name, PageRequest.of(0, batchSize));
+        if (letters.isEmpty()) {
+            return;
+        }
+        List<Long> ids = letters.stream().map(OutboxDeadLetter::getId).toList();
+        Response response = send(name, target, letters.stream().map(this::toMessage).toList());
+        if (response.result() == Result.DELIVERED) {
+            outboxService.redelivered(name, ids);
+            logger.info("Redelivered {} dead letters to {}", ids.size(), name);
+        } else {
+            outboxService.redeliveryFailed(name, ids, response.error());
+            logger.warn("Redelivery of {} dead letters to {} failed: {}", ids.size(), name, response.error());
+        }
+    }
+
+    private Response send(String name, WebhookProperties target, List<OutboxMessageDTO> messages) {
+        Map<String, Object> batch = new LinkedHashMap<>();
+        batch.put("webhook", name);
+        batch.put("events", messages);
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(batch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox batch", e);
+        }
+        // a batch can take many requests; never send one without holding the lease for its timeout
+        if (subscriptionRepository.renewLease(name, nodeId, LocalDateTime.now().plusSeconds(leaseSeconds)) == 0) {
+            throw new LeaseLostException();
+        }
+        long start = System.nanoTime();
+        Response response = webhookClient.post(name, target, json, messages.size());
+        metrics(name).record(response, messages.size(), json.length, System.nanoTime() - start);
+        return response;
+    }
+
+    /**
+     * Ids come from AUTO_INCREMENT at insert, but transactions commit in any order: a
+     * missing id may belong to a transaction that has not committed yet. Stops before such a
+     * gap unless the event after it is older than {@code gap-timeout-ms}, by which time the
+     * missing id was rolled back rather than pending.
+     */
+    List<OutboxEvent> beforeGap(long after, List<OutboxEvent> events, LocalDateTime now) {
+        LocalDateTime settled = now.minusNanos(gapTimeoutMs * 1_000_000);
+        long expected = after + 1;
+        for (int i = 0; i < events.size(); i++) {
+            OutboxEvent event = events.get(i);
+            if (event.getId() != expected && event.getCreatedAt().isAfter(settled)) {
+                return events.subList(0, i);
+            }
+            expected = event.getId() + 1;
+        }
+        return events;
+    }
+
+    /**
+     * Logs the ids the cursor just moved past without an event. Outbox rows are inserted
+     * last before commit, so a commit slower than {@code gap-timeout-ms} should be rare, but
+     * its events would be lost for this webhook; the count makes that visible.
+     */
+    private void recordSkippedIds(String name, long after, List<OutboxEvent> events) {
+        long expected = after + 1;
+        for (OutboxEvent event : events) {
+            if (event.getId() != expected) {
+                long skipped = event.getId() - expected;
+                metrics(name).skippedIds.add(skipped);
+                logger.warn("Outbox webhook {} skipped ids {}..{}, missing for over {} ms", name, expected,
+                        event.getId() - 1, gapTimeoutMs);
+            }
+            expected = event.getId() + 1;
+        }
+    }
+
+    /** Aggregate key to whether its dead letters are being retried, for aggregates with any. */
+    private Map<String, Boolean> parkedAggregates(String name, List<OutboxEvent> events) {
+        Map<String, Boolean> parked = new HashMap<>();
+        List<Long> ids = events.stream().map(OutboxEvent::getAggregateId).distinct().toList();
+        for (Object[] row : deadLetterRepository.findParked(name, ids)) {
+            parked.merge(row[0] + ":" + row[1], (Boolean) row[2], Boolean::logicalOr);
+        }
+        return parked;
+    }
+
+    private WebhookMetrics metrics(String name) {
+        return metrics.computeIfAbsent(name, n -> new WebhookMetrics());
+    }
+
+    private static String aggregateKey(OutboxEvent event) {
+        return event.getAggregateType() + ":" + event.getAggregateId();
+    }
+
+    private OutboxDeadLetter toDeadLetter(String name, OutboxEvent event, String error, boolean retryRequested) {
+        return OutboxDeadLetter.builder()
+                .webhook(name)
+                .eventId(event.getId())
+                .aggregateType(event.getAggregateType())
+                .aggregateId(event.getAggregateId())
+                .changeType(event.getChangeType())
+                .payload(event.getPayload())
+                .eventCreatedAt(event.getCreatedAt())
+                .error(OutboxService.truncate(error))
+                .retryRequested(retryRequested)
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+    private OutboxMessageDTO toMessage(OutboxEvent event) {
+        return new OutboxMessageDTO(event.getId(), event.getAggregateType(), event.getAggregateId(),
+                event.getChangeType(), event.getCreatedAt(), event.getPayload());
+    }
+
+    private OutboxMessageDTO toMessage(OutboxDeadLetter letter) {
+        return new OutboxMessageDTO(letter.getEventId(), letter.getAggregateType(), letter.getAggregateId(),
+                letter.getChangeType(), letter.getEventCreatedAt(), letter.getPayload());
+    }
+
+    record Delivery(Result result, String error, int delivered) {
+    }
+
+    /** Another instance holds the webhook's lease or has moved its cursor. */
+    private static final class LeaseLostException extends RuntimeException {
+    }
+
+    /** This instance's delivery counters for one webhook; throughput is per second spent sending. */
+    private static final class WebhookMetrics {
+        final LongAdder requests = new LongAdder();
+        final LongAdder failedRequests = new LongAdder();
+        final LongAdder events = new LongAdder();
+        final LongAdder deadLettered = new LongAdder();
+        final LongAdder skippedIds = new LongAdder();
+        final LongAdder jsonBytes = new LongAdder();
+        final LongAdder gzipBytes = new LongAdder();
+        final LongAdder sendNanos = new LongAdder();
+
+        void record(Response response, int count, int rawBytes, long nanos) {
+            requests.increment();
+            sendNanos.add(nanos);
+            jsonBytes.add(rawBytes);
+            gzipBytes.add(response.compressedBytes());
+            if (response.result() == Result.DELIVERED) {
+                events.add(count);
+            } else {
+                failedRequests.increment();
+            }
+        }
+
+        Map<String, Object> toMap() {
+            long nanos = sendNanos.sum();
+            long raw = jsonBytes.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests.sum());
+            map.put("failedRequests", failedRequests.sum());
+            map.put("eventsDelivered", events.sum());
+            map.put("deadLettered", deadLettered.sum());
+            map.put("skippedIds", skippedIds.sum());
+            map.put("eventsPerSecond", nanos == 0 ? 0 : events.sum() * 1_000_000_000L / nanos);
+            map.put("avgRequestMillis", requests.sum() == 0 ? 0 : nanos / requests.sum() / 1_000_000);
+            map.put("jsonBytes", raw);
+            map.put("gzipBytes", gzipBytes.sum());
+            map.put("compressionRatio", raw == 0 ? 0 : Math.round(gzipBytes.sum() * 1000.0 / raw) / 1000.0);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.employeemanagement.outbox;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.zip.GZIPOutputStream;
+
+/** Posts gzipped JSON batches to webhooks and classifies the outcome. */
+@Component
+public class WebhookClient {
+
+    public enum Result {
+        DELIVERED,
+        /** Network error, timeout, 408, 429 or 5xx: the same batch is tried again later. */
+        RETRY,
+        /** Any other 4xx: the receiver refuses the content, so retrying it cannot help. */
+        REJECTED
+    }
+
+    public record Response(Result result, String error, int compressedBytes) {
+    }
+
+    @Value("${app.outbox.timeout-ms:5000}")
+    private long timeoutMs;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public Response post(String webhook, WebhookProperties target, byte[] json, int events) {
+        byte[] body = gzip(json);
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target.getUrl()))
+                .timeout(Duration.ofMillis(timeoutMs))
+                .header("Content-Type", "application/json")
+                .header("Content-Encoding", "gzip")
+                .header("X-Outbox-Webhook", webhook)
+                .header("X-Outbox-Events", String.valueOf(events))
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body));
+        if (target.getSecret() != null && !target.getSecret().isEmpty()) {
+            request.header("X-Outbox-Signature", "sha256=" + hmac(target.getSecret(), body));
+        }
+        try {
+            int status = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+            if (status >= 200 && status < 300) {
+                return new Response(Result.DELIVERED, null, body.length);
+            }
+            Result result = status == 408 || status == 429 || status >= 500 ? Result.RETRY : Result.REJECTED;
+            return new Response(result, "HTTP " + status, body.length);
+        } catch (IOException e) {
+            return new Response(Result.RETRY, e.toString(), body.length);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Response(Result.RETRY, "Interrupted", body.length);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hmac(String secret, byte[] body) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            return HexFormat.of().formatHex(mac.doFinal(body));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
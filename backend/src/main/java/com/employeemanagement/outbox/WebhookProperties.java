@@ -0,0 +1,13 @@
+package com.employeemanagement.outbox;
+
+import lombok.Data;
+
+/** One {@code app.outbox.webhooks.<name>} entry. */
+@Data
+public class WebhookProperties {
+
+    private String url;
+
+    /** When set, each request carries X-Outbox-Signature: sha256=HMAC of the gzipped body. */
+    private String secret;
+}
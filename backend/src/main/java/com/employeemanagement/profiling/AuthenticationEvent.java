@@ -0,0 +1,42 @@
+package com.employeemanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.employeemanagement.Authentication")
+@Label("Request Authentication")
+@Description("JWT authentication of one request in AuthTokenFilter, including the user lookup")
+@Category({"Employee Management", "Security"})
+@StackTrace(false)
+public class AuthenticationEvent extends Event {
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Username")
+    private String username;
+
+    @Label("Authenticated")
+    private boolean authenticated;
+
+    public static AuthenticationEvent start() {
+        AuthenticationEvent event = new AuthenticationEvent();
+        if (event.isEnabled()) {
+            event.endpoint = ProfilingSupport.currentEndpoint();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(String username, boolean authenticated) {
+        if (isEnabled()) {
+            this.username = username;
+            this.authenticated = authenticated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.employeemanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.employeemanagement.Jwt")
+@Label("JWT Operation")
+@Category({"Employee Management", "Security"})
+@StackTrace(false)
+public class JwtEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Success")
+    private boolean success;
+
+    public static JwtEvent start(String operation) {
+        JwtEvent event = new JwtEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.endpoint = ProfilingSupport.currentEndpoint();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(boolean success) {
+        if (isEnabled()) {
+            this.success = success;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.employeemanagement.profiling;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+final class ProfilingSupport {
+
+    private ProfilingSupport() {
+    }
+
+    static String currentEndpoint() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servlet) {
+            HttpServletRequest request = servlet.getRequest();
+            return request.getMethod() + " " + request.getRequestURI();
+        }
+        return "background";
+    }
+}
@@ -0,0 +1,50 @@
+package com.employeemanagement.profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.employeemanagement.ServiceCall")
+@Label("Service Call")
+@Description("A service-layer read or write, with the endpoint that triggered it")
+@Category({"Employee Management", "Service"})
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Operation")
+    private String operation;
+
+    @Label("Endpoint")
+    private String endpoint;
+
+    @Label("Rows")
+    private long rows;
+
+    @Label("Cache Hit")
+    private boolean cacheHit;
+
+    public static ServiceCallEvent start(String operation) {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (event.isEnabled()) {
+            event.operation = operation;
+            event.endpoint = ProfilingSupport.currentEndpoint();
+            event.begin();
+        }
+        return event;
+    }
+
+    public void finish(long rows, boolean cacheHit) {
+        if (isEnabled()) {
+            this.rows = rows;
+            this.cacheHit = cacheHit;
+            commit();
+        }
+    }
+
+    public void finish(long rows) {
+        finish(rows, false);
+    }
+}
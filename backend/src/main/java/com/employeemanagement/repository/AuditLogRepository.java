@@ -0,0 +1,28 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.AuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+
+    @Query("SELECT a FROM AuditLog a WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:entityId IS NULL OR a.entityId = :entityId) AND " +
+           "(:from IS NULL OR a.occurredAt >= :from) AND " +
+           "(:to IS NULL OR a.occurredAt < :to)")
+    Page<AuditLog> search(
+        @Param("entityType") String entityType,
+        @Param("entityId") Long entityId,
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        Pageable pageable
+    );
+}
@@ -0,0 +1,25 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.ChangeNotification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ChangeNotificationRepository extends JpaRepository<ChangeNotification, Long> {
+
+    List<ChangeNotification> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(n.id), 0) FROM ChangeNotification n")
+    long findMaxId();
+
+    @Modifying
+    @Query("DELETE FROM ChangeNotification n WHERE n.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -4,6 +4,7 @@ import com.employeemanagement.entity.Department;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +13,5 @@ public interface DepartmentRepository extends JpaRepository<Department, Long> {
     Optional<Department> findByName(String name);
     boolean existsByName(String name);
     List<Department> findByNameContainingIgnoreCase(String name);
+    long countByCreatedAtLessThanEqual(LocalDateTime at);
 }
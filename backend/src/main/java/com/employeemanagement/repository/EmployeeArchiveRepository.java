@@ -0,0 +1,45 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.EmployeeArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface EmployeeArchiveRepository extends JpaRepository<EmployeeArchive, Long> {
+
+    boolean existsByEmail(String email);
+
+    boolean existsByEmployeeId(String employeeId);
+
+    @Modifying
+    @Query(value = "INSERT INTO employees_archive (id, employee_id, first_name, last_name, email, phone, department_id, " +
+           "manager_id, salary, joining_date, status, profile_image, address, created_at, updated_at, archived_at) " +
+           "SELECT id, employee_id, first_name, last_name, email, phone, department_id, manager_id, salary, " +
+           "joining_date, status, profile_image, address, created_at, updated_at, :now " +
+           "FROM employees WHERE id IN (:ids)", nativeQuery = true)
+    int copyFromEmployees(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Copies an archived row back under its id. A department or manager that no longer
+     * exists is dropped; updated_at restarts so the row is not archived again at once.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employees (id, employee_id, first_name, last_name, email, phone, department_id, " +
+           "manager_id, salary, joining_date, status, profile_image, address, created_at, updated_at) " +
+           "SELECT a.id, a.employee_id, a.first_name, a.last_name, a.email, a.phone, d.id, m.id, a.salary, " +
+           "a.joining_date, a.status, a.profile_image, a.address, a.created_at, :now " +
+           "FROM employees_archive a LEFT JOIN departments d ON d.id = a.department_id " +
+           "LEFT JOIN employees m ON m.id = a.manager_id WHERE a.id = :id", nativeQuery = true)
+    int copyToEmployees(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /** InnoDB's estimate of a table's data plus index size, from table statistics. */
+    @Query(value = "SELECT COALESCE(data_length + index_length, 0) FROM information_schema.tables " +
+           "WHERE table_schema = DATABASE() AND table_name = :table", nativeQuery = true)
+    Long tableSizeBytes(@Param("table") String table);
+}
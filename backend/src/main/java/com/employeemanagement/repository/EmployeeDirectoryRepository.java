@@ -0,0 +1,36 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeDirectoryEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EmployeeDirectoryRepository extends JpaRepository<EmployeeDirectoryEntry, Long> {
+
+    /** Same filters as {@code EmployeeRepository.findWithFilters}, over both tiers; rows are (entry, department name). */
+    @Query(value = "SELECT e, d.name FROM EmployeeDirectoryEntry e LEFT JOIN Department d ON d.id = e.departmentId WHERE " +
+           "(:search IS NULL OR LOWER(e.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.employeeId) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:departmentId IS NULL OR e.departmentId = :departmentId) AND " +
+           "(:status IS NULL OR e.status = :status)",
+           countQuery = "SELECT COUNT(e) FROM EmployeeDirectoryEntry e WHERE " +
+           "(:search IS NULL OR LOWER(e.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+           "LOWER(e.employeeId) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+           "(:departmentId IS NULL OR e.departmentId = :departmentId) AND " +
+           "(:status IS NULL OR e.status = :status)")
+    Page<Object[]> findWithFilters(
+        @Param("search") String search,
+        @Param("departmentId") Long departmentId,
+        @Param("status") EmployeeStatus status,
+        Pageable pageable
+    );
+}
@@ -0,0 +1,22 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Employee listing from {@code employee_list_view} that selects only the requested fields,
+ * so sparse fieldsets skip columns the client did not ask for.
+ */
+public interface EmployeeFieldsRepository {
+
+    List<String> FIELDS = List.of("id", "employeeId", "firstName", "lastName", "email", "phone",
+            "departmentId", "departmentName", "managerId", "managerName", "salary", "joiningDate", "status",
+            "profileImage", "address");
+
+    /** Same filters as findWithFilters; each row holds the values of {@code fields} in order. */
+    Page<Object[]> findFields(List<String> fields, String search, Long departmentId, EmployeeStatus status,
+                              Pageable pageable);
+}
@@ -0,0 +1,69 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/** Reads {@code employee_list_view}, where every field is a column of the row: no joins. */
+public class EmployeeFieldsRepositoryImpl implements EmployeeFieldsRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<Object[]> findFields(List<String> fields, String search, Long departmentId, EmployeeStatus status,
+                                     Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<EmployeeListRow> r = query.from(EmployeeListRow.class);
+
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            selections.add(r.get(field));
+        }
+        query.multiselect(selections)
+                .where(filters(cb, r, search, departmentId, status))
+                .orderBy(QueryUtils.toOrders(pageable.getSort(), r, cb));
+
+        List<Object[]> rows = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList().stream()
+                .map(Tuple::toArray)
+                .toList();
+
+        return PageableExecutionUtils.getPage(rows, pageable, () -> {
+            CriteriaQuery<Long> count = cb.createQuery(Long.class);
+            Root<EmployeeListRow> c = count.from(EmployeeListRow.class);
+            count.select(cb.count(c)).where(filters(cb, c, search, departmentId, status));
+            return entityManager.createQuery(count).getSingleResult();
+        });
+    }
+
+    /** Same filters as {@link EmployeeListRowRepository#findWithFilters}. */
+    private Predicate[] filters(CriteriaBuilder cb, Root<EmployeeListRow> r, String search, Long departmentId,
+                                EmployeeStatus status) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (search != null) {
+            predicates.add(cb.like(r.get("searchKey"), "%" + search.toLowerCase(Locale.ROOT) + "%"));
+        }
+        if (departmentId != null) {
+            predicates.add(cb.equal(r.get("departmentId"), departmentId));
+        }
+        if (status != null) {
+            predicates.add(cb.equal(r.get("status"), status));
+        }
+        return predicates.toArray(new Predicate[0]);
+    }
+}
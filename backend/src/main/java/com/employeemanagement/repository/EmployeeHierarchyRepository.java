@@ -0,0 +1,68 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.EmployeeHierarchy;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface EmployeeHierarchyRepository extends JpaRepository<EmployeeHierarchy, EmployeeHierarchy.Key> {
+
+    /** Self row plus one row per ancestor of the new manager. */
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT :employeeId, :employeeId, 0 " +
+                   "UNION ALL " +
+                   "SELECT ancestor_id, :employeeId, depth + 1 FROM employee_hierarchy WHERE descendant_id = :managerId",
+           nativeQuery = true)
+    int attach(@Param("employeeId") Long employeeId, @Param("managerId") Long managerId);
+
+    /** Cuts the subtree rooted at :rootId loose from all of its current ancestors. */
+    @Modifying
+    @Query(value = "DELETE link FROM employee_hierarchy link " +
+                   "JOIN employee_hierarchy sub ON sub.descendant_id = link.descendant_id AND sub.ancestor_id = :rootId " +
+                   "JOIN employee_hierarchy sup ON sup.descendant_id = :rootId AND sup.ancestor_id = link.ancestor_id " +
+                   "WHERE sup.depth > 0",
+           nativeQuery = true)
+    int detachSubtree(@Param("rootId") Long rootId);
+
+    /** Links every node of the subtree rooted at :rootId under :managerId and all of its ancestors. */
+    @Modifying
+    @Query(value = "INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth) " +
+                   "SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1 " +
+                   "FROM employee_hierarchy sup JOIN employee_hierarchy sub " +
+                   "ON sup.descendant_id = :managerId AND sub.ancestor_id = :rootId",
+           nativeQuery = true)
+    int attachSubtree(@Param("rootId") Long rootId, @Param("managerId") Long managerId);
+
+    boolean existsByIdAncestorIdAndIdDescendantId(Long ancestorId, Long descendantId);
+
+    @Query(value = "SELECT e FROM EmployeeHierarchy h JOIN Employee e ON e.id = h.id.descendantId " +
+                   "LEFT JOIN FETCH e.department LEFT JOIN FETCH e.manager " +
+                   "WHERE h.id.ancestorId = :managerId AND h.depth BETWEEN 1 AND :maxDepth " +
+                   "ORDER BY h.depth, e.id",
+           countQuery = "SELECT COUNT(h) FROM EmployeeHierarchy h " +
+                        "WHERE h.id.ancestorId = :managerId AND h.depth BETWEEN 1 AND :maxDepth")
+    Page<Employee> findReports(@Param("managerId") Long managerId, @Param("maxDepth") int maxDepth,
+                               Pageable pageable);
+
+    @Query("SELECT e FROM EmployeeHierarchy h JOIN Employee e ON e.id = h.id.ancestorId " +
+           "LEFT JOIN FETCH e.department " +
+           "WHERE h.id.descendantId = :employeeId AND h.depth > 0 ORDER BY h.depth")
+    List<Employee> findChainOfCommand(@Param("employeeId") Long employeeId);
+
+    /** Per-department aggregates over everyone below :managerId. */
+    @Query("SELECT d.name, COUNT(e), " +
+           "SUM(CASE WHEN e.status = com.employeemanagement.entity.Employee.EmployeeStatus.ACTIVE THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN h.depth = 1 THEN 1 ELSE 0 END), MAX(h.depth), SUM(e.salary), COUNT(e.salary) " +
+           "FROM EmployeeHierarchy h JOIN Employee e ON e.id = h.id.descendantId LEFT JOIN e.department d " +
+           "WHERE h.id.ancestorId = :managerId AND h.depth > 0 GROUP BY d.name")
+    List<Object[]> aggregateSubtree(@Param("managerId") Long managerId);
+}
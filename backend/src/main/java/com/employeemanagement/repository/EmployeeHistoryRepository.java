@@ -0,0 +1,77 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmployeeHistoryRepository extends JpaRepository<EmployeeHistory, Long> {
+
+    @Modifying
+    @Query("UPDATE EmployeeHistory h SET h.validTo = :at WHERE h.entityId = :entityId AND h.validTo = :openEnd")
+    int closeCurrent(@Param("entityId") Long entityId, @Param("at") LocalDateTime at,
+                     @Param("openEnd") LocalDateTime openEnd);
+
+    @Modifying
+    @Query("UPDATE EmployeeHistory h SET h.validTo = :at WHERE h.entityId IN :entityIds AND h.validTo = :openEnd")
+    int closeCurrentIn(@Param("entityIds") Collection<Long> entityIds, @Param("at") LocalDateTime at,
+                       @Param("openEnd") LocalDateTime openEnd);
+
+    /** Opens a version at :at for each employee from its current row, in one statement. */
+    @Modifying
+    @Query(value = "INSERT INTO employee_history (entity_id, employee_id, first_name, last_name, email, department_id, " +
+                   "manager_id, salary, joining_date, status, valid_from, valid_to, recorded_at) " +
+                   "SELECT id, employee_id, first_name, last_name, email, department_id, manager_id, salary, " +
+                   "joining_date, status, :at, :openEnd, :at FROM employees WHERE id IN :entityIds",
+           nativeQuery = true)
+    int insertCurrentFromEmployees(@Param("entityIds") Collection<Long> entityIds, @Param("at") LocalDateTime at,
+                                   @Param("openEnd") LocalDateTime openEnd);
+
+    List<EmployeeHistory> findByEntityIdOrderByValidFromAsc(Long entityId);
+
+    /** Same filters as EmployeeRepository.findWithFilters, over the versions valid at :asOf. */
+    @Query(value = "SELECT h, d.name, CONCAT(m.firstName, ' ', m.lastName) FROM EmployeeHistory h " +
+                   "LEFT JOIN Department d ON d.id = h.departmentId " +
+                   "LEFT JOIN Employee m ON m.id = h.managerId " +
+                   "WHERE h.validTo > :asOf AND h.validFrom <= :asOf AND " +
+                   "(:search IS NULL OR LOWER(h.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                   "LOWER(h.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                   "LOWER(h.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                   "LOWER(h.employeeId) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+                   "(:departmentId IS NULL OR h.departmentId = :departmentId) AND " +
+                   "(:status IS NULL OR h.status = :status)",
+           countQuery = "SELECT COUNT(h) FROM EmployeeHistory h " +
+                        "WHERE h.validTo > :asOf AND h.validFrom <= :asOf AND " +
+                        "(:search IS NULL OR LOWER(h.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                        "LOWER(h.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                        "LOWER(h.email) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
+                        "LOWER(h.employeeId) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
+                        "(:departmentId IS NULL OR h.departmentId = :departmentId) AND " +
+                        "(:status IS NULL OR h.status = :status)")
+    Page<Object[]> findAsOf(@Param("asOf") LocalDateTime asOf,
+                            @Param("search") String search,
+                            @Param("departmentId") Long departmentId,
+                            @Param("status") EmployeeStatus status,
+                            Pageable pageable);
+
+    /** Dashboard aggregates at :asOf: (department name, status, count, salary sum, salary count). */
+    @Query("SELECT d.name, h.status, COUNT(h), SUM(h.salary), COUNT(h.salary) FROM EmployeeHistory h " +
+           "LEFT JOIN Department d ON d.id = h.departmentId " +
+           "WHERE h.validTo > :asOf AND h.validFrom <= :asOf GROUP BY d.name, h.status")
+    List<Object[]> aggregateAsOf(@Param("asOf") LocalDateTime asOf);
+
+    @Query("SELECT COUNT(h) FROM EmployeeHistory h " +
+           "WHERE h.validTo > :asOf AND h.validFrom <= :asOf AND h.joiningDate >= :since")
+    long countJoinedSinceAsOf(@Param("asOf") LocalDateTime asOf, @Param("since") LocalDate since);
+}
@@ -0,0 +1,66 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeListRow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EmployeeListRowRepository extends JpaRepository<EmployeeListRow, Long>, EmployeeFieldsRepository {
+
+    /** {@code search} must already be lowercased. */
+    @Query("SELECT r FROM EmployeeListRow r WHERE " +
+           "(:search IS NULL OR r.searchKey LIKE CONCAT('%', :search, '%')) AND " +
+           "(:departmentId IS NULL OR r.departmentId = :departmentId) AND " +
+           "(:status IS NULL OR r.status = :status)")
+    Page<EmployeeListRow> findWithFilters(
+        @Param("search") String search,
+        @Param("departmentId") Long departmentId,
+        @Param("status") EmployeeStatus status,
+        Pageable pageable
+    );
+
+    /**
+     * Search-matched rows grouped by every facet at once; filters are applied in memory.
+     * {@code search} must already be lowercased.
+     */
+    @Query("SELECT r.departmentId, r.departmentName, r.status, YEAR(r.joiningDate), COUNT(r) FROM EmployeeListRow r " +
+           "WHERE (:search IS NULL OR r.searchKey LIKE CONCAT('%', :search, '%')) " +
+           "GROUP BY r.departmentId, r.departmentName, r.status, YEAR(r.joiningDate)")
+    List<Object[]> aggregateFacets(@Param("search") String search);
+
+    @Modifying
+    @Query("UPDATE EmployeeListRow r SET r.departmentName = :name WHERE r.departmentId = :departmentId")
+    int renameDepartment(@Param("departmentId") Long departmentId, @Param("name") String name);
+
+    @Modifying
+    @Query("UPDATE EmployeeListRow r SET r.managerName = :name WHERE r.managerId = :managerId")
+    int renameManager(@Param("managerId") Long managerId, @Param("name") String name);
+
+    @Modifying
+    @Query(value = "UPDATE employee_list_view v JOIN employees e ON e.id = v.id SET v.salary = e.salary " +
+           "WHERE v.id IN :ids", nativeQuery = true)
+    int refreshSalaries(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "DELETE FROM employee_list_view", nativeQuery = true)
+    int deleteAllRows();
+
+    @Modifying
+    @Query(value = "INSERT INTO employee_list_view (id, employee_id, first_name, last_name, email, phone, department_id, " +
+           "department_name, manager_id, manager_name, salary, joining_date, status, profile_image, address, search_key) " +
+           "SELECT e.id, e.employee_id, e.first_name, e.last_name, e.email, e.phone, d.id, d.name, " +
+           "m.id, CONCAT(m.first_name, ' ', m.last_name), e.salary, e.joining_date, e.status, e.profile_image, e.address, " +
+           "LOWER(CONCAT_WS(CHAR(31 USING utf8mb4), e.employee_id, e.first_name, e.last_name, e.email)) " +
+           "FROM employees e LEFT JOIN departments d ON d.id = e.department_id " +
+           "LEFT JOIN employees m ON m.id = e.manager_id", nativeQuery = true)
+    int insertAllFromEmployees();
+}
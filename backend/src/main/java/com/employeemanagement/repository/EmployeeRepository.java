@@ -2,15 +2,24 @@ package com.employeemanagement.repository;
 
 import com.employeemanagement.entity.Employee;
 import com.employeemanagement.entity.Employee.EmployeeStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
@@ -22,6 +31,7 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
     Page<Employee> findByStatus(EmployeeStatus status, Pageable pageable);
 
+    @EntityGraph(attributePaths = {"department", "manager"})
     @Query("SELECT e FROM Employee e WHERE " +
            "(:search IS NULL OR LOWER(e.firstName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
            "LOWER(e.lastName) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
@@ -42,4 +52,90 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     List<Object[]> countByDepartment();
 
     List<Employee> findByDepartmentId(Long departmentId);
+
+    @Query("SELECT e.id FROM Employee e WHERE e.department.id = :departmentId ORDER BY e.id")
+    List<Long> findIdsByDepartmentId(@Param("departmentId") Long departmentId);
+
+    List<Employee> findByManagerId(Long managerId);
+
+    @EntityGraph(attributePaths = {"department", "manager"})
+    List<Employee> findByIdIn(Collection<Long> ids);
+
+    /**
+     * Locks the next archival batch: INACTIVE, untouched since the cutoff and managing
+     * nobody. SKIP LOCKED lets instances archive in parallel without waiting on each other.
+     */
+    @Query(value = "SELECT e.id FROM employees e WHERE e.status = 'INACTIVE' " +
+           "AND (e.updated_at IS NULL OR e.updated_at < :cutoff) " +
+           "AND NOT EXISTS (SELECT 1 FROM employees r WHERE r.manager_id = e.id) " +
+           "ORDER BY e.id LIMIT :limit FOR UPDATE OF e SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchiveCandidates(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Next keyset chunk of employees with a salary for a salary revision, locked until the
+     * chunk commits. Employees that already have an item of the revision are skipped, so a
+     * resumed apply never raises anyone twice. Rows are [id, department_id, status, salary].
+     */
+    @Query(value = "SELECT e.id, e.department_id, e.status, e.salary FROM employees e " +
+           "WHERE e.id > :afterId AND e.salary IS NOT NULL AND NOT EXISTS (SELECT 1 FROM salary_revision_items i " +
+           "WHERE i.revision_id = :revisionId AND i.entity_id = e.id) " +
+           "ORDER BY e.id LIMIT :limit FOR UPDATE", nativeQuery = true)
+    List<Object[]> lockRevisionCandidates(@Param("revisionId") Long revisionId, @Param("afterId") long afterId,
+                                          @Param("limit") int limit);
+
+    long countBySalaryIsNotNull();
+
+    @Query(value = "SELECT COUNT(*) FROM employees e WHERE e.status = 'INACTIVE' " +
+           "AND (e.updated_at IS NULL OR e.updated_at < :cutoff) " +
+           "AND NOT EXISTS (SELECT 1 FROM employees r WHERE r.manager_id = e.id)", nativeQuery = true)
+    long countArchiveCandidates(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Employee e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+    long countByJoiningDateGreaterThanEqual(LocalDate date);
+
+    @Query("SELECT AVG(e.salary) FROM Employee e WHERE e.salary IS NOT NULL")
+    Double averageSalary();
+
+    @Query("SELECT e.id, d.id, e.salary FROM Employee e LEFT JOIN e.department d WHERE e.salary IS NOT NULL")
+    List<Object[]> findSalaryColumn();
+
+    @Query("SELECT e.id, d.id, e.status, e.joiningDate, e.salary FROM Employee e LEFT JOIN e.department d")
+    List<Object[]> findAnalyticsColumns();
+
+    /**
+     * Streams every employee for report generation; the MIN_VALUE fetch size makes
+     * Connector/J stream rows instead of buffering the result. Needs an open transaction.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT e.employeeId, e.firstName, e.lastName, d.id, d.name, e.status, e.joiningDate, e.salary " +
+           "FROM Employee e LEFT JOIN e.department d")
+    Stream<Object[]> streamPayrollColumns();
+
+    @Query("SELECT e.id, e.employeeId, e.firstName, e.lastName, e.email, d.id FROM Employee e LEFT JOIN e.department d")
+    List<Object[]> findSuggestColumns();
+
+    /**
+     * Typeahead fallback: {@code prefix} (LIKE-escaped with '!', ending in %) on each indexed
+     * column, or "first last" as an exact first name plus a last name prefix.
+     */
+    @Query("SELECT e.id, e.employeeId, e.firstName, e.lastName, e.email, d.name FROM Employee e " +
+           "LEFT JOIN e.department d WHERE e.employeeId LIKE :prefix ESCAPE '!' " +
+           "OR e.firstName LIKE :prefix ESCAPE '!' OR e.lastName LIKE :prefix ESCAPE '!' " +
+           "OR e.email LIKE :prefix ESCAPE '!' " +
+           "OR (e.firstName = :firstName AND e.lastName LIKE :lastNamePrefix ESCAPE '!') " +
+           "ORDER BY e.firstName, e.lastName, e.id")
+    List<Object[]> findSuggestMatches(@Param("prefix") String prefix, @Param("firstName") String firstName,
+                                      @Param("lastNamePrefix") String lastNamePrefix, Pageable pageable);
+
+    @Query("SELECT d.id, d.name, e.status, COUNT(e), SUM(e.salary), COUNT(e.salary) " +
+           "FROM Employee e LEFT JOIN e.department d GROUP BY d.id, d.name, e.status")
+    List<Object[]> aggregateByDepartmentAndStatus();
+
+    @Query("SELECT d.id, d.name, e.status, e.joiningDate, COUNT(e), SUM(e.salary), COUNT(e.salary) " +
+           "FROM Employee e LEFT JOIN e.department d " +
+           "GROUP BY d.id, d.name, e.status, e.joiningDate ORDER BY e.joiningDate")
+    List<Object[]> aggregateByDepartmentStatusAndJoiningDate();
 }
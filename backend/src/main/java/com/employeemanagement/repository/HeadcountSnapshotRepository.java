@@ -0,0 +1,27 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.HeadcountSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface HeadcountSnapshotRepository extends JpaRepository<HeadcountSnapshot, Long> {
+
+    List<HeadcountSnapshot> findBySnapshotDateBetweenOrderBySnapshotDateAsc(LocalDate from, LocalDate to);
+
+    List<HeadcountSnapshot> findBySnapshotDateBetweenAndDepartmentIdOrderBySnapshotDateAsc(
+            LocalDate from, LocalDate to, Long departmentId);
+
+    @Query("SELECT DISTINCT s.snapshotDate FROM HeadcountSnapshot s WHERE s.snapshotDate BETWEEN :from AND :to")
+    List<LocalDate> findSnapshotDatesBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Modifying
+    @Query("DELETE FROM HeadcountSnapshot s WHERE s.snapshotDate BETWEEN :from AND :to")
+    int deleteBySnapshotDateBetween(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,98 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Job;
+import com.employeemanagement.entity.Job.JobStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * State transitions are conditional UPDATEs so that two instances racing for the same job
+ * (claim) or a finished job racing a cancel never both win.
+ */
+@Repository
+public interface JobRepository extends JpaRepository<Job, Long> {
+
+    Page<Job> findByStatus(JobStatus status, Pageable pageable);
+
+    boolean existsByTypeAndStatusIn(String type, Collection<JobStatus> statuses);
+
+    Optional<Job> findFirstByTypeAndStatusOrderByIdDesc(String type, JobStatus status);
+
+    List<Job> findByStatusOrderByPriorityAscIdAsc(JobStatus status, Pageable pageable);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :running, j.ownerNode = :node, j.startedAt = :now, j.heartbeatAt = :now, " +
+           "j.attempts = j.attempts + 1 WHERE j.id = :id AND j.status = :queued AND j.cancelRequested = false")
+    int claim(@Param("id") Long id, @Param("node") String node, @Param("now") LocalDateTime now,
+              @Param("queued") JobStatus queued, @Param("running") JobStatus running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.processed = :processed, j.total = :total, j.checkpoint = :checkpoint, " +
+           "j.result = COALESCE(:result, j.result), j.heartbeatAt = :now " +
+           "WHERE j.id = :id AND j.ownerNode = :node AND j.status = :running")
+    int heartbeat(@Param("id") Long id, @Param("node") String node, @Param("processed") long processed,
+                  @Param("total") Long total, @Param("checkpoint") Long checkpoint, @Param("result") String result,
+                  @Param("now") LocalDateTime now, @Param("running") JobStatus running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :status, j.processed = :processed, j.total = :total, " +
+           "j.result = COALESCE(:result, j.result), j.error = :error, j.finishedAt = :now " +
+           "WHERE j.id = :id AND j.ownerNode = :node AND j.status = :running")
+    int finish(@Param("id") Long id, @Param("node") String node, @Param("status") JobStatus status,
+               @Param("processed") long processed, @Param("total") Long total, @Param("result") String result,
+               @Param("error") String error, @Param("now") LocalDateTime now, @Param("running") JobStatus running);
+
+    /** Hands a job back to the queue on shutdown without counting the attempt. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :queued, j.ownerNode = NULL, j.checkpoint = :checkpoint, " +
+           "j.processed = :processed, j.attempts = j.attempts - 1 " +
+           "WHERE j.id = :id AND j.ownerNode = :node AND j.status = :running")
+    int release(@Param("id") Long id, @Param("node") String node, @Param("checkpoint") Long checkpoint,
+                @Param("processed") long processed, @Param("queued") JobStatus queued,
+                @Param("running") JobStatus running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :queued, j.ownerNode = NULL " +
+           "WHERE j.status = :running AND j.heartbeatAt < :cutoff AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+                     @Param("queued") JobStatus queued, @Param("running") JobStatus running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :failed, j.error = :error, j.finishedAt = :now " +
+           "WHERE j.status = :running AND j.heartbeatAt < :cutoff AND j.attempts >= :maxAttempts")
+    int failStale(@Param("cutoff") LocalDateTime cutoff, @Param("maxAttempts") int maxAttempts,
+                  @Param("error") String error, @Param("now") LocalDateTime now,
+                  @Param("failed") JobStatus failed, @Param("running") JobStatus running);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.status = :cancelled, j.cancelRequested = true, j.finishedAt = :now " +
+           "WHERE j.id = :id AND j.status = :queued")
+    int cancelQueued(@Param("id") Long id, @Param("now") LocalDateTime now,
+                     @Param("queued") JobStatus queued, @Param("cancelled") JobStatus cancelled);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE Job j SET j.cancelRequested = true WHERE j.id = :id AND j.status = :running")
+    int requestCancel(@Param("id") Long id, @Param("running") JobStatus running);
+
+    @Query("SELECT j.id FROM Job j WHERE j.id IN :ids AND j.cancelRequested = true")
+    List<Long> findCancelRequested(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,45 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.OutboxDeadLetter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+
+    Page<OutboxDeadLetter> findByWebhook(String webhook, Pageable pageable);
+
+    List<OutboxDeadLetter> findByWebhookAndRetryRequestedTrueOrderByEventIdAsc(String webhook, Pageable pageable);
+
+    long countByWebhook(String webhook);
+
+    /** (aggregateType, aggregateId, retryRequested) of the dead letters among {@code aggregateIds}. */
+    @Query("SELECT d.aggregateType, d.aggregateId, d.retryRequested FROM OutboxDeadLetter d " +
+           "WHERE d.webhook = :webhook AND d.aggregateId IN :aggregateIds")
+    List<Object[]> findParked(@Param("webhook") String webhook,
+                              @Param("aggregateIds") Collection<Long> aggregateIds);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxDeadLetter d SET d.retryRequested = true WHERE d.webhook = :webhook")
+    int requestRetry(@Param("webhook") String webhook);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxDeadLetter d SET d.retryRequested = false WHERE d.webhook = :webhook")
+    int cancelRetry(@Param("webhook") String webhook);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxDeadLetter d SET d.error = :error WHERE d.id IN :ids")
+    int recordError(@Param("ids") Collection<Long> ids, @Param("error") String error);
+}
@@ -0,0 +1,14 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.OutboxEvent;
+
+import java.util.List;
+
+/**
+ * Multi-row inserts of outbox events. With IDENTITY ids Hibernate cannot batch inserts,
+ * so a salary revision chunk would otherwise append its events one statement at a time.
+ */
+public interface OutboxEventInserts {
+
+    void insertAll(List<OutboxEvent> events);
+}
@@ -0,0 +1,38 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.OutboxEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+public class OutboxEventInsertsImpl implements OutboxEventInserts {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<OutboxEvent> events) {
+        for (int from = 0; from < events.size(); from += ROWS_PER_STATEMENT) {
+            List<OutboxEvent> part = events.subList(from, Math.min(events.size(), from + ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder("INSERT INTO outbox_events " +
+                    "(aggregate_type, aggregate_id, change_type, payload, created_at) VALUES ");
+            for (int i = 0; i < part.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?)");
+            }
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int p = 1;
+            for (OutboxEvent event : part) {
+                query.setParameter(p++, event.getAggregateType());
+                query.setParameter(p++, event.getAggregateId());
+                query.setParameter(p++, event.getChangeType().name());
+                query.setParameter(p++, event.getPayload());
+                query.setParameter(p++, event.getCreatedAt());
+            }
+            query.executeUpdate();
+        }
+    }
+}
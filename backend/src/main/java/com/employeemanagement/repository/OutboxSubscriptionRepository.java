@@ -0,0 +1,75 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.OutboxSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+/**
+ * A webhook is dispatched by whichever instance holds its lease; the lease is taken with a
+ * conditional UPDATE, so two instances never deliver the same webhook at once.
+ */
+@Repository
+public interface OutboxSubscriptionRepository extends JpaRepository<OutboxSubscription, String> {
+
+    /** A new webhook starts at the current end of the outbox, not at its beginning. */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT IGNORE INTO outbox_subscriptions (webhook, last_event_id, attempts, delivered, " +
+                   "dead_lettered, updated_at) VALUES (:webhook, :lastEventId, 0, 0, 0, :now)", nativeQuery = true)
+    int register(@Param("webhook") String webhook, @Param("lastEventId") long lastEventId,
+                 @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxSubscription s SET s.leaseOwner = :node, s.leaseUntil = :until WHERE s.webhook = :webhook " +
+           "AND (s.leaseOwner IS NULL OR s.leaseOwner = :node OR s.leaseUntil < :now)")
+    int acquireLease(@Param("webhook") String webhook, @Param("node") String node, @Param("now") LocalDateTime now,
+                     @Param("until") LocalDateTime until);
+
+    /** Extends this node's lease; 0 once another instance has taken it over. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxSubscription s SET s.leaseUntil = :until WHERE s.webhook = :webhook AND s.leaseOwner = :node")
+    int renewLease(@Param("webhook") String webhook, @Param("node") String node, @Param("until") LocalDateTime until);
+
+    /**
+     * Moves the cursor from {@code expected} to {@code lastEventId}; 0 when this node lost the
+     * lease or another instance already moved the cursor, and the batch must be dropped.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxSubscription s SET s.lastEventId = :lastEventId, s.attempts = 0, s.nextAttemptAt = NULL, " +
+           "s.lastError = :error, s.delivered = s.delivered + :delivered, " +
+           "s.deadLettered = s.deadLettered + :deadLettered, s.updatedAt = :now " +
+           "WHERE s.webhook = :webhook AND s.leaseOwner = :node AND s.lastEventId = :expected")
+    int advance(@Param("webhook") String webhook, @Param("node") String node, @Param("expected") long expected,
+                @Param("lastEventId") long lastEventId, @Param("delivered") long delivered,
+                @Param("deadLettered") long deadLettered, @Param("error") String error,
+                @Param("now") LocalDateTime now);
+
+    /** Same conditions as {@link #advance}. */
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxSubscription s SET s.attempts = s.attempts + 1, s.nextAttemptAt = :nextAttemptAt, " +
+           "s.lastError = :error, s.updatedAt = :now " +
+           "WHERE s.webhook = :webhook AND s.leaseOwner = :node AND s.lastEventId = :expected")
+    int recordFailure(@Param("webhook") String webhook, @Param("node") String node, @Param("expected") long expected,
+                      @Param("error") String error, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxSubscription s SET s.leaseOwner = NULL, s.leaseUntil = NULL " +
+           "WHERE s.webhook = :webhook AND s.leaseOwner = :node")
+    int releaseLease(@Param("webhook") String webhook, @Param("node") String node);
+
+    @Query("SELECT MIN(s.lastEventId) FROM OutboxSubscription s WHERE s.webhook IN :webhooks")
+    Long findMinLastEventId(@Param("webhooks") Collection<String> webhooks);
+}
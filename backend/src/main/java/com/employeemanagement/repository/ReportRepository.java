@@ -0,0 +1,18 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.Report;
+import com.employeemanagement.entity.Report.ReportType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReportRepository extends JpaRepository<Report, Long> {
+
+    Optional<Report> findByTypeAndPeriodStart(ReportType type, LocalDate periodStart);
+
+    List<Report> findByTypeOrderByPeriodStartDesc(ReportType type);
+}
@@ -0,0 +1,14 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.SalaryRevisionItem;
+
+import java.util.List;
+
+/**
+ * Multi-row inserts of revision items. Items have assigned keys, so {@code saveAll}
+ * would look each one up before inserting it.
+ */
+public interface SalaryRevisionItemInserts {
+
+    void insertAll(List<SalaryRevisionItem> items);
+}
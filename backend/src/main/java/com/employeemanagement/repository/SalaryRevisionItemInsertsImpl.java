@@ -0,0 +1,39 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.SalaryRevisionItem;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+public class SalaryRevisionItemInsertsImpl implements SalaryRevisionItemInserts {
+
+    private static final int ROWS_PER_STATEMENT = 500;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void insertAll(List<SalaryRevisionItem> items) {
+        for (int from = 0; from < items.size(); from += ROWS_PER_STATEMENT) {
+            List<SalaryRevisionItem> part = items.subList(from, Math.min(items.size(), from + ROWS_PER_STATEMENT));
+            StringBuilder sql = new StringBuilder("INSERT INTO salary_revision_items " +
+                    "(revision_id, entity_id, chunk, rule_index, old_salary, new_salary, rolled_back) VALUES ");
+            for (int i = 0; i < part.size(); i++) {
+                sql.append(i == 0 ? "" : ", ").append("(?, ?, ?, ?, ?, ?, 0)");
+            }
+            Query query = entityManager.createNativeQuery(sql.toString());
+            int p = 1;
+            for (SalaryRevisionItem item : part) {
+                query.setParameter(p++, item.getId().getRevisionId());
+                query.setParameter(p++, item.getId().getEntityId());
+                query.setParameter(p++, item.getChunk());
+                query.setParameter(p++, item.getRuleIndex());
+                query.setParameter(p++, item.getOldSalary());
+                query.setParameter(p++, item.getNewSalary());
+            }
+            query.executeUpdate();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.SalaryRevisionItem;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SalaryRevisionItemRepository
+        extends JpaRepository<SalaryRevisionItem, SalaryRevisionItem.Key>, SalaryRevisionItemInserts {
+
+    /** Items with the employee's code and name from the list view (absent once deleted or archived). */
+    @Query(value = "SELECT i, r.employeeId, r.firstName, r.lastName FROM SalaryRevisionItem i " +
+                   "LEFT JOIN EmployeeListRow r ON r.id = i.id.entityId WHERE i.id.revisionId = :revisionId",
+           countQuery = "SELECT COUNT(i) FROM SalaryRevisionItem i WHERE i.id.revisionId = :revisionId")
+    Page<Object[]> findWithEmployees(@Param("revisionId") Long revisionId, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(i.chunk), 0) FROM SalaryRevisionItem i WHERE i.id.revisionId = :revisionId")
+    int maxChunk(@Param("revisionId") Long revisionId);
+
+    @Query("SELECT i FROM SalaryRevisionItem i WHERE i.id.revisionId = :revisionId AND i.chunk = :chunk")
+    List<SalaryRevisionItem> findChunk(@Param("revisionId") Long revisionId, @Param("chunk") int chunk);
+
+    @Query("SELECT DISTINCT i.chunk FROM SalaryRevisionItem i " +
+           "WHERE i.id.revisionId = :revisionId AND i.rolledBack = false ORDER BY i.chunk")
+    List<Integer> findChunksToRollBack(@Param("revisionId") Long revisionId);
+
+    /** One row: [items, sum of old salaries, sum of raises] of the items not rolled back. */
+    @Query("SELECT COUNT(i), COALESCE(SUM(i.oldSalary), 0), COALESCE(SUM(i.newSalary - i.oldSalary), 0) " +
+           "FROM SalaryRevisionItem i WHERE i.id.revisionId = :revisionId AND i.rolledBack = false")
+    List<Object[]> summarize(@Param("revisionId") Long revisionId);
+
+    long countByIdRevisionIdAndRolledBack(Long revisionId, boolean rolledBack);
+
+    /** Sets the chunk's new salaries on employees in one statement. */
+    @Modifying
+    @Query(value = "UPDATE employees e JOIN salary_revision_items i ON i.entity_id = e.id " +
+                   "SET e.salary = i.new_salary, e.updated_at = NOW(6) " +
+                   "WHERE i.revision_id = :revisionId AND i.chunk = :chunk", nativeQuery = true)
+    int applyChunk(@Param("revisionId") Long revisionId, @Param("chunk") int chunk);
+
+    /**
+     * Restores the old salaries of the chunk and flags the items, but only where the salary
+     * is still the revised one: a later edit wins over the rollback.
+     */
+    @Modifying
+    @Query(value = "UPDATE employees e JOIN salary_revision_items i ON i.entity_id = e.id " +
+                   "SET e.salary = i.old_salary, e.updated_at = NOW(6), i.rolled_back = 1 " +
+                   "WHERE i.revision_id = :revisionId AND i.chunk = :chunk AND i.rolled_back = 0 " +
+                   "AND e.salary = i.new_salary", nativeQuery = true)
+    int rollbackChunk(@Param("revisionId") Long revisionId, @Param("chunk") int chunk);
+}
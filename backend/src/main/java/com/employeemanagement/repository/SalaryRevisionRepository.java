@@ -0,0 +1,13 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.SalaryRevision;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface SalaryRevisionRepository extends JpaRepository<SalaryRevision, Long> {
+
+    List<SalaryRevision> findAllByOrderByIdDesc();
+}
@@ -0,0 +1,23 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.User;
+import com.employeemanagement.entity.User.Role;
+
+import java.util.List;
+
+/**
+ * Keyset listing of users. {@code sortBy} is username, email or id, all unique, so the
+ * last row's sort value alone marks where the next page starts and no OFFSET is scanned.
+ */
+public interface UserSearchRepository {
+
+    List<String> SORT_FIELDS = List.of("username", "email", "id");
+
+    /**
+     * Users whose username or email starts with {@code prefix} (case-insensitive through the
+     * column collation, so the unique indexes serve it), after {@code after} in sort order.
+     */
+    List<User> findPage(String prefix, Role role, String sortBy, boolean descending, Comparable<?> after, int limit);
+
+    long countMatching(String prefix, Role role);
+}
@@ -0,0 +1,116 @@
+package com.employeemanagement.repository;
+
+import com.employeemanagement.entity.User;
+import com.employeemanagement.entity.User.Role;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.criteria.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final List<String> PREFIX_FIELDS = List.of("username", "email");
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * A prefix search is one native UNION of a query per field instead of
+     * {@code username LIKE ? OR email LIKE ?}: each branch is a range scan of its unique
+     * index, where the OR would scan the sort index and filter. The first {@code limit} rows
+     * of the union in sort order are among the first {@code limit} rows of either branch, and
+     * the outer ORDER BY runs in the database, so the page order and the keyset predicate of
+     * the next page use the same column collation.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> findPage(String prefix, Role role, String sortBy, boolean descending, Comparable<?> after,
+                               int limit) {
+        if (prefix == null) {
+            return findPage(null, null, role, sortBy, descending, after, limit);
+        }
+        if (!SORT_FIELDS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unknown sort field: " + sortBy);
+        }
+        String direction = descending ? " DESC" : " ASC";
+        StringBuilder conditions = new StringBuilder();
+        if (role != null) {
+            conditions.append(" AND role = :role");
+        }
+        if (after != null) {
+            conditions.append(" AND ").append(sortBy).append(descending ? " < :after" : " > :after");
+        }
+        StringBuilder sql = new StringBuilder("SELECT * FROM (");
+        for (int i = 0; i < PREFIX_FIELDS.size(); i++) {
+            sql.append(i == 0 ? "" : " UNION ")
+                    .append("(SELECT * FROM users WHERE ").append(PREFIX_FIELDS.get(i))
+                    .append(" LIKE :prefix ESCAPE '\\\\'")
+                    .append(conditions)
+                    .append(" ORDER BY ").append(sortBy).append(direction).append(" LIMIT :limit)");
+        }
+        sql.append(") matched ORDER BY ").append(sortBy).append(direction).append(" LIMIT :limit");
+
+        Query query = entityManager.createNativeQuery(sql.toString(), User.class)
+                .setParameter("prefix", likePrefix(prefix))
+                .setParameter("limit", limit);
+        if (role != null) {
+            query.setParameter("role", role.name());
+        }
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public long countMatching(String prefix, Role role) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> count = cb.createQuery(Long.class);
+        Root<User> u = count.from(User.class);
+        List<Predicate> predicates = filters(cb, u, null, null, role);
+        if (prefix != null) {
+            String pattern = likePrefix(prefix);
+            predicates.add(cb.or(cb.like(u.get("username"), pattern, '\\'), cb.like(u.get("email"), pattern, '\\')));
+        }
+        count.select(cb.count(u)).where(predicates.toArray(new Predicate[0]));
+        return entityManager.createQuery(count).getSingleResult();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<User> findPage(String prefixField, String prefix, Role role, String sortBy, boolean descending,
+                                Comparable<?> after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<User> query = cb.createQuery(User.class);
+        Root<User> u = query.from(User.class);
+        Path<Comparable> key = u.get(sortBy);
+
+        List<Predicate> predicates = filters(cb, u, prefixField, prefix, role);
+        if (after != null) {
+            Comparable value = after;
+            predicates.add(descending ? cb.lessThan(key, value) : cb.greaterThan(key, value));
+        }
+        query.select(u)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(descending ? cb.desc(key) : cb.asc(key));
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    private List<Predicate> filters(CriteriaBuilder cb, Root<User> u, String prefixField, String prefix, Role role) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (prefixField != null) {
+            // no LOWER(): the _ci collation already ignores case and LOWER() would defeat the index
+            predicates.add(cb.like(u.get(prefixField), likePrefix(prefix), '\\'));
+        }
+        if (role != null) {
+            predicates.add(cb.equal(u.get("role"), role));
+        }
+        return predicates;
+    }
+
+    private static String likePrefix(String prefix) {
+        return prefix.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+    }
+}
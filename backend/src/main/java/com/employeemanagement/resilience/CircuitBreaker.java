@@ -0,0 +1,162 @@
+package com.employeemanagement.resilience;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Count-based circuit breaker. The outcomes of the last {@code windowSize} calls are kept
+ * in a ring; once at least {@code minimumCalls} are recorded and the share that failed or
+ * ran slower than the slow-call threshold reaches {@code failureRateThreshold} percent,
+ * the circuit opens and calls are rejected for {@code openMillis}. It then lets
+ * {@code halfOpenCalls} trial calls through: all succeeding closes it, any failing opens
+ * it again.
+ * <p>
+ * Each permit carries the generation it was issued in, and every state change starts a
+ * new one, so a call admitted before the circuit opened cannot count as a half-open trial
+ * or land in the ring after it closes again.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    /** Returned by {@link #tryAcquire} when the call is rejected. */
+    public static final long REJECTED = -1;
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openMillis;
+    private final int halfOpenCalls;
+
+    private final boolean[] failures;
+    private int recorded;
+    private int next;
+    private int failureCount;
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+    private int trialsPermitted;
+    private int trialsSucceeded;
+
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private long timesOpened;
+
+    public CircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long slowCallMillis,
+                          long openMillis, int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMillis);
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.failures = new boolean[windowSize];
+    }
+
+    /**
+     * A permit for the call, or {@link #REJECTED}; every permitted call must be followed by
+     * {@link #record} with its permit.
+     */
+    public synchronized long tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAt < openMillis) {
+                rejected.increment();
+                return REJECTED;
+            }
+            state = State.HALF_OPEN;
+            generation++;
+            trialsPermitted = 0;
+            trialsSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialsPermitted >= halfOpenCalls) {
+                rejected.increment();
+                return REJECTED;
+            }
+            trialsPermitted++;
+        }
+        return generation;
+    }
+
+    /** {@code failed} is a database failure; a call slower than the threshold counts as one too. */
+    public synchronized void record(long permit, long latencyNanos, boolean failed) {
+        boolean slow = latencyNanos > slowCallNanos;
+        if (slow) {
+            slowCalls.increment();
+        }
+        if (permit != generation) {
+            // admitted before the last state change; its outcome says nothing about the current one
+            return;
+        }
+        boolean bad = failed || slow;
+        switch (state) {
+            case HALF_OPEN -> {
+                if (bad) {
+                    open();
+                } else if (++trialsSucceeded >= halfOpenCalls) {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                if (recorded == windowSize && failures[next]) {
+                    failureCount--;
+                }
+                failures[next] = bad;
+                failureCount += bad ? 1 : 0;
+                next = (next + 1) % windowSize;
+                recorded = Math.min(recorded + 1, windowSize);
+                if (recorded >= minimumCalls && failureCount * 100 >= failureRateThreshold * recorded) {
+                    open();
+                }
+            }
+            case OPEN -> {
+                // unreachable: opening starts a new generation and issues no permits
+            }
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /** Seconds until an open circuit lets a trial call through, at least 1. */
+    public synchronized long retryAfterSeconds() {
+        long remaining = openMillis - (System.currentTimeMillis() - openedAt);
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remaining + 999));
+    }
+
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state);
+        stats.put("windowCalls", recorded);
+        stats.put("windowFailures", failureCount);
+        stats.put("failureRatePercent", recorded == 0 ? 0 : failureCount * 100 / recorded);
+        stats.put("slowCalls", slowCalls.sum());
+        stats.put("rejected", rejected.sum());
+        stats.put("timesOpened", timesOpened);
+        return stats;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        generation++;
+        openedAt = System.currentTimeMillis();
+        timesOpened++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        generation++;
+        recorded = 0;
+        next = 0;
+        failureCount = 0;
+        Arrays.fill(failures, false);
+    }
+}
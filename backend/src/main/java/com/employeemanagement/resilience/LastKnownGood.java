@@ -0,0 +1,16 @@
+package com.employeemanagement.resilience;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a read whose last successful result (per arguments and caller roles) is kept, and
+ * served with an {@code X-Data-Stale} header when the database fails or the circuit is
+ * open, instead of an error.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LastKnownGood {
+}
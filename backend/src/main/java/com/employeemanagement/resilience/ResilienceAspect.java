@@ -0,0 +1,183 @@
+package com.employeemanagement.resilience;
+
+import com.employeemanagement.cache.InvocationKey;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.exception.ServiceUnavailableException;
+import com.employeemanagement.util.StripedTtlCache;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTimeoutException;
+import java.sql.SQLTransientConnectionException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker around {@code EmployeeService} and {@code DepartmentService}. Database
+ * failures (connection, pool and query timeouts, not business errors) and slow calls open
+ * the circuit; while open, calls fail fast with 503 instead of queueing on the connection
+ * pool. A {@link LastKnownGood} read answers from its last successful result instead, with
+ * {@code X-Data-Stale: true} and the result's age in {@code X-Data-Age} seconds.
+ *
+ * <p>Ordered outside {@code CoalescingAspect}, so a rejected call never reaches the
+ * coalescer and a shared computation that fails is one failure per caller.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 50)
+public class ResilienceAspect {
+
+    public static final String STALE_HEADER = "X-Data-Stale";
+    public static final String AGE_HEADER = "X-Data-Age";
+
+    private static final Logger logger = LoggerFactory.getLogger(ResilienceAspect.class);
+
+    @Value("${app.resilience.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.resilience.window-size:50}")
+    private int windowSize;
+
+    @Value("${app.resilience.minimum-calls:20}")
+    private int minimumCalls;
+
+    @Value("${app.resilience.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${app.resilience.slow-call-ms:2000}")
+    private long slowCallMs;
+
+    @Value("${app.resilience.open-seconds:10}")
+    private long openSeconds;
+
+    @Value("${app.resilience.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    @Value("${app.resilience.stale.max-entries:2000}")
+    private int staleMaxEntries;
+
+    @Value("${app.resilience.stale.max-age-minutes:30}")
+    private long staleMaxAgeMinutes;
+
+    private CircuitBreaker breaker;
+    private StripedTtlCache<String, Snapshot> lastKnownGood;
+    private final LongAdder staleServed = new LongAdder();
+    private final LongAdder staleMissed = new LongAdder();
+
+    private record Snapshot(Object value, long storedAt) {
+    }
+
+    @PostConstruct
+    public void init() {
+        breaker = new CircuitBreaker(windowSize, minimumCalls, failureRateThreshold, slowCallMs,
+                openSeconds * 1000, halfOpenCalls);
+        lastKnownGood = new StripedTtlCache<>(staleMaxEntries, 16);
+    }
+
+    @Around("execution(public * com.employeemanagement.service.EmployeeService.*(..)) || " +
+            "execution(public * com.employeemanagement.service.DepartmentService.*(..))")
+    public Object guard(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!enabled) {
+            return joinPoint.proceed();
+        }
+        boolean fallback = ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .isAnnotationPresent(LastKnownGood.class);
+        String key = fallback ? InvocationKey.of(joinPoint) : null;
+
+        long permit = breaker.tryAcquire();
+        if (permit == CircuitBreaker.REJECTED) {
+            return fallbackOrFail(key, "Database circuit is open", null);
+        }
+        long start = System.nanoTime();
+        boolean failed = false;
+        try {
+            Object result = joinPoint.proceed();
+            if (fallback) {
+                lastKnownGood.put(key, new Snapshot(result, System.currentTimeMillis()), staleMaxAgeMinutes * 60_000);
+            }
+            return result;
+        } catch (Throwable t) {
+            if (!isDatabaseFailure(t)) {
+                if (fallback && t instanceof ResourceNotFoundException) {
+                    lastKnownGood.remove(key);
+                }
+                throw t;
+            }
+            failed = true;
+            logger.warn("Database failure in {}: {}", joinPoint.getSignature().toShortString(), t.toString());
+            return fallbackOrFail(key, "Database is unavailable", t);
+        } finally {
+            CircuitBreaker.State before = breaker.getState();
+            breaker.record(permit, System.nanoTime() - start, failed);
+            if (before != CircuitBreaker.State.OPEN && breaker.getState() == CircuitBreaker.State.OPEN) {
+                logger.error("Database circuit opened: {}", breaker.getStats());
+            }
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(breaker.getStats());
+        stats.put("staleEntries", lastKnownGood.size());
+        stats.put("staleServed", staleServed.sum());
+        stats.put("staleMissed", staleMissed.sum());
+        return stats;
+    }
+
+    private Object fallbackOrFail(String key, String message, Throwable cause) {
+        Snapshot snapshot = key == null ? null : lastKnownGood.get(key);
+        if (snapshot == null) {
+            if (key != null) {
+                staleMissed.increment();
+            }
+            throw new ServiceUnavailableException(message + ", please retry shortly", breaker.retryAfterSeconds(),
+                    cause);
+        }
+        staleServed.increment();
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletResponse response = attributes.getResponse();
+            if (response != null) {
+                response.setHeader(STALE_HEADER, "true");
+                response.setHeader(AGE_HEADER,
+                        String.valueOf((System.currentTimeMillis() - snapshot.storedAt()) / 1000));
+            }
+        }
+        return snapshot.value();
+    }
+
+    private static boolean isDatabaseFailure(Throwable t) {
+        for (Throwable cause = t; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DataAccessResourceFailureException
+                    || cause instanceof TransientDataAccessResourceException
+                    || cause instanceof QueryTimeoutException
+                    || cause instanceof RecoverableDataAccessException
+                    || cause instanceof CannotCreateTransactionException
+                    || cause instanceof SQLTransientConnectionException
+                    || cause instanceof SQLNonTransientConnectionException
+                    || cause instanceof SQLRecoverableException
+                    || cause instanceof SQLTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,223 @@
+package com.employeemanagement.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Prefix index from lower-case keys to int slots. The bulk of the keys live in a
+ * compacted base: all keys UTF-8 encoded back to back in sorted order in one byte array,
+ * with an offset array and a slot array beside it, so the entries for a prefix are one
+ * contiguous range found by binary search (the subtree a trie walk would reach) at
+ * roughly key length + 8 bytes per entry. Writes go to a small sorted delta that
+ * {@link #compact} merges into a new base.
+ * <p>
+ * Removal is by slot: callers stop reporting a slot as alive and its entries are skipped
+ * by searches and dropped at the next compaction. Not thread-safe; callers guard access.
+ */
+public class PrefixIndex {
+
+    private static final Comparator<byte[]> BYTES = Arrays::compareUnsigned;
+    private static final Comparator<Entry> ORDER = Comparator.comparing(Entry::key, BYTES)
+            .thenComparingInt(Entry::slot);
+
+    public record Entry(byte[] key, int slot) {
+    }
+
+    private byte[] pool = new byte[0];
+    private int[] offsets = {0};
+    private int[] slots = new int[0];
+    private final TreeSet<Entry> delta = new TreeSet<>(ORDER);
+    private long deltaBytes;
+
+    public static byte[] encode(String key) {
+        return key.toLowerCase(Locale.ROOT).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /** Replaces the whole index with the given entries, in any order. */
+    public void load(List<Entry> entries) {
+        Entry[] sorted = entries.toArray(new Entry[0]);
+        Arrays.sort(sorted, ORDER);
+        writeBase(sorted);
+        delta.clear();
+        deltaBytes = 0;
+    }
+
+    public void add(String key, int slot) {
+        byte[] bytes = encode(key);
+        if (delta.add(new Entry(bytes, slot))) {
+            deltaBytes += bytes.length;
+        }
+    }
+
+    /**
+     * Merges the delta into a new base, keeping only entries whose slot is alive and
+     * renumbering slots through {@code remap}. Base keys are copied range to range, so the
+     * cost is linear in the index size with no per-entry allocation.
+     */
+    public void compact(IntPredicate alive, IntUnaryOperator remap) {
+        long bytes = 0;
+        int n = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (alive.test(slots[i])) {
+                bytes += offsets[i + 1] - offsets[i];
+                n++;
+            }
+        }
+        for (Entry e : delta) {
+            if (alive.test(e.slot())) {
+                bytes += e.key().length;
+                n++;
+            }
+        }
+        byte[] newPool = new byte[Math.toIntExact(bytes)];
+        int[] newOffsets = new int[n + 1];
+        int[] newSlots = new int[n];
+
+        int out = 0, at = 0, i = 0;
+        Iterator<Entry> fromDelta = delta.iterator();
+        Entry pending = fromDelta.hasNext() ? fromDelta.next() : null;
+        while (i < slots.length || pending != null) {
+            boolean takeDelta = pending != null && (i == slots.length
+                    || compareBaseTo(i, pending.key()) > 0
+                    || (compareBaseTo(i, pending.key()) == 0 && slots[i] > pending.slot()));
+            int slot;
+            int length;
+            if (takeDelta) {
+                slot = pending.slot();
+                length = pending.key().length;
+                if (alive.test(slot)) {
+                    System.arraycopy(pending.key(), 0, newPool, at, length);
+                }
+                pending = fromDelta.hasNext() ? fromDelta.next() : null;
+            } else {
+                slot = slots[i];
+                length = offsets[i + 1] - offsets[i];
+                if (alive.test(slot)) {
+                    System.arraycopy(pool, offsets[i], newPool, at, length);
+                }
+                i++;
+            }
+            if (alive.test(slot)) {
+                newOffsets[out] = at;
+                newSlots[out++] = remap.applyAsInt(slot);
+                at += length;
+            }
+        }
+        newOffsets[n] = at;
+        pool = newPool;
+        offsets = newOffsets;
+        slots = newSlots;
+        delta.clear();
+        deltaBytes = 0;
+    }
+
+    /**
+     * Up to {@code limit} distinct alive slots whose keys start with {@code prefix}, in key
+     * order (so shorter and alphabetically earlier keys first).
+     */
+    public int[] search(String prefix, int limit, IntPredicate alive) {
+        byte[] p = encode(prefix);
+        int[] found = new int[limit];
+        int count = 0;
+
+        int i = lowerBound(p);
+        Iterator<Entry> fromDelta = delta.tailSet(new Entry(p, Integer.MIN_VALUE), true).iterator();
+        Entry pending = nextMatching(fromDelta, p);
+        while (count < limit) {
+            boolean baseMatches = i < slots.length && startsWith(i, p);
+            if (!baseMatches && pending == null) {
+                break;
+            }
+            int slot;
+            if (pending != null && (!baseMatches || compareBaseTo(i, pending.key()) > 0)) {
+                slot = pending.slot();
+                pending = nextMatching(fromDelta, p);
+            } else {
+                slot = slots[i++];
+            }
+            if (alive.test(slot) && !contains(found, count, slot)) {
+                found[count++] = slot;
+            }
+        }
+        return count == limit ? found : Arrays.copyOf(found, count);
+    }
+
+    public int baseSize() {
+        return slots.length;
+    }
+
+    public int deltaSize() {
+        return delta.size();
+    }
+
+    public long footprintBytes() {
+        // base arrays, plus ~80 bytes of TreeSet node, record and array headers per delta entry
+        return pool.length + (long) offsets.length * 4 + (long) slots.length * 4
+                + deltaBytes + (long) delta.size() * 80;
+    }
+
+    private void writeBase(Entry[] entries) {
+        int n = entries.length;
+        long bytes = 0;
+        for (Entry e : entries) {
+            bytes += e.key().length;
+        }
+        byte[] newPool = new byte[Math.toIntExact(bytes)];
+        int[] newOffsets = new int[n + 1];
+        int[] newSlots = new int[n];
+        int at = 0;
+        for (int i = 0; i < n; i++) {
+            Entry e = entries[i];
+            System.arraycopy(e.key(), 0, newPool, at, e.key().length);
+            newOffsets[i] = at;
+            newSlots[i] = e.slot();
+            at += e.key().length;
+        }
+        newOffsets[n] = at;
+        pool = newPool;
+        offsets = newOffsets;
+        slots = newSlots;
+    }
+
+    private int lowerBound(byte[] p) {
+        int lo = 0, hi = slots.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (compareBaseTo(mid, p) < 0) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    private int compareBaseTo(int i, byte[] other) {
+        return Arrays.compareUnsigned(pool, offsets[i], offsets[i + 1], other, 0, other.length);
+    }
+
+    private boolean startsWith(int i, byte[] p) {
+        int len = offsets[i + 1] - offsets[i];
+        return len >= p.length && Arrays.equals(pool, offsets[i], offsets[i] + p.length, p, 0, p.length);
+    }
+
+    private static Entry nextMatching(Iterator<Entry> it, byte[] p) {
+        if (!it.hasNext()) {
+            return null;
+        }
+        Entry e = it.next();
+        byte[] key = e.key();
+        return key.length >= p.length && Arrays.equals(key, 0, p.length, p, 0, p.length) ? e : null;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,6 +3,7 @@ package com.employeemanagement.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import com.employeemanagement.profiling.JwtEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,13 +25,16 @@ public class JwtUtils {
     private int jwtExpirationMs;
 
     public String generateJwtToken(Authentication authentication) {
+        JwtEvent event = JwtEvent.start("generate");
         UserDetails userPrincipal = (UserDetails) authentication.getPrincipal();
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
                 .setIssuedAt(new Date())
                 .setExpiration(new Date((new Date()).getTime() + jwtExpirationMs))
                 .signWith(key(), SignatureAlgorithm.HS256)
                 .compact();
+        event.finish(true);
+        return token;
     }
 
     public String generateTokenFromUsername(String username) {
@@ -49,13 +53,18 @@ public class JwtUtils {
     }
 
     public String getUserNameFromJwtToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key()).build()
+        JwtEvent event = JwtEvent.start("parse");
+        String subject = Jwts.parserBuilder().setSigningKey(key()).build()
                 .parseClaimsJws(token).getBody().getSubject();
+        event.finish(true);
+        return subject;
     }
 
     public boolean validateJwtToken(String authToken) {
+        JwtEvent event = JwtEvent.start("validate");
         try {
             Jwts.parserBuilder().setSigningKey(key()).build().parse(authToken);
+            event.finish(true);
             return true;
         } catch (MalformedJwtException e) {
             logger.error("Invalid JWT token: {}", e.getMessage());
@@ -66,6 +75,7 @@ public class JwtUtils {
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
         }
+        event.finish(false);
         return false;
     }
 }
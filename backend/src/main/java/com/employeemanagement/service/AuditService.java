@@ -0,0 +1,201 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.AuditLogDTO;
+import com.employeemanagement.dto.AuditMetricsDTO;
+import com.employeemanagement.entity.AuditLog;
+import com.employeemanagement.event.EntityChangedEvent;
+import com.employeemanagement.repository.AuditLogRepository;
+import com.employeemanagement.util.MpscRingBuffer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Write-behind audit trail. Committed entity changes are diffed on the request thread,
+ * pushed into a lock-free ring buffer and persisted in batches by a single background
+ * writer, so auditing never adds a database round trip to the write path. When the
+ * buffer is full the event is dropped and counted rather than blocking the caller.
+ */
+@Service
+public class AuditService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditService.class);
+
+    private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+    private static final Set<String> IGNORED_FIELDS = Set.of("password", "updatedAt", "createdAt", "employeeCount");
+
+    @Autowired
+    private AuditLogRepository auditLogRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.audit.buffer-capacity:8192}")
+    private int bufferCapacity;
+
+    @Value("${app.audit.batch-size:256}")
+    private int batchSize;
+
+    @Value("${app.audit.flush-interval-ms:500}")
+    private long flushIntervalMs;
+
+    private MpscRingBuffer<AuditLog> buffer;
+    private Thread writer;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private volatile long lastFlushMillis;
+
+    @PostConstruct
+    public void start() {
+        buffer = new MpscRingBuffer<>(Integer.highestOneBit(Math.max(2, bufferCapacity)));
+        running = true;
+        writer = new Thread(this::writeLoop, "audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @TransactionalEventListener
+    public void onEntityChanged(EntityChangedEvent<?> event) {
+        AuditLog entry = AuditLog.builder()
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .action(event.getChangeType().name())
+                .principal(currentPrincipal())
+                .changes(toJson(diff(event.getBefore(), event.getAfter())))
+                .occurredAt(LocalDateTime.now())
+                .build();
+        if (buffer.offer(entry)) {
+            enqueued.incrementAndGet();
+            if (buffer.size() >= batchSize) {
+                LockSupport.unpark(writer);
+            }
+        } else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    public Page<AuditLogDTO> search(String entityType, Long entityId, LocalDateTime from, LocalDateTime to,
+            int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("occurredAt").descending());
+        return auditLogRepository.search(entityType != null ? entityType.toUpperCase() : null, entityId, from, to,
+                pageable).map(this::toDTO);
+    }
+
+    public AuditMetricsDTO getMetrics() {
+        return AuditMetricsDTO.builder()
+                .bufferCapacity(buffer.capacity())
+                .bufferDepth(buffer.size())
+                .enqueued(enqueued.get())
+                .dropped(dropped.get())
+                .written(written.get())
+                .failed(failed.get())
+                .batches(batches.get())
+                .lastFlushMillis(lastFlushMillis)
+                .build();
+    }
+
+    private void writeLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || buffer.size() > 0) {
+            buffer.drain(batch::add, batchSize);
+            if (batch.isEmpty()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMs));
+                continue;
+            }
+            long start = System.currentTimeMillis();
+            try {
+                auditLogRepository.saveAll(batch);
+                written.addAndGet(batch.size());
+            } catch (Exception e) {
+                failed.addAndGet(batch.size());
+                logger.error("Failed to write {} audit entries", batch.size(), e);
+            }
+            batches.incrementAndGet();
+            lastFlushMillis = System.currentTimeMillis() - start;
+            batch.clear();
+        }
+    }
+
+    private Map<String, Object> diff(Object before, Object after) {
+        Map<String, Object> oldValues = before == null ? Map.of() : objectMapper.convertValue(before, MAP_TYPE);
+        Map<String, Object> newValues = after == null ? Map.of() : objectMapper.convertValue(after, MAP_TYPE);
+        Set<String> fields = new LinkedHashSet<>(oldValues.keySet());
+        fields.addAll(newValues.keySet());
+
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object oldValue = oldValues.get(field);
+            Object newValue = newValues.get(field);
+            if (IGNORED_FIELDS.contains(field) || Objects.equals(oldValue, newValue)) {
+                continue;
+            }
+            Map<String, Object> change = new LinkedHashMap<>();
+            change.put("old", oldValue);
+            change.put("new", newValue);
+            changes.put(field, change);
+        }
+        return changes;
+    }
+
+    private String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() ? auth.getName() : "system";
+    }
+
+    private String toJson(Map<String, Object> changes) {
+        try {
+            return objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            return "{}";
+        }
+    }
+
+    private AuditLogDTO toDTO(AuditLog log) {
+        Map<String, Object> changes;
+        try {
+            changes = objectMapper.readValue(log.getChanges(), MAP_TYPE);
+        } catch (Exception e) {
+            changes = Map.of();
+        }
+        return AuditLogDTO.builder()
+                .id(log.getId())
+                .entityType(log.getEntityType())
+                .entityId(log.getEntityId())
+                .action(log.getAction())
+                .principal(log.getPrincipal())
+                .changes(changes)
+                .occurredAt(log.getOccurredAt())
+                .build();
+    }
+}
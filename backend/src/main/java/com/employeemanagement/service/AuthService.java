@@ -5,7 +5,10 @@ import com.employeemanagement.dto.LoginRequest;
 import com.employeemanagement.entity.User;
 import com.employeemanagement.repository.UserRepository;
 import com.employeemanagement.security.JwtUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -17,9 +20,13 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 public class AuthService {
 
+    private static final Logger logger = LoggerFactory.getLogger(AuthService.class);
+
     @Autowired
     private AuthenticationManager authenticationManager;
 
@@ -29,6 +36,9 @@ public class AuthService {
     @Autowired
     private JwtUtils jwtUtils;
 
+    @Value("${app.seed.deferred:false}")
+    private boolean deferSeeding;
+
     public JwtResponse login(LoginRequest loginRequest) {
         Authentication authentication = authenticationManager.authenticate(
                 new UsernamePasswordAuthenticationToken(loginRequest.getUsername(), loginRequest.getPassword()));
@@ -51,28 +61,40 @@ public class AuthService {
     @Bean
     public CommandLineRunner initDefaultAdmin(UserRepository userRepository, PasswordEncoder passwordEncoder) {
         return args -> {
-            if (!userRepository.existsByUsername("admin")) {
-                User admin = User.builder()
-                        .username("admin")
-                        .email("admin@company.com")
-                        .password(passwordEncoder.encode("admin123"))
-                        .role(User.Role.ADMIN)
-                        .enabled(true)
-                        .build();
-                userRepository.save(admin);
-                System.out.println("✅ Default admin created: username=admin, password=admin123");
-            }
-            if (!userRepository.existsByUsername("user")) {
-                User user = User.builder()
-                        .username("user")
-                        .email("user@company.com")
-                        .password(passwordEncoder.encode("user123"))
-                        .role(User.Role.USER)
-                        .enabled(true)
-                        .build();
-                userRepository.save(user);
-                System.out.println("✅ Default user created: username=user, password=user123");
+            if (deferSeeding) {
+                CompletableFuture.runAsync(() -> seedDefaultUsers(userRepository, passwordEncoder))
+                        .exceptionally(e -> {
+                            logger.error("Deferred seeding of default users failed", e);
+                            return null;
+                        });
+            } else {
+                seedDefaultUsers(userRepository, passwordEncoder);
             }
         };
     }
+
+    private void seedDefaultUsers(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+        if (!userRepository.existsByUsername("admin")) {
+            User admin = User.builder()
+                    .username("admin")
+                    .email("admin@company.com")
+                    .password(passwordEncoder.encode("admin123"))
+                    .role(User.Role.ADMIN)
+                    .enabled(true)
+                    .build();
+            userRepository.save(admin);
+            System.out.println("✅ Default admin created: username=admin, password=admin123");
+        }
+        if (!userRepository.existsByUsername("user")) {
+            User user = User.builder()
+                    .username("user")
+                    .email("user@company.com")
+                    .password(passwordEncoder.encode("user123"))
+                    .role(User.Role.USER)
+                    .enabled(true)
+                    .build();
+            userRepository.save(user);
+            System.out.println("✅ Default user created: username=user, password=user123");
+        }
+    }
 }
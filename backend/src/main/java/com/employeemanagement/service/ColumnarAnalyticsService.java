@@ -0,0 +1,233 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.analytics.EmployeeColumns;
+import com.employeemanagement.dto.ColumnarGroupDTO;
+import com.employeemanagement.dto.ColumnarQueryDTO;
+import com.employeemanagement.dto.ColumnarQueryResultDTO;
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.entity.Department;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.invalidation.RemoteChangeEvent;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Ad-hoc filter/group-by queries over an in-memory {@link EmployeeColumns} snapshot, so
+ * new HR questions need neither a new repository query nor a findAll() stream. Loaded at
+ * startup and updated row by row from employee change events.
+ */
+@Service
+public class ColumnarAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ColumnarAnalyticsService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final EmployeeColumns columns = new EmployeeColumns();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = employeeRepository.findAnalyticsColumns();
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : rows) {
+                put((Long) row[0], (Long) row[1], (EmployeeStatus) row[2], (LocalDate) row[3], (BigDecimal) row[4]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Employee columns loaded: {} rows, ~{} KB", rows.size(), columns.footprintBytes() / 1024);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDTO after = event.getAfter();
+        lock.writeLock().lock();
+        try {
+            if (after == null) {
+                columns.remove(event.getEntityId());
+            } else {
+                put(after.getId(), after.getDepartmentId(), after.getStatus(), after.getJoiningDate(), after.getSalary());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (EmployeeSalariesChangedEvent.SalaryChange change : event.getChanges()) {
+                columns.setSalary(change.employeeId(), change.newSalary() != null
+                        ? toCents(change.newSalary()) : EmployeeColumns.NO_SALARY);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (!EmployeeChangedEvent.ENTITY_TYPE.equals(event.entityType())) {
+            return;
+        }
+        Employee employee = employeeRepository.findById(event.entityId()).orElse(null);
+        lock.writeLock().lock();
+        try {
+            if (employee == null) {
+                columns.remove(event.entityId());
+            } else {
+                put(employee.getId(), employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                        employee.getStatus(), employee.getJoiningDate(), employee.getSalary());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public ColumnarQueryResultDTO query(ColumnarQueryDTO request) {
+        EmployeeColumns.Query query = toQuery(request);
+        Map<Long, String> names = departmentRepository.findAll().stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+
+        ServiceCallEvent event = ServiceCallEvent.start("ColumnarAnalyticsService.query");
+        List<EmployeeColumns.Group> groups;
+        long rows;
+        long footprint;
+        long start = System.nanoTime();
+        lock.readLock().lock();
+        try {
+            groups = columns.scan(query);
+            rows = columns.rowCount();
+            footprint = columns.footprintBytes();
+        } finally {
+            lock.readLock().unlock();
+        }
+        long elapsed = System.nanoTime() - start;
+        event.finish(groups.size());
+
+        List<ColumnarGroupDTO> result = groups.stream()
+                .map(g -> toDTO(g, names))
+                .sorted(Comparator.comparing(ColumnarGroupDTO::getDepartmentName, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ColumnarGroupDTO::getStatus, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ColumnarGroupDTO::getJoiningYear, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(ColumnarGroupDTO::getSalaryBandStart, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        return ColumnarQueryResultDTO.builder()
+                .groups(result)
+                .rowsScanned(rows)
+                .elapsedMicros(TimeUnit.NANOSECONDS.toMicros(elapsed))
+                .rowsPerSecond(elapsed == 0 ? 0 : rows * 1_000_000_000L / elapsed)
+                .footprintBytes(footprint)
+                .bytesPerRow(rows == 0 ? 0 : (double) footprint / rows)
+                .build();
+    }
+
+    /** Raise totals of {@code rules} over the current snapshot; see {@link EmployeeColumns#previewRaises}. */
+    public EmployeeColumns.RaisePreview previewRaises(EmployeeColumns.RaiseRule[] rules) {
+        lock.readLock().lock();
+        try {
+            return columns.previewRaises(rules);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getRowCount() {
+        lock.readLock().lock();
+        try {
+            return columns.rowCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private EmployeeColumns.Query toQuery(ColumnarQueryDTO request) {
+        List<EmployeeColumns.Dimension> groupBy = new ArrayList<>();
+        for (String dimension : Optional.ofNullable(request.getGroupBy()).orElse(List.of())) {
+            try {
+                groupBy.add(EmployeeColumns.Dimension.valueOf(dimension.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown groupBy dimension: " + dimension);
+            }
+        }
+        Set<Integer> statuses = new HashSet<>();
+        for (String status : Optional.ofNullable(request.getStatuses()).orElse(List.of())) {
+            try {
+                statuses.add(EmployeeStatus.valueOf(status.toUpperCase()).ordinal());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown status: " + status);
+            }
+        }
+        BigDecimal band = request.getSalaryBand() != null ? request.getSalaryBand() : BigDecimal.valueOf(10000);
+        if (band.signum() <= 0) {
+            throw new RuntimeException("Salary band must be positive");
+        }
+        return new EmployeeColumns.Query(
+                request.getDepartmentIds() != null ? new HashSet<>(request.getDepartmentIds()) : null,
+                statuses,
+                request.getJoinedFrom() != null ? (int) request.getJoinedFrom().toEpochDay() : null,
+                request.getJoinedTo() != null ? (int) request.getJoinedTo().toEpochDay() : null,
+                request.getMinSalary() != null ? toCents(request.getMinSalary()) : null,
+                request.getMaxSalary() != null ? toCents(request.getMaxSalary()) : null,
+                groupBy,
+                toCents(band));
+    }
+
+    private ColumnarGroupDTO toDTO(EmployeeColumns.Group g, Map<Long, String> names) {
+        boolean hasSalary = g.salaryCount() > 0;
+        Long departmentId = g.departmentId() == EmployeeColumns.NO_DEPARTMENT ? null : g.departmentId();
+        return ColumnarGroupDTO.builder()
+                .departmentId(departmentId)
+                .departmentName(departmentId != null ? names.getOrDefault(departmentId, "Unknown") : null)
+                .status(g.status() >= 0 ? EmployeeStatus.values()[g.status()].name() : null)
+                .joiningYear(g.joiningYear() >= 0 ? g.joiningYear() : null)
+                .salaryBandStart(g.salaryBandStartCents() != EmployeeColumns.NO_SALARY
+                        ? BigDecimal.valueOf(g.salaryBandStartCents(), 2) : null)
+                .count(g.count())
+                .totalSalary(BigDecimal.valueOf(g.salarySumCents(), 2))
+                .averageSalary(hasSalary ? BigDecimal.valueOf(g.salarySumCents(), 2)
+                        .divide(BigDecimal.valueOf(g.salaryCount()), 2, RoundingMode.HALF_UP) : null)
+                .minSalary(hasSalary ? BigDecimal.valueOf(g.salaryMinCents(), 2) : null)
+                .maxSalary(hasSalary ? BigDecimal.valueOf(g.salaryMaxCents(), 2) : null)
+                .build();
+    }
+
+    private void put(Long id, Long departmentId, EmployeeStatus status, LocalDate joiningDate, BigDecimal salary) {
+        columns.put(id,
+                departmentId != null ? departmentId : EmployeeColumns.NO_DEPARTMENT,
+                (status != null ? status : EmployeeStatus.ACTIVE).ordinal(),
+                joiningDate != null ? (int) joiningDate.toEpochDay() : EmployeeColumns.NO_DATE,
+                salary != null ? toCents(salary) : EmployeeColumns.NO_SALARY);
+    }
+
+    private long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+}
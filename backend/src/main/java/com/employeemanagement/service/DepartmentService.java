@@ -1,11 +1,17 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.cache.Coalesced;
 import com.employeemanagement.dto.DepartmentDTO;
 import com.employeemanagement.entity.Department;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.DepartmentChangedEvent;
 import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.profiling.ServiceCallEvent;
 import com.employeemanagement.repository.DepartmentRepository;
 import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.resilience.LastKnownGood;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,16 +28,27 @@ public class DepartmentService {
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @LastKnownGood
+    @Coalesced(ttlMillis = 2000, staleWhileRevalidateMillis = 10000)
     public List<DepartmentDTO> getAllDepartments() {
-        return departmentRepository.findAll().stream()
+        ServiceCallEvent event = ServiceCallEvent.start("DepartmentService.getAllDepartments");
+        List<DepartmentDTO> departments = departmentRepository.findAll().stream()
                 .map(this::toDTOWithCount)
                 .collect(Collectors.toList());
+        event.finish(departments.size());
+        return departments;
     }
 
     public DepartmentDTO getDepartmentById(Long id) {
+        ServiceCallEvent event = ServiceCallEvent.start("DepartmentService.getDepartmentById");
         Department dept = departmentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + id));
-        return toDTOWithCount(dept);
+        DepartmentDTO dto = toDTOWithCount(dept);
+        event.finish(1);
+        return dto;
     }
 
     public DepartmentDTO createDepartment(DepartmentDTO dto) {
@@ -42,7 +59,9 @@ public class DepartmentService {
                 .name(dto.getName())
                 .description(dto.getDescription())
                 .build();
-        return toDTO(departmentRepository.save(dept));
+        DepartmentDTO created = toDTO(departmentRepository.save(dept));
+        publish(ChangeType.CREATED, created.getId(), null, created);
+        return created;
     }
 
     public DepartmentDTO updateDepartment(Long id, DepartmentDTO dto) {
@@ -53,9 +72,12 @@ public class DepartmentService {
             throw new RuntimeException("Department with name '" + dto.getName() + "' already exists");
         }
 
+        DepartmentDTO before = toDTO(dept);
         dept.setName(dto.getName());
         dept.setDescription(dto.getDescription());
-        return toDTO(departmentRepository.save(dept));
+        DepartmentDTO updated = toDTO(departmentRepository.save(dept));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
     }
 
     public void deleteDepartment(Long id) {
@@ -67,7 +89,13 @@ public class DepartmentService {
             throw new RuntimeException("Cannot delete department with existing employees. Reassign employees first.");
         }
 
+        DepartmentDTO before = toDTO(dept);
         departmentRepository.delete(dept);
+        publish(ChangeType.DELETED, id, before, null);
+    }
+
+    private void publish(ChangeType type, Long id, DepartmentDTO before, DepartmentDTO after) {
+        eventPublisher.publishEvent(new DepartmentChangedEvent(type, id, before, after));
     }
 
     private DepartmentDTO toDTO(Department dept) {
@@ -0,0 +1,238 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.JobDTO;
+import com.employeemanagement.dto.JobRequestDTO;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeArchive;
+import com.employeemanagement.entity.EmployeeDirectoryEntry;
+import com.employeemanagement.entity.Job;
+import com.employeemanagement.entity.Job.JobStatus;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.EmployeeArchiveRepository;
+import com.employeemanagement.repository.EmployeeDirectoryRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.JobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.*;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Archival tier. Employees INACTIVE and unmodified for {@code app.archive.inactive-days}
+ * move from {@code employees} to {@code employees_archive} in batches of
+ * {@code app.archive.batch-size}, one transaction each, run by the
+ * {@code employee-archive} job. Listings only read the archive with includeArchived.
+ * <p>
+ * A move is published as {@link ChangeType#ARCHIVED} (after = null), so in-memory
+ * indexes over the hot table drop the row while history and audit keep the employee.
+ */
+@Service
+@Transactional
+public class EmployeeArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeArchiveService.class);
+    public static final String JOB_TYPE = "employee-archive";
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeArchiveRepository archiveRepository;
+
+    @Autowired
+    private EmployeeDirectoryRepository directoryRepository;
+
+    @Autowired
+    private EmployeeListViewService employeeListViewService;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private OrgChartService orgChartService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.archive.inactive-days:365}")
+    private int inactiveDays;
+
+    @Value("${app.archive.batch-size:500}")
+    private int batchSize;
+
+    public int getInactiveDays() {
+        return inactiveDays;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Scheduled(cron = "${app.archive.cron:0 0 2 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduleArchival() {
+        if (jobRepository.existsByTypeAndStatusIn(JOB_TYPE, List.of(JobStatus.QUEUED, JobStatus.RUNNING))) {
+            return;
+        }
+        if (employeeRepository.countArchiveCandidates(LocalDateTime.now().minusDays(inactiveDays)) > 0) {
+            requestArchival();
+        }
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public JobDTO requestArchival() {
+        return jobService.submit(JobRequestDTO.builder().type(JOB_TYPE).params(Map.of()).build());
+    }
+
+    @Transactional(readOnly = true)
+    public long countCandidates(LocalDateTime cutoff) {
+        return employeeRepository.countArchiveCandidates(cutoff);
+    }
+
+    /** Moves up to {@code limit} candidates in this transaction; returns how many moved. */
+    public int archiveBatch(LocalDateTime cutoff, int limit) {
+        List<Long> ids = employeeRepository.lockArchiveCandidates(cutoff, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        List<EmployeeDTO> before = employeeRepository.findByIdIn(ids).stream()
+                .map(EmployeeService::toDTO)
+                .toList();
+        archiveRepository.copyFromEmployees(ids, LocalDateTime.now());
+        employeeRepository.deleteByIdIn(ids);
+        for (EmployeeDTO dto : before) {
+            eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.ARCHIVED, dto.getId(), dto, null));
+        }
+        return ids.size();
+    }
+
+    /** Brings an archived employee back to the hot table, still INACTIVE, under the same id. */
+    public EmployeeDTO restore(Long id) {
+        EmployeeArchive archived = archiveRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived employee not found with id: " + id));
+        if (employeeRepository.existsByEmail(archived.getEmail())) {
+            throw new RuntimeException("Email already in use by a current employee: " + archived.getEmail());
+        }
+        if (employeeRepository.existsByEmployeeId(archived.getEmployeeId())) {
+            throw new RuntimeException("Employee ID already in use by a current employee: " + archived.getEmployeeId());
+        }
+        archiveRepository.copyToEmployees(id, LocalDateTime.now());
+        archiveRepository.delete(archived);
+        Employee employee = employeeRepository.findById(id).orElseThrow();
+        orgChartService.attach(employee);
+        EmployeeDTO restored = EmployeeService.toDTO(employee);
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.RESTORED, id, null, restored));
+        return restored;
+    }
+
+    /** The employee list over both tiers; each row says whether it is archived. */
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> getEmployeesIncludingArchived(int page, int size, String sortBy, String sortDir,
+            String search, Long departmentId, String status) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeArchiveService.getEmployeesIncludingArchived");
+        Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+        Page<Object[]> rows = directoryRepository.findWithFilters(search != null && search.isEmpty() ? null : search,
+                departmentId, EmployeeService.parseStatus(status), PageRequest.of(page, size, sort));
+
+        Set<Long> managerIds = rows.stream()
+                .map(row -> ((EmployeeDirectoryEntry) row[0]).getManagerId())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> managerNames = directoryRepository.findAllById(managerIds).stream()
+                .collect(Collectors.toMap(EmployeeDirectoryEntry::getId, m -> m.getFirstName() + " " + m.getLastName()));
+
+        Page<EmployeeDTO> result = rows.map(row -> toDTO((EmployeeDirectoryEntry) row[0], (String) row[1], managerNames));
+        event.finish(result.getNumberOfElements());
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("inactiveDays", inactiveDays);
+        stats.put("batchSize", batchSize);
+        stats.put("hotRows", employeeRepository.count());
+        stats.put("archivedRows", archiveRepository.count());
+        stats.put("candidates", employeeRepository.countArchiveCandidates(LocalDateTime.now().minusDays(inactiveDays)));
+        stats.put("hotTableBytes", archiveRepository.tableSizeBytes("employees"));
+        stats.put("archiveTableBytes", archiveRepository.tableSizeBytes("employees_archive"));
+        jobRepository.findFirstByTypeAndStatusOrderByIdDesc(JOB_TYPE, JobStatus.SUCCEEDED)
+                .map(Job::getResult)
+                .ifPresent(result -> {
+                    try {
+                        stats.put("lastRun", objectMapper.readValue(result, Object.class));
+                    } catch (Exception e) {
+                        logger.debug("Unreadable archival result: {}", e.getMessage());
+                    }
+                });
+        return stats;
+    }
+
+    /**
+     * Scan size and latency of the default employee list (first page plus its count) on
+     * the hot table: median of five runs after a warm-up. Used before and after archival.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> probeHotWorkload() {
+        Pageable firstPage = PageRequest.of(0, 10, Sort.by("firstName"));
+        employeeListViewService.findWithFilters(null, null, null, firstPage);
+        long[] micros = new long[5];
+        for (int i = 0; i < micros.length; i++) {
+            long start = System.nanoTime();
+            employeeListViewService.findWithFilters(null, null, null, firstPage);
+            employeeRepository.countByStatus(EmployeeStatus.ACTIVE);
+            micros[i] = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+        }
+        Arrays.sort(micros);
+        Map<String, Object> probe = new LinkedHashMap<>();
+        probe.put("rows", employeeRepository.count());
+        probe.put("tableBytes", archiveRepository.tableSizeBytes("employees"));
+        probe.put("listViewBytes", archiveRepository.tableSizeBytes("employee_list_view"));
+        probe.put("listLatencyMicros", micros[micros.length / 2]);
+        return probe;
+    }
+
+    private EmployeeDTO toDTO(EmployeeDirectoryEntry e, String departmentName, Map<Long, String> managerNames) {
+        return EmployeeDTO.builder()
+                .id(e.getId())
+                .employeeId(e.getEmployeeId())
+                .firstName(e.getFirstName())
+                .lastName(e.getLastName())
+                .email(e.getEmail())
+                .phone(e.getPhone())
+                .departmentId(departmentName != null ? e.getDepartmentId() : null)
+                .departmentName(departmentName)
+                .managerId(e.getManagerId())
+                .managerName(managerNames.get(e.getManagerId()))
+                .salary(e.getSalary())
+                .joiningDate(e.getJoiningDate())
+                .status(e.getStatus())
+                .profileImage(e.getProfileImage())
+                .address(e.getAddress())
+                .archived(e.getArchivedAt() != null)
+                .build();
+    }
+}
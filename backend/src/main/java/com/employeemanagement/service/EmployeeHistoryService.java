@@ -0,0 +1,151 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.DashboardStatsDTO;
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeHistory;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeHistoryRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps {@code employee_history} in step with {@code employees} and answers as-of
+ * queries from it. Versions are written before commit, inside the transaction that
+ * changed the employee, so history can never disagree with the current state.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeHistoryService {
+
+    @Autowired
+    private EmployeeHistoryRepository historyRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    @Transactional
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.getChangeType() == ChangeType.ARCHIVED || event.getChangeType() == ChangeType.RESTORED) {
+            // moving between tiers does not change the employee; the open version stays valid
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        historyRepository.closeCurrent(event.getEntityId(), now, EmployeeHistory.OPEN_END);
+        EmployeeDTO after = event.getAfter();
+        if (after != null) {
+            historyRepository.save(EmployeeHistory.builder()
+                    .entityId(after.getId())
+                    .employeeId(after.getEmployeeId())
+                    .firstName(after.getFirstName())
+                    .lastName(after.getLastName())
+                    .email(after.getEmail())
+                    .departmentId(after.getDepartmentId())
+                    .managerId(after.getManagerId())
+                    .salary(after.getSalary())
+                    .joiningDate(after.getJoiningDate())
+                    .status(after.getStatus())
+                    .validFrom(now)
+                    .validTo(EmployeeHistory.OPEN_END)
+                    .recordedAt(now)
+                    .build());
+        }
+    }
+
+    /** New versions for a bulk salary change, copied from the already updated employee rows. */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    @Transactional
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = event.getEmployeeIds();
+        historyRepository.closeCurrentIn(ids, now, EmployeeHistory.OPEN_END);
+        historyRepository.insertCurrentFromEmployees(ids, now, EmployeeHistory.OPEN_END);
+    }
+
+    public Page<EmployeeDTO> getEmployeesAsOf(LocalDateTime asOf, String search, Long departmentId,
+            EmployeeStatus status, Pageable pageable) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeHistoryService.getEmployeesAsOf");
+        Page<EmployeeDTO> result = historyRepository.findAsOf(asOf, search, departmentId, status, pageable)
+                .map(row -> toDTO((EmployeeHistory) row[0], (String) row[1], (String) row[2]));
+        event.finish(result.getNumberOfElements());
+        return result;
+    }
+
+    public DashboardStatsDTO getDashboardStatsAsOf(LocalDateTime asOf) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeHistoryService.getDashboardStatsAsOf");
+        List<Object[]> rows = historyRepository.aggregateAsOf(asOf);
+
+        long total = 0, active = 0, inactive = 0, salaryCount = 0;
+        BigDecimal salarySum = BigDecimal.ZERO;
+        Map<String, Long> deptMap = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            long count = (Long) row[2];
+            total += count;
+            if (row[1] == EmployeeStatus.ACTIVE) {
+                active += count;
+            } else {
+                inactive += count;
+            }
+            if (row[0] != null) {
+                deptMap.merge((String) row[0], count, Long::sum);
+            }
+            if (row[3] != null) {
+                salarySum = salarySum.add((BigDecimal) row[3]);
+            }
+            salaryCount += (Long) row[4];
+        }
+        double avgSalary = salaryCount == 0 ? 0.0
+                : salarySum.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP).doubleValue();
+        LocalDate firstOfMonth = asOf.toLocalDate().withDayOfMonth(1);
+
+        event.finish(rows.size());
+        return DashboardStatsDTO.builder()
+                .totalEmployees(total)
+                .activeEmployees(active)
+                .inactiveEmployees(inactive)
+                .totalDepartments(departmentRepository.countByCreatedAtLessThanEqual(asOf))
+                .departmentStats(deptMap)
+                .averageSalary(avgSalary)
+                .newJoineesThisMonth(historyRepository.countJoinedSinceAsOf(asOf, firstOfMonth))
+                .build();
+    }
+
+    private EmployeeDTO toDTO(EmployeeHistory version, String departmentName, String managerName) {
+        EmployeeDTO dto = new EmployeeDTO();
+        dto.setId(version.getEntityId());
+        dto.setEmployeeId(version.getEmployeeId());
+        dto.setFirstName(version.getFirstName());
+        dto.setLastName(version.getLastName());
+        dto.setEmail(version.getEmail());
+        dto.setDepartmentId(version.getDepartmentId());
+        dto.setDepartmentName(departmentName);
+        dto.setManagerId(version.getManagerId());
+        dto.setManagerName(managerName);
+        dto.setSalary(version.getSalary());
+        dto.setJoiningDate(version.getJoiningDate());
+        dto.setStatus(version.getStatus());
+        return dto;
+    }
+}
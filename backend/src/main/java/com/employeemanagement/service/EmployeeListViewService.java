@@ -0,0 +1,185 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.DepartmentDTO;
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.EmployeeListRow;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.DepartmentChangedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.EmployeeListRowRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Maintains {@code employee_list_view}, the denormalized read side of the employee list.
+ * Rows are written before commit inside the transaction that changed the employee or
+ * department, like {@link EmployeeHistoryService}, so a listing never sees a write the
+ * employees table does not have. A department rename or manager name change is one
+ * set-based UPDATE, however many rows carry the name.
+ */
+@Service
+@Transactional(readOnly = true)
+public class EmployeeListViewService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeListViewService.class);
+
+    static final String SEARCH_KEY_SEPARATOR = "\u001f";
+
+    @Autowired
+    private EmployeeListRowRepository listRowRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    @Transactional
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDTO after = event.getAfter();
+        if (after == null) {
+            // DELETED, ARCHIVED: archived employees are listed from employee_directory instead
+            listRowRepository.deleteById(event.getEntityId());
+            return;
+        }
+        listRowRepository.save(toRow(after));
+        EmployeeDTO before = event.getBefore();
+        if (before != null && (!Objects.equals(before.getFirstName(), after.getFirstName())
+                || !Objects.equals(before.getLastName(), after.getLastName()))) {
+            listRowRepository.renameManager(after.getId(), after.getFirstName() + " " + after.getLastName());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    @Transactional
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        DepartmentDTO before = event.getBefore();
+        DepartmentDTO after = event.getAfter();
+        if (event.getChangeType() == ChangeType.UPDATED && before != null && after != null
+                && !Objects.equals(before.getName(), after.getName())) {
+            int rows = listRowRepository.renameDepartment(after.getId(), after.getName());
+            logger.debug("Department {} renamed, {} list rows updated", after.getId(), rows);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE - 10)
+    @Transactional
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        listRowRepository.refreshSalaries(event.getEmployeeIds());
+    }
+
+    /** {@code search} is matched case-insensitively against employee id, names and email. */
+    public Page<EmployeeDTO> findWithFilters(String search, Long departmentId, EmployeeStatus status,
+            Pageable pageable) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeListViewService.findWithFilters");
+        Page<EmployeeDTO> result = listRowRepository.findWithFilters(
+                search == null || search.isEmpty() ? null : search.toLowerCase(Locale.ROOT),
+                departmentId, status, pageable)
+                .map(EmployeeListViewService::toDTO);
+        event.finish(result.getNumberOfElements());
+        return result;
+    }
+
+    /** Sparse fieldset page; each row holds the values of {@code fields} in order. */
+    public Page<Object[]> findFields(List<String> fields, String search, Long departmentId, EmployeeStatus status,
+            Pageable pageable) {
+        return listRowRepository.findFields(fields, search == null || search.isEmpty() ? null : search,
+                departmentId, status, pageable);
+    }
+
+    /** (departmentId, departmentName, status, joining year, count) per group of matching rows. */
+    public List<Object[]> aggregateFacets(String search) {
+        return listRowRepository.aggregateFacets(
+                search == null || search.isEmpty() ? null : search.toLowerCase(Locale.ROOT));
+    }
+
+    /** Recomputes every row from employees/departments, e.g. after a manual SQL fix. */
+    @Transactional
+    public Map<String, Object> rebuild() {
+        long start = System.nanoTime();
+        int deleted = listRowRepository.deleteAllRows();
+        int inserted = listRowRepository.insertAllFromEmployees();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("deleted", deleted);
+        result.put("inserted", inserted);
+        result.put("millis", (System.nanoTime() - start) / 1_000_000);
+        logger.info("Employee list view rebuilt: {} rows", inserted);
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        long rows = listRowRepository.count();
+        long employees = employeeRepository.count();
+        stats.put("rows", rows);
+        stats.put("employees", employees);
+        stats.put("inSync", rows == employees);
+        return stats;
+    }
+
+    static String searchKey(String employeeId, String firstName, String lastName, String email) {
+        return String.join(SEARCH_KEY_SEPARATOR, Objects.toString(employeeId, ""), Objects.toString(firstName, ""),
+                Objects.toString(lastName, ""), Objects.toString(email, "")).toLowerCase(Locale.ROOT);
+    }
+
+    private static EmployeeListRow toRow(EmployeeDTO dto) {
+        return EmployeeListRow.builder()
+                .id(dto.getId())
+                .employeeId(dto.getEmployeeId())
+                .firstName(dto.getFirstName())
+                .lastName(dto.getLastName())
+                .email(dto.getEmail())
+                .phone(dto.getPhone())
+                .departmentId(dto.getDepartmentId())
+                .departmentName(dto.getDepartmentName())
+                .managerId(dto.getManagerId())
+                .managerName(dto.getManagerName())
+                .salary(dto.getSalary())
+                .joiningDate(dto.getJoiningDate())
+                .status(dto.getStatus())
+                .profileImage(dto.getProfileImage())
+                .address(dto.getAddress())
+                .searchKey(searchKey(dto.getEmployeeId(), dto.getFirstName(), dto.getLastName(), dto.getEmail()))
+                .build();
+    }
+
+    static EmployeeDTO toDTO(EmployeeListRow row) {
+        return EmployeeDTO.builder()
+                .id(row.getId())
+                .employeeId(row.getEmployeeId())
+                .firstName(row.getFirstName())
+                .lastName(row.getLastName())
+                .email(row.getEmail())
+                .phone(row.getPhone())
+                .departmentId(row.getDepartmentId())
+                .departmentName(row.getDepartmentName())
+                .managerId(row.getManagerId())
+                .managerName(row.getManagerName())
+                .salary(row.getSalary())
+                .joiningDate(row.getJoiningDate())
+                .status(row.getStatus())
+                .profileImage(row.getProfileImage())
+                .address(row.getAddress())
+                .build();
+    }
+}
@@ -1,15 +1,27 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.cache.Coalesced;
+import com.employeemanagement.dto.ColumnarPageDTO;
 import com.employeemanagement.dto.DashboardStatsDTO;
 import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.EmployeeFacetsDTO;
+import com.employeemanagement.dto.FacetCountDTO;
+import com.employeemanagement.dto.FacetedPageDTO;
 import com.employeemanagement.entity.Department;
 import com.employeemanagement.entity.Employee;
 import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.EmployeeChangedEvent;
 import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.profiling.ServiceCallEvent;
 import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeArchiveRepository;
+import com.employeemanagement.repository.EmployeeFieldsRepository;
 import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.resilience.LastKnownGood;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,6 +31,7 @@ import java.io.IOException;
 
 import java.nio.file.*;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
 
 @Service
@@ -31,58 +44,195 @@ public class EmployeeService {
     @Autowired
     private DepartmentRepository departmentRepository;
 
+    @Autowired
+    private EmployeeArchiveRepository archiveRepository;
+
+    @Autowired
+    private OrgChartService orgChartService;
+
+    @Autowired
+    private EmployeeHistoryService employeeHistoryService;
+
+    @Autowired
+    private EmployeeListViewService employeeListViewService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     @Value("${app.upload.dir}")
     private String uploadDir;
 
+    /**
+     * @param asOf when set, lists the employee versions valid at that instant from
+     *             {@code employee_history} instead of the current rows
+     */
     public Page<EmployeeDTO> getAllEmployees(int page, int size, String sortBy, String sortDir,
-            String search, Long departmentId, String status) {
+            String search, Long departmentId, String status, LocalDateTime asOf) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeService.getAllEmployees");
         Sort sort = sortDir.equalsIgnoreCase("desc")
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        EmployeeStatus employeeStatus = null;
-        if (status != null && !status.isEmpty()) {
-            try {
-                employeeStatus = EmployeeStatus.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException ignored) {
-            }
+        EmployeeStatus employeeStatus = parseStatus(status);
+
+        if (asOf != null) {
+            // history rows carry the employee's id as entityId; id there is the version's own key
+            Pageable historyPageable = PageRequest.of(page, size,
+                    Sort.by(sort.stream().map(o -> o.getProperty().equals("id") ? o.withProperty("entityId") : o).toList()));
+            Page<EmployeeDTO> result = employeeHistoryService.getEmployeesAsOf(asOf,
+                    search != null && search.isEmpty() ? null : search, departmentId, employeeStatus, historyPageable);
+            event.finish(result.getNumberOfElements());
+            return result;
         }
 
-        Page<Employee> employees = employeeRepository.findWithFilters(
-                search != null && search.isEmpty() ? null : search,
-                departmentId,
-                employeeStatus,
+        // read side only: no join to departments/managers, rows map straight to DTOs
+        Page<EmployeeDTO> result = employeeListViewService.findWithFilters(search, departmentId, employeeStatus,
                 pageable);
+        event.finish(result.getNumberOfElements());
+        return result;
+    }
 
-        return employees.map(this::toDTO);
+    /**
+     * Sparse fieldset listing: only {@code fields} (comma-separated, null for all) are
+     * selected from {@code employee_list_view} and serialized, one map per row.
+     */
+    @Transactional(readOnly = true)
+    public FacetedPageDTO<Map<String, Object>> getEmployeeRows(int page, int size, String sortBy, String sortDir,
+            String search, Long departmentId, String status, String fields) {
+        List<String> selected = parseFields(fields);
+        Page<Object[]> rows = findFields(page, size, sortBy, sortDir, search, departmentId, status, selected);
+        List<Map<String, Object>> content = new ArrayList<>(rows.getNumberOfElements());
+        for (Object[] row : rows) {
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (int i = 0; i < selected.size(); i++) {
+                values.put(selected.get(i), row[i]);
+            }
+            content.add(values);
+        }
+        return FacetedPageDTO.<Map<String, Object>>builder()
+                .content(content)
+                .number(rows.getNumber())
+                .size(rows.getSize())
+                .totalElements(rows.getTotalElements())
+                .totalPages(rows.getTotalPages())
+                .build();
     }
 
+    /** As {@link #getEmployeeRows}, transposed into one array per field. */
+    @Transactional(readOnly = true)
+    public ColumnarPageDTO getEmployeeColumns(int page, int size, String sortBy, String sortDir,
+            String search, Long departmentId, String status, String fields) {
+        List<String> selected = parseFields(fields);
+        Page<Object[]> rows = findFields(page, size, sortBy, sortDir, search, departmentId, status, selected);
+        List<List<Object>> columns = new ArrayList<>(selected.size());
+        for (int i = 0; i < selected.size(); i++) {
+            List<Object> column = new ArrayList<>(rows.getNumberOfElements());
+            for (Object[] row : rows) {
+                column.add(row[i]);
+            }
+            columns.add(column);
+        }
+        return ColumnarPageDTO.builder()
+                .fields(selected)
+                .columns(columns)
+                .number(rows.getNumber())
+                .size(rows.getSize())
+                .totalElements(rows.getTotalElements())
+                .totalPages(rows.getTotalPages())
+                .build();
+    }
+
+    /**
+     * Department, status and joining-year counts for a search, from one grouped query.
+     * Each facet applies the other facets' filters but not its own.
+     */
+    @Transactional(readOnly = true)
+    public EmployeeFacetsDTO getFacets(String search, Long departmentId, String status) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeService.getFacets");
+        EmployeeStatus employeeStatus = parseStatus(status);
+        List<Object[]> groups = employeeListViewService.aggregateFacets(search);
+
+        Map<Long, FacetCountDTO> departments = new LinkedHashMap<>();
+        Map<EmployeeStatus, Long> statuses = new EnumMap<>(EmployeeStatus.class);
+        Map<Integer, Long> years = new TreeMap<>(Comparator.reverseOrder());
+        for (EmployeeStatus s : EmployeeStatus.values()) {
+            statuses.put(s, 0L);
+        }
+        for (Object[] row : groups) {
+            Long deptId = (Long) row[0];
+            EmployeeStatus rowStatus = (EmployeeStatus) row[2];
+            Integer year = (Integer) row[3];
+            long count = (Long) row[4];
+            boolean deptMatches = departmentId == null || departmentId.equals(deptId);
+            boolean statusMatches = employeeStatus == null || employeeStatus == rowStatus;
+
+            if (statusMatches && deptId != null) {
+                FacetCountDTO facet = departments.computeIfAbsent(deptId,
+                        id -> new FacetCountDTO(id.toString(), (String) row[1], 0));
+                facet.setCount(facet.getCount() + count);
+            }
+            if (deptMatches) {
+                statuses.merge(rowStatus, count, Long::sum);
+            }
+            if (deptMatches && statusMatches && year != null) {
+                years.merge(year, count, Long::sum);
+            }
+        }
+        event.finish(groups.size());
+
+        return EmployeeFacetsDTO.builder()
+                .departments(departments.values().stream()
+                        .sorted(Comparator.comparing(FacetCountDTO::getLabel))
+                        .toList())
+                .statuses(statuses.entrySet().stream()
+                        .map(e -> new FacetCountDTO(e.getKey().name(), e.getKey().name(), e.getValue()))
+                        .toList())
+                .joiningYears(years.entrySet().stream()
+                        .map(e -> new FacetCountDTO(e.getKey().toString(), e.getKey().toString(), e.getValue()))
+                        .toList())
+                .build();
+    }
+
+    @LastKnownGood
     public EmployeeDTO getEmployeeById(Long id) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeService.getEmployeeById");
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
-        return toDTO(emp);
+        EmployeeDTO dto = toDTO(emp);
+        event.finish(1);
+        return dto;
     }
 
     public EmployeeDTO createEmployee(EmployeeDTO dto) {
-        if (employeeRepository.existsByEmail(dto.getEmail())) {
+        if (employeeRepository.existsByEmail(dto.getEmail()) || archiveRepository.existsByEmail(dto.getEmail())) {
             throw new RuntimeException("Email already exists: " + dto.getEmail());
         }
-        if (dto.getEmployeeId() != null && employeeRepository.existsByEmployeeId(dto.getEmployeeId())) {
+        if (dto.getEmployeeId() != null && (employeeRepository.existsByEmployeeId(dto.getEmployeeId())
+                || archiveRepository.existsByEmployeeId(dto.getEmployeeId()))) {
             throw new RuntimeException("Employee ID already exists: " + dto.getEmployeeId());
         }
 
         Employee emp = toEntity(dto);
-        return toDTO(employeeRepository.save(emp));
+        if (dto.getManagerId() != null) {
+            emp.setManager(findManager(dto.getManagerId()));
+        }
+        emp = employeeRepository.save(emp);
+        orgChartService.attach(emp);
+        EmployeeDTO created = toDTO(emp);
+        publish(ChangeType.CREATED, created.getId(), null, created);
+        return created;
     }
 
     public EmployeeDTO updateEmployee(Long id, EmployeeDTO dto) {
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
 
-        if (!emp.getEmail().equals(dto.getEmail()) && employeeRepository.existsByEmail(dto.getEmail())) {
+        if (!emp.getEmail().equals(dto.getEmail())
+                && (employeeRepository.existsByEmail(dto.getEmail()) || archiveRepository.existsByEmail(dto.getEmail()))) {
             throw new RuntimeException("Email already exists: " + dto.getEmail());
         }
+        EmployeeDTO before = toDTO(emp);
 
         emp.setFirstName(dto.getFirstName());
         emp.setLastName(dto.getLastName());
@@ -100,20 +250,64 @@ public class EmployeeService {
             emp.setDepartment(dept);
         }
 
-        return toDTO(employeeRepository.save(emp));
+        if (dto.getManagerId() != null
+                && (emp.getManager() == null || !dto.getManagerId().equals(emp.getManager().getId()))) {
+            Employee manager = findManager(dto.getManagerId());
+            orgChartService.move(emp, manager);
+            emp.setManager(manager);
+        }
+
+        EmployeeDTO updated = toDTO(employeeRepository.save(emp));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
     }
 
     public void deleteEmployee(Long id) {
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        EmployeeDTO before = toDTO(emp);
+        // Direct reports move up a level; the closure rows of emp go with it (ON DELETE CASCADE)
+        Long managerId = emp.getManager() != null ? emp.getManager().getId() : null;
+        for (Employee report : employeeRepository.findByManagerId(id)) {
+            changeManager(report.getId(), managerId);
+        }
         employeeRepository.delete(emp);
+        publish(ChangeType.DELETED, id, before, null);
     }
 
     public EmployeeDTO updateStatus(Long id, EmployeeStatus status) {
         Employee emp = employeeRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        EmployeeDTO before = toDTO(emp);
         emp.setStatus(status);
-        return toDTO(employeeRepository.save(emp));
+        EmployeeDTO updated = toDTO(employeeRepository.save(emp));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
+    }
+
+    public EmployeeDTO changeDepartment(Long id, Long departmentId) {
+        Employee emp = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        Department dept = departmentRepository.findById(departmentId)
+                .orElseThrow(() -> new ResourceNotFoundException("Department not found with id: " + departmentId));
+        EmployeeDTO before = toDTO(emp);
+        emp.setDepartment(dept);
+        EmployeeDTO updated = toDTO(employeeRepository.save(emp));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
+    }
+
+    /** Moves the employee, with everyone under them, to a new manager (null for top level). */
+    public EmployeeDTO changeManager(Long id, Long managerId) {
+        Employee emp = employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+        EmployeeDTO before = toDTO(emp);
+        Employee manager = managerId != null ? findManager(managerId) : null;
+        orgChartService.move(emp, manager);
+        emp.setManager(manager);
+        EmployeeDTO updated = toDTO(employeeRepository.save(emp));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
     }
 
     public String uploadProfileImage(Long id, MultipartFile file) throws IOException {
@@ -129,12 +323,19 @@ public class EmployeeService {
         Path filePath = uploadPath.resolve(filename);
         Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
 
+        EmployeeDTO before = toDTO(emp);
         emp.setProfileImage("/api/uploads/" + filename);
-        employeeRepository.save(emp);
+        publish(ChangeType.UPDATED, id, before, toDTO(employeeRepository.save(emp)));
         return "/api/uploads/" + filename;
     }
 
-    public DashboardStatsDTO getDashboardStats() {
+    @LastKnownGood
+    @Coalesced(ttlMillis = 2000, staleWhileRevalidateMillis = 10000)
+    public DashboardStatsDTO getDashboardStats(LocalDateTime asOf) {
+        if (asOf != null) {
+            return employeeHistoryService.getDashboardStatsAsOf(asOf);
+        }
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeService.getDashboardStats");
         long total = employeeRepository.count();
         long active = employeeRepository.countByStatus(EmployeeStatus.ACTIVE);
         long inactive = employeeRepository.countByStatus(EmployeeStatus.INACTIVE);
@@ -146,17 +347,15 @@ public class EmployeeService {
             deptMap.put((String) row[0], (Long) row[1]);
         }
 
-        double avgSalary = employeeRepository.findAll().stream()
-                .filter(e -> e.getSalary() != null)
-                .mapToDouble(e -> e.getSalary().doubleValue())
-                .average()
-                .orElse(0.0);
+        Double avgSalary = employeeRepository.averageSalary();
+        if (avgSalary == null) {
+            avgSalary = 0.0;
+        }
 
         LocalDate firstOfMonth = LocalDate.now().withDayOfMonth(1);
-        long newJoinees = employeeRepository.findAll().stream()
-                .filter(e -> e.getJoiningDate() != null && !e.getJoiningDate().isBefore(firstOfMonth))
-                .count();
+        long newJoinees = employeeRepository.countByJoiningDateGreaterThanEqual(firstOfMonth);
 
+        event.finish(deptStats.size());
         return DashboardStatsDTO.builder()
                 .totalEmployees(total)
                 .activeEmployees(active)
@@ -168,7 +367,55 @@ public class EmployeeService {
                 .build();
     }
 
-    private EmployeeDTO toDTO(Employee emp) {
+    private Page<Object[]> findFields(int page, int size, String sortBy, String sortDir, String search,
+            Long departmentId, String status, List<String> fields) {
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeService.findFields");
+        Sort sort = sortDir.equalsIgnoreCase("desc")
+                ? Sort.by(sortBy).descending()
+                : Sort.by(sortBy).ascending();
+        Page<Object[]> rows = employeeListViewService.findFields(fields, search, departmentId, parseStatus(status),
+                PageRequest.of(page, size, sort));
+        event.finish(rows.getNumberOfElements());
+        return rows;
+    }
+
+    private List<String> parseFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return EmployeeFieldsRepository.FIELDS;
+        }
+        List<String> selected = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(f -> !f.isEmpty())
+                .distinct()
+                .toList();
+        for (String field : selected) {
+            if (!EmployeeFieldsRepository.FIELDS.contains(field)) {
+                throw new RuntimeException("Unknown field: " + field + ". Allowed: " + EmployeeFieldsRepository.FIELDS);
+            }
+        }
+        return selected;
+    }
+
+    static EmployeeStatus parseStatus(String status) {
+        if (status != null && !status.isEmpty()) {
+            try {
+                return EmployeeStatus.valueOf(status.toUpperCase());
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return null;
+    }
+
+    private Employee findManager(Long managerId) {
+        return employeeRepository.findById(managerId)
+                .orElseThrow(() -> new ResourceNotFoundException("Manager not found with id: " + managerId));
+    }
+
+    private void publish(ChangeType type, Long id, EmployeeDTO before, EmployeeDTO after) {
+        eventPublisher.publishEvent(new EmployeeChangedEvent(type, id, before, after));
+    }
+
+    static EmployeeDTO toDTO(Employee emp) {
         EmployeeDTO dto = new EmployeeDTO();
         dto.setId(emp.getId());
         dto.setEmployeeId(emp.getEmployeeId());
@@ -185,6 +432,10 @@ public class EmployeeService {
             dto.setDepartmentId(emp.getDepartment().getId());
             dto.setDepartmentName(emp.getDepartment().getName());
         }
+        if (emp.getManager() != null) {
+            dto.setManagerId(emp.getManager().getId());
+            dto.setManagerName(emp.getManager().getFirstName() + " " + emp.getManager().getLastName());
+        }
         return dto;
     }
 
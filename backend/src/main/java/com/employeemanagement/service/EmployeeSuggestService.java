@@ -0,0 +1,359 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.DepartmentDTO;
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.EmployeeSuggestionDTO;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.DepartmentChangedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.invalidation.RemoteChangeEvent;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.search.PrefixIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead over first name, last name, full name, email and employee ID, served from a
+ * {@link PrefixIndex} plus one packed display record per employee. Built at startup and
+ * kept current from employee change events. If the index would grow past
+ * {@code app.suggest.max-bytes} it is dropped and suggestions fall back to indexed prefix
+ * queries; it is rebuilt once the employee count times the last measured bytes per
+ * employee fits again. Changes that arrive while the index is being (re)built are
+ * buffered and replayed once the new index is in place.
+ */
+@Service
+public class EmployeeSuggestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeSuggestService.class);
+    private static final char SEPARATOR = '\u0001';
+    private static final int MIN_COMPACTION = 4096;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Value("${app.suggest.max-bytes:268435456}")
+    private long maxBytes;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final PrefixIndex index = new PrefixIndex();
+    private final Map<Long, String> departmentNames = new ConcurrentHashMap<>();
+    private final Map<Long, Integer> slotByEmployeeId = new HashMap<>();
+    // per slot; id 0 marks a removed employee whose slot is reclaimed at compaction
+    private long[] ids = new long[0];
+    private long[] departmentIds = new long[0];
+    private byte[][] records = new byte[0][];
+    private int size;
+    private long recordBytes;
+    private volatile boolean enabled;
+    // set while load() reads the employees; changes arriving meanwhile are replayed after the swap
+    private volatile boolean loading;
+    private final Map<Long, Change> pending = new LinkedHashMap<>();
+    // measured when the index was dropped, to tell when a rebuild would fit again
+    private volatile long bytesPerEmployee;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        departmentRepository.findAll().forEach(d -> departmentNames.put(d.getId(), d.getName()));
+        // start buffering before the read: a change committed after it began may be missing from the rows
+        lock.writeLock().lock();
+        try {
+            loading = true;
+            pending.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<Object[]> rows;
+        try {
+            rows = employeeRepository.findSuggestColumns();
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                loading = false;
+                pending.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        int replayed;
+        lock.writeLock().lock();
+        try {
+            ids = new long[rows.size()];
+            departmentIds = new long[rows.size()];
+            records = new byte[rows.size()][];
+            size = 0;
+            recordBytes = 0;
+            slotByEmployeeId.clear();
+            List<PrefixIndex.Entry> entries = new ArrayList<>(rows.size() * 5);
+            for (Object[] row : rows) {
+                int slot = store((Long) row[0], (String) row[1], (String) row[2], (String) row[3], (String) row[4],
+                        (Long) row[5]);
+                for (String key : keys((String) row[1], (String) row[2], (String) row[3], (String) row[4])) {
+                    entries.add(new PrefixIndex.Entry(PrefixIndex.encode(key), slot));
+                }
+            }
+            index.load(entries);
+            enabled = checkFootprint();
+            replayed = pending.size();
+            for (Map.Entry<Long, Change> change : pending.entrySet()) {
+                if (enabled) { // a compaction during replay may drop the index again
+                    apply(change.getKey(), change.getValue().fields(), change.getValue().departmentId());
+                }
+            }
+            pending.clear();
+            loading = false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Suggest index loaded: {} employees, {} keys, ~{} KB, {} changes replayed", rows.size(),
+                index.baseSize(), footprintBytes() / 1024, replayed);
+    }
+
+    @Scheduled(cron = "${app.suggest.reload-cron:0 */10 * * * *}")
+    public void reloadIfFits() {
+        if (enabled) {
+            return;
+        }
+        long estimate = employeeRepository.count() * bytesPerEmployee;
+        if (estimate <= maxBytes) {
+            logger.info("Suggest index estimated at ~{} MB, within app.suggest.max-bytes; rebuilding", estimate >> 20);
+            load();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDTO after = event.getAfter();
+        update(event.getEntityId(), after == null ? null : new String[]{after.getEmployeeId(),
+                after.getFirstName(), after.getLastName(), after.getEmail()}, after == null ? null : after.getDepartmentId());
+    }
+
+    @TransactionalEventListener
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        DepartmentDTO after = event.getAfter();
+        if (after == null) {
+            departmentNames.remove(event.getEntityId());
+        } else {
+            departmentNames.put(after.getId(), after.getName());
+        }
+    }
+
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (DepartmentChangedEvent.ENTITY_TYPE.equals(event.entityType())) {
+            departmentRepository.findById(event.entityId()).ifPresentOrElse(
+                    d -> departmentNames.put(d.getId(), d.getName()),
+                    () -> departmentNames.remove(event.entityId()));
+        } else if (EmployeeChangedEvent.ENTITY_TYPE.equals(event.entityType())) {
+            Employee e = employeeRepository.findById(event.entityId()).orElse(null);
+            update(event.entityId(), e == null ? null : new String[]{e.getEmployeeId(), e.getFirstName(),
+                    e.getLastName(), e.getEmail()}, e == null || e.getDepartment() == null ? null : e.getDepartment().getId());
+        }
+    }
+
+    public List<EmployeeSuggestionDTO> suggest(String query, int limit) {
+        if (limit < 1 || limit > 50) {
+            throw new RuntimeException("Limit must be between 1 and 50");
+        }
+        String prefix = query == null ? "" : query.trim();
+        if (prefix.isEmpty()) {
+            return List.of();
+        }
+        ServiceCallEvent event = ServiceCallEvent.start("EmployeeSuggestService.suggest");
+        List<EmployeeSuggestionDTO> result = enabled ? fromIndex(prefix, limit) : fromDatabase(prefix, limit);
+        event.finish(result.size());
+        return result;
+    }
+
+    public Map<String, Object> getStats() {
+        lock.readLock().lock();
+        try {
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("enabled", enabled);
+            stats.put("employees", slotByEmployeeId.size());
+            stats.put("baseKeys", index.baseSize());
+            stats.put("deltaKeys", index.deltaSize());
+            stats.put("footprintBytes", footprintBytes());
+            stats.put("maxBytes", maxBytes);
+            if (!enabled) {
+                stats.put("bytesPerEmployeeWhenDropped", bytesPerEmployee);
+            }
+            return stats;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<EmployeeSuggestionDTO> fromIndex(String prefix, int limit) {
+        List<EmployeeSuggestionDTO> result = new ArrayList<>(limit);
+        lock.readLock().lock();
+        try {
+            for (int slot : index.search(prefix, limit, s -> ids[s] != 0)) {
+                String[] fields = new String(records[slot], StandardCharsets.UTF_8).split(String.valueOf(SEPARATOR), -1);
+                result.add(EmployeeSuggestionDTO.builder()
+                        .id(ids[slot])
+                        .employeeId(fields[0])
+                        .fullName(fields[1] + " " + fields[2])
+                        .email(fields[3])
+                        .departmentName(departmentIds[slot] == 0 ? null : departmentNames.get(departmentIds[slot]))
+                        .build());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /** Same keys as the index (see {@link #keys}), matched by prefix so each column's index applies. */
+    private List<EmployeeSuggestionDTO> fromDatabase(String prefix, int limit) {
+        int space = prefix.indexOf(' ');
+        String firstName = space < 0 ? null : prefix.substring(0, space);
+        String lastNamePrefix = space < 0 ? null : likePrefix(prefix.substring(space + 1).trim());
+        return employeeRepository.findSuggestMatches(likePrefix(prefix), firstName, lastNamePrefix,
+                        PageRequest.of(0, limit)).stream()
+                .map(row -> EmployeeSuggestionDTO.builder()
+                        .id((Long) row[0])
+                        .employeeId((String) row[1])
+                        .fullName(row[2] + " " + row[3])
+                        .email((String) row[4])
+                        .departmentName((String) row[5])
+                        .build())
+                .toList();
+    }
+
+    private static String likePrefix(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    /** fields: employeeId, firstName, lastName, email; null removes the employee. */
+    private void update(Long employeeId, String[] fields, Long departmentId) {
+        if (!enabled && !loading) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loading) {
+                // the rows being loaded may predate this change; keep the latest per employee
+                pending.remove(employeeId);
+                pending.put(employeeId, new Change(fields, departmentId));
+            } else if (enabled) {
+                apply(employeeId, fields, departmentId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** Caller holds the write lock. */
+    private void apply(Long employeeId, String[] fields, Long departmentId) {
+        Integer old = slotByEmployeeId.remove(employeeId);
+        if (old != null) {
+            ids[old] = 0;
+            recordBytes -= records[old].length;
+            records[old] = null;
+        }
+        if (fields != null) {
+            int slot = store(employeeId, fields[0], fields[1], fields[2], fields[3], departmentId);
+            for (String key : keys(fields[0], fields[1], fields[2], fields[3])) {
+                index.add(key, slot);
+            }
+        }
+        if (index.deltaSize() > Math.max(MIN_COMPACTION, index.baseSize() / 16)) {
+            compact();
+        }
+    }
+
+    /** Merges the index delta and packs the per-slot arrays, dropping removed employees. */
+    private void compact() {
+        int[] remap = new int[size];
+        int live = 0;
+        for (int slot = 0; slot < size; slot++) {
+            remap[slot] = ids[slot] != 0 ? live++ : -1;
+        }
+        index.compact(s -> ids[s] != 0, s -> remap[s]);
+        long[] newIds = new long[Math.max(16, live + live / 4)];
+        long[] newDepartmentIds = new long[newIds.length];
+        byte[][] newRecords = new byte[newIds.length][];
+        for (int slot = 0; slot < size; slot++) {
+            if (remap[slot] >= 0) {
+                newIds[remap[slot]] = ids[slot];
+                newDepartmentIds[remap[slot]] = departmentIds[slot];
+                newRecords[remap[slot]] = records[slot];
+                slotByEmployeeId.put(ids[slot], remap[slot]);
+            }
+        }
+        ids = newIds;
+        departmentIds = newDepartmentIds;
+        records = newRecords;
+        size = live;
+        enabled = checkFootprint();
+    }
+
+    private int store(Long employeeId, String code, String firstName, String lastName, String email, Long departmentId) {
+        if (size == ids.length) {
+            int capacity = Math.max(16, size * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            departmentIds = Arrays.copyOf(departmentIds, capacity);
+            records = Arrays.copyOf(records, capacity);
+        }
+        int slot = size++;
+        byte[] record = String.join(String.valueOf(SEPARATOR), code, firstName, lastName, email)
+                .getBytes(StandardCharsets.UTF_8);
+        ids[slot] = employeeId;
+        departmentIds[slot] = departmentId == null ? 0 : departmentId;
+        records[slot] = record;
+        recordBytes += record.length;
+        slotByEmployeeId.put(employeeId, slot);
+        return slot;
+    }
+
+    private static List<String> keys(String code, String firstName, String lastName, String email) {
+        return List.of(code, firstName, lastName, firstName + " " + lastName, email);
+    }
+
+    private boolean checkFootprint() {
+        long footprint = footprintBytes();
+        if (footprint > maxBytes) {
+            bytesPerEmployee = footprint / Math.max(1, slotByEmployeeId.size());
+            logger.warn("Suggest index needs ~{} MB, over app.suggest.max-bytes; serving suggestions from the database",
+                    footprint >> 20);
+            ids = new long[0];
+            departmentIds = new long[0];
+            records = new byte[0][];
+            size = 0;
+            recordBytes = 0;
+            slotByEmployeeId.clear();
+            index.load(List.of());
+            return false;
+        }
+        return true;
+    }
+
+    private record Change(String[] fields, Long departmentId) {
+    }
+
+    private long footprintBytes() {
+        // slot arrays, one byte[] (16-byte header) per record, boxed HashMap entry (~48 bytes) per employee
+        return index.footprintBytes() + (long) ids.length * 24 + recordBytes + (long) size * 16
+                + (long) slotByEmployeeId.size() * 48;
+    }
+}
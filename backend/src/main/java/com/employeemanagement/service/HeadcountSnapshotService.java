@@ -0,0 +1,199 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.HeadcountPointDTO;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.HeadcountSnapshot;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.HeadcountSnapshotRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+
+/**
+ * Materializes daily per-department headcount rollups and serves time series from them.
+ * Reads for the time-series API only ever touch headcount_snapshots.
+ */
+@Service
+@Transactional
+public class HeadcountSnapshotService {
+
+    private static final Logger logger = LoggerFactory.getLogger(HeadcountSnapshotService.class);
+
+    private static final String UNASSIGNED = "Unassigned";
+
+    public enum Granularity {
+        DAY, MONTH
+    }
+
+    @Autowired
+    private HeadcountSnapshotRepository snapshotRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Scheduled(cron = "${app.snapshot.cron}")
+    public void takeScheduledSnapshot() {
+        int rows = takeSnapshot(LocalDate.now());
+        logger.info("Headcount snapshot for {} written ({} department rows)", LocalDate.now(), rows);
+    }
+
+    public int takeSnapshot(LocalDate date) {
+        Map<Long, Rollup> rollups = new LinkedHashMap<>();
+        for (Object[] row : employeeRepository.aggregateByDepartmentAndStatus()) {
+            rollups.computeIfAbsent((Long) row[0], id -> new Rollup(id, (String) row[1]))
+                    .add((EmployeeStatus) row[2], (Long) row[3], (BigDecimal) row[4], (Long) row[5]);
+        }
+        snapshotRepository.deleteBySnapshotDateBetween(date, date);
+        snapshotRepository.saveAll(rollups.values().stream().map(r -> r.toSnapshot(date)).toList());
+        return rollups.size();
+    }
+
+    /**
+     * Fills in snapshots for [from, to] from joining dates in one grouped query. Employees
+     * are counted from their joining date onwards with their current status, since the
+     * employees table keeps no record of past status changes. Days that already have
+     * snapshots keep them, as those were taken from the real state at the time, unless
+     * {@code overwrite} is set.
+     */
+    public int backfill(LocalDate from, LocalDate to, boolean overwrite) {
+        if (to.isBefore(from)) {
+            throw new RuntimeException("Backfill range is empty: " + from + " > " + to);
+        }
+        List<Object[]> rows = new ArrayList<>(employeeRepository.aggregateByDepartmentStatusAndJoiningDate());
+        rows.sort(Comparator.comparing(r -> (LocalDate) r[3], Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Set<LocalDate> existing = new HashSet<>();
+        if (overwrite) {
+            snapshotRepository.deleteBySnapshotDateBetween(from, to);
+        } else {
+            existing.addAll(snapshotRepository.findSnapshotDatesBetween(from, to));
+        }
+
+        Map<Long, Rollup> rollups = new LinkedHashMap<>();
+        int next = 0;
+        int written = 0;
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            while (next < rows.size() && (rows.get(next)[3] == null || !((LocalDate) rows.get(next)[3]).isAfter(day))) {
+                Object[] row = rows.get(next++);
+                rollups.computeIfAbsent((Long) row[0], id -> new Rollup(id, (String) row[1]))
+                        .add((EmployeeStatus) row[2], (Long) row[4], (BigDecimal) row[5], (Long) row[6]);
+            }
+            if (existing.contains(day)) {
+                continue;
+            }
+            LocalDate snapshotDate = day;
+            snapshotRepository.saveAll(rollups.values().stream().map(r -> r.toSnapshot(snapshotDate)).toList());
+            written += rollups.size();
+        }
+        logger.info("Headcount backfill {}..{} wrote {} rows, kept {} snapshotted days", from, to, written,
+                existing.size());
+        return written;
+    }
+
+    @Transactional(readOnly = true)
+    public List<HeadcountPointDTO> getTimeSeries(LocalDate from, LocalDate to, Granularity granularity,
+            Long departmentId, boolean byDepartment) {
+        List<HeadcountSnapshot> snapshots = departmentId != null
+                ? snapshotRepository.findBySnapshotDateBetweenAndDepartmentIdOrderBySnapshotDateAsc(from, to, departmentId)
+                : snapshotRepository.findBySnapshotDateBetweenOrderBySnapshotDateAsc(from, to);
+
+        // Headcount is a stock, so a month is represented by its last snapshotted day.
+        if (granularity == Granularity.MONTH) {
+            Map<YearMonth, LocalDate> lastDayOfMonth = new HashMap<>();
+            for (HeadcountSnapshot s : snapshots) {
+                lastDayOfMonth.merge(YearMonth.from(s.getSnapshotDate()), s.getSnapshotDate(),
+                        (a, b) -> a.isAfter(b) ? a : b);
+            }
+            snapshots = snapshots.stream()
+                    .filter(s -> s.getSnapshotDate().equals(lastDayOfMonth.get(YearMonth.from(s.getSnapshotDate()))))
+                    .toList();
+        }
+
+        Map<String, Rollup> points = new LinkedHashMap<>();
+        for (HeadcountSnapshot s : snapshots) {
+            LocalDate date = granularity == Granularity.MONTH ? s.getSnapshotDate().withDayOfMonth(1) : s.getSnapshotDate();
+            String key = byDepartment ? date + "|" + s.getDepartmentId() : date.toString();
+            Rollup rollup = points.computeIfAbsent(key, k -> byDepartment
+                    ? new Rollup(s.getDepartmentId(), s.getDepartmentName())
+                    : new Rollup(null, null));
+            rollup.date = date;
+            rollup.merge(s);
+        }
+        return points.values().stream().map(Rollup::toPoint).toList();
+    }
+
+    private static class Rollup {
+        private final Long departmentId;
+        private final String departmentName;
+        private LocalDate date;
+        private long total;
+        private long active;
+        private long inactive;
+        private BigDecimal salarySum = BigDecimal.ZERO;
+        private long salaryCount;
+
+        Rollup(Long departmentId, String departmentName) {
+            this.departmentId = departmentId;
+            this.departmentName = departmentName;
+        }
+
+        void add(EmployeeStatus status, long count, BigDecimal sum, long withSalary) {
+            total += count;
+            if (status == EmployeeStatus.ACTIVE) {
+                active += count;
+            } else {
+                inactive += count;
+            }
+            if (sum != null) {
+                salarySum = salarySum.add(sum);
+            }
+            salaryCount += withSalary;
+        }
+
+        void merge(HeadcountSnapshot s) {
+            total += s.getTotalEmployees();
+            active += s.getActiveEmployees();
+            inactive += s.getInactiveEmployees();
+            if (s.getSalarySum() != null) {
+                salarySum = salarySum.add(s.getSalarySum());
+            }
+            salaryCount += s.getSalaryCount();
+        }
+
+        HeadcountSnapshot toSnapshot(LocalDate date) {
+            return HeadcountSnapshot.builder()
+                    .snapshotDate(date)
+                    .departmentId(departmentId)
+                    .departmentName(departmentId == null ? UNASSIGNED : departmentName)
+                    .totalEmployees(total)
+                    .activeEmployees(active)
+                    .inactiveEmployees(inactive)
+                    .salarySum(salarySum)
+                    .salaryCount(salaryCount)
+                    .build();
+        }
+
+        HeadcountPointDTO toPoint() {
+            double avg = salaryCount == 0 ? 0.0
+                    : salarySum.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP).doubleValue();
+            return HeadcountPointDTO.builder()
+                    .date(date)
+                    .departmentId(departmentId)
+                    .departmentName(departmentName)
+                    .totalEmployees(total)
+                    .activeEmployees(active)
+                    .inactiveEmployees(inactive)
+                    .averageSalary(avg)
+                    .build();
+        }
+    }
+}
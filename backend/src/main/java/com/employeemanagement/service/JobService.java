@@ -0,0 +1,190 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.JobDTO;
+import com.employeemanagement.dto.JobRequestDTO;
+import com.employeemanagement.entity.Job;
+import com.employeemanagement.entity.Job.JobPriority;
+import com.employeemanagement.entity.Job.JobStatus;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.job.JobHandler;
+import com.employeemanagement.job.JobRunner;
+import com.employeemanagement.repository.JobRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Submission and tracking of background jobs; execution is in {@link JobRunner}. Not
+ * transactional: the job row must be committed before a worker can claim it.
+ */
+@Service
+public class JobService {
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public JobDTO submit(JobRequestDTO request) {
+        JobHandler<?> handler = jobRunner.getHandler(request.getType())
+                .orElseThrow(() -> new RuntimeException("Unknown job type: " + request.getType()
+                        + " (available: " + jobRunner.getTypes() + ")"));
+        Map<String, Object> params = request.getParams() != null ? request.getParams() : Map.of();
+        validate(handler, params);
+
+        JobPriority priority = handler.defaultPriority();
+        if (request.getPriority() != null) {
+            try {
+                priority = JobPriority.valueOf(request.getPriority().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unknown priority: " + request.getPriority());
+            }
+        }
+
+        Job job = jobRepository.save(Job.builder()
+                .type(handler.type())
+                .status(JobStatus.QUEUED)
+                .priority(priority)
+                .params(toJson(params))
+                .submittedBy(currentPrincipal())
+                .createdAt(LocalDateTime.now())
+                .build());
+        jobRunner.enqueue(job);
+        return toDTO(job);
+    }
+
+    public JobDTO getJob(Long id) {
+        return toDTO(findJob(id));
+    }
+
+    public Page<JobDTO> getJobs(String status, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size, Sort.by("id").descending());
+        if (status == null || status.isEmpty()) {
+            return jobRepository.findAll(pageable).map(this::toDTO);
+        }
+        try {
+            return jobRepository.findByStatus(JobStatus.valueOf(status.toUpperCase()), pageable).map(this::toDTO);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown job status: " + status);
+        }
+    }
+
+    public Set<String> getTypes() {
+        return jobRunner.getTypes();
+    }
+
+    /**
+     * A queued job is cancelled at once; a running one stops at its handler's next
+     * cancellation check, on whichever instance runs it.
+     */
+    public JobDTO cancel(Long id) {
+        Job job = findJob(id);
+        if (job.getStatus().isFinished()) {
+            throw new RuntimeException("Job " + id + " has already finished");
+        }
+        if (jobRepository.cancelQueued(id, LocalDateTime.now(), JobStatus.QUEUED, JobStatus.CANCELLED) == 0) {
+            jobRepository.requestCancel(id, JobStatus.RUNNING);
+            jobRunner.cancelLocal(id);
+        }
+        return getJob(id);
+    }
+
+    /** The output file named by a finished job's {@code file} result key. */
+    public Path getResultFile(Long id) {
+        Job job = findJob(id);
+        if (job.getStatus() != JobStatus.SUCCEEDED) {
+            throw new RuntimeException("Job " + id + " has not succeeded");
+        }
+        Object file = toDTO(job).getResult() instanceof Map<?, ?> result ? result.get("file") : null;
+        if (file == null) {
+            throw new ResourceNotFoundException("Job " + id + " has no output file");
+        }
+        Path dir = jobRunner.getOutputDir().toAbsolutePath().normalize();
+        Path path = dir.resolve(file.toString()).normalize();
+        if (!path.startsWith(dir) || !Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Output file of job " + id + " is not available on this server");
+        }
+        return path;
+    }
+
+    private <P> void validate(JobHandler<P> handler, Map<String, Object> params) {
+        P bound;
+        try {
+            bound = objectMapper.convertValue(params, handler.paramsType());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid parameters for " + handler.type() + ": " + e.getMessage());
+        }
+        handler.validate(bound);
+    }
+
+    private Job findJob(Long id) {
+        return jobRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Job not found with id: " + id));
+    }
+
+    private String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() ? auth.getName() : "system";
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Job parameters are not serializable: " + e.getMessage());
+        }
+    }
+
+    private Object fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            return json;
+        }
+    }
+
+    private JobDTO toDTO(Job job) {
+        Double percent = job.getTotal() != null && job.getTotal() > 0
+                ? Math.min(100.0, Math.round(job.getProcessed() * 1000.0 / job.getTotal()) / 10.0)
+                : null;
+        return JobDTO.builder()
+                .id(job.getId())
+                .type(job.getType())
+                .status(job.getStatus())
+                .priority(job.getPriority())
+                .params(fromJson(job.getParams()))
+                .result(fromJson(job.getResult()))
+                .error(job.getError())
+                .processed(job.getProcessed())
+                .total(job.getTotal())
+                .percentComplete(job.getStatus() == JobStatus.SUCCEEDED ? Double.valueOf(100.0) : percent)
+                .attempts(job.getAttempts())
+                .cancelRequested(job.isCancelRequested())
+                .submittedBy(job.getSubmittedBy())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .heartbeatAt(job.getHeartbeatAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
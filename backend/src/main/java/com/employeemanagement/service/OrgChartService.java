@@ -0,0 +1,118 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.SubtreeStatsDTO;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.repository.EmployeeHierarchyRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manager hierarchy backed by the {@code employee_hierarchy} closure table. Reads are one
+ * indexed query each; moving a subtree is one DELETE and one INSERT ... SELECT whose size
+ * is (subtree size x ancestor count), independent of the rest of the org.
+ */
+@Service
+@Transactional
+public class OrgChartService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeHierarchyRepository hierarchyRepository;
+
+    /** Closure rows for a newly inserted employee. */
+    public void attach(Employee employee) {
+        hierarchyRepository.attach(employee.getId(), employee.getManager() != null ? employee.getManager().getId() : null);
+    }
+
+    /**
+     * Re-parents {@code employee} and its whole subtree under {@code newManager} (null for a
+     * top-level employee). The caller sets {@code employee.manager} afterwards.
+     */
+    public void move(Employee employee, Employee newManager) {
+        if (newManager != null
+                && hierarchyRepository.existsByIdAncestorIdAndIdDescendantId(employee.getId(), newManager.getId())) {
+            throw new RuntimeException("An employee cannot report to themselves or to someone in their own reporting line");
+        }
+        hierarchyRepository.detachSubtree(employee.getId());
+        if (newManager != null) {
+            hierarchyRepository.attachSubtree(employee.getId(), newManager.getId());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EmployeeDTO> getReports(Long managerId, boolean directOnly, int page, int size) {
+        requireEmployee(managerId);
+        ServiceCallEvent event = ServiceCallEvent.start("OrgChartService.getReports");
+        Page<EmployeeDTO> result = hierarchyRepository
+                .findReports(managerId, directOnly ? 1 : Integer.MAX_VALUE, PageRequest.of(page, size))
+                .map(EmployeeService::toDTO);
+        event.finish(result.getNumberOfElements());
+        return result;
+    }
+
+    @Transactional(readOnly = true)
+    public List<EmployeeDTO> getChainOfCommand(Long employeeId) {
+        requireEmployee(employeeId);
+        return hierarchyRepository.findChainOfCommand(employeeId).stream()
+                .map(EmployeeService::toDTO)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public SubtreeStatsDTO getSubtreeStats(Long managerId) {
+        Employee manager = requireEmployee(managerId);
+        ServiceCallEvent event = ServiceCallEvent.start("OrgChartService.getSubtreeStats");
+        List<Object[]> rows = hierarchyRepository.aggregateSubtree(managerId);
+
+        long total = 0, active = 0, direct = 0, salaryCount = 0;
+        int depth = 0;
+        BigDecimal salarySum = BigDecimal.ZERO;
+        Map<String, Long> byDepartment = new LinkedHashMap<>();
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            byDepartment.put(row[0] != null ? (String) row[0] : "Unassigned", count);
+            total += count;
+            active += ((Number) row[2]).longValue();
+            direct += ((Number) row[3]).longValue();
+            depth = Math.max(depth, ((Number) row[4]).intValue());
+            if (row[5] != null) {
+                salarySum = salarySum.add((BigDecimal) row[5]);
+            }
+            salaryCount += ((Number) row[6]).longValue();
+        }
+        event.finish(rows.size());
+
+        return SubtreeStatsDTO.builder()
+                .managerId(managerId)
+                .managerName(manager.getFirstName() + " " + manager.getLastName())
+                .directReports(direct)
+                .totalReports(total)
+                .activeReports(active)
+                .depth(depth)
+                .totalSalary(salarySum)
+                .averageSalary(salaryCount == 0 ? null
+                        : salarySum.divide(BigDecimal.valueOf(salaryCount), 2, RoundingMode.HALF_UP))
+                .headcountByDepartment(byDepartment)
+                .build();
+    }
+
+    private Employee requireEmployee(Long id) {
+        return employeeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Employee not found with id: " + id));
+    }
+}
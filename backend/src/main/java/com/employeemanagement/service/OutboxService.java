@@ -0,0 +1,213 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.OutboxDeadLetterDTO;
+import com.employeemanagement.entity.OutboxDeadLetter;
+import com.employeemanagement.entity.OutboxEvent;
+import com.employeemanagement.entity.OutboxSubscription;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.DepartmentChangedEvent;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent.SalaryChange;
+import com.employeemanagement.event.EntityChangedEvent;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.repository.OutboxDeadLetterRepository;
+import com.employeemanagement.repository.OutboxEventRepository;
+import com.employeemanagement.repository.OutboxSubscriptionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Write side of the transactional outbox. Employee and department changes are appended to
+ * {@code outbox_events} before commit, inside the transaction that made them, like
+ * {@link EmployeeHistoryService}: an event exists exactly when its change committed, and
+ * no downstream call is made on the request path. The listeners run after every other
+ * before-commit listener (those are ordered at {@code LOWEST_PRECEDENCE - 10}), so an
+ * event's id is taken as late as possible and the dispatcher's gap timeout covers only the
+ * commit itself. {@code OutboxDispatcher} relays them and records its progress through the
+ * methods below.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    @Autowired
+    private OutboxEventRepository eventRepository;
+
+    @Autowired
+    private OutboxSubscriptionRepository subscriptionRepository;
+
+    @Autowired
+    private OutboxDeadLetterRepository deadLetterRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.outbox.enabled:true}")
+    private boolean enabled;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        append(event);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional
+    public void onDepartmentChanged(DepartmentChangedEvent event) {
+        append(event);
+    }
+
+    /**
+     * One SALARY_REVISED event per employee; {@code data} holds only the salary fields, not the
+     * whole employee, so it is not an UPDATED event a receiver could upsert from.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @Transactional
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(event.getChanges().size());
+        for (SalaryChange change : event.getChanges()) {
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("id", change.employeeId());
+            data.put("salary", change.newSalary());
+            data.put("previousSalary", change.oldSalary());
+            events.add(OutboxEvent.builder()
+                    .aggregateType(EmployeeChangedEvent.ENTITY_TYPE)
+                    .aggregateId(change.employeeId())
+                    .changeType(ChangeType.SALARY_REVISED)
+                    .payload(toJson(data))
+                    .createdAt(now)
+                    .build());
+        }
+        eventRepository.insertAll(events);
+    }
+
+    /**
+     * The batch after {@code expected} up to {@code lastEventId} is done: delivered, or moved
+     * to the dead letters. False, with nothing written, when {@code node} no longer holds the
+     * webhook's lease or the cursor is no longer at {@code expected}.
+     */
+    @Transactional
+    public boolean advance(String webhook, String node, long expected, long lastEventId, int delivered,
+                           List<OutboxDeadLetter> deadLetters) {
+        String error = deadLetters.isEmpty() ? null : deadLetters.get(0).getError();
+        if (subscriptionRepository.advance(webhook, node, expected, lastEventId, delivered, deadLetters.size(),
+                error, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        deadLetterRepository.saveAll(deadLetters);
+        return true;
+    }
+
+    /** Same conditions as {@link #advance}. */
+    @Transactional
+    public boolean recordFailure(String webhook, String node, long expected, String error,
+                                 LocalDateTime nextAttemptAt) {
+        return subscriptionRepository.recordFailure(webhook, node, expected, truncate(error), nextAttemptAt,
+                LocalDateTime.now()) == 1;
+    }
+
+    @Transactional
+    public void redelivered(String webhook, List<Long> deadLetterIds) {
+        deadLetterRepository.deleteAllByIdInBatch(deadLetterIds);
+        OutboxSubscription subscription = subscription(webhook);
+        subscription.setDelivered(subscription.getDelivered() + deadLetterIds.size());
+        subscription.setDeadLettered(subscription.getDeadLettered() - deadLetterIds.size());
+        subscription.setUpdatedAt(LocalDateTime.now());
+    }
+
+    /**
+     * A retry failed: every dead letter of the webhook stops retrying, not just this batch,
+     * so a later event can never be redelivered ahead of an earlier one that failed.
+     */
+    @Transactional
+    public void redeliveryFailed(String webhook, List<Long> deadLetterIds, String error) {
+        deadLetterRepository.cancelRetry(webhook);
+        deadLetterRepository.recordError(deadLetterIds, truncate(error));
+    }
+
+    /** Redelivers the webhook's dead letters, oldest first, ahead of new events. */
+    @Transactional
+    public int requestRetry(String webhook) {
+        subscription(webhook);
+        return deadLetterRepository.requestRetry(webhook);
+    }
+
+    public Page<OutboxDeadLetterDTO> getDeadLetters(String webhook, int page, int size) {
+        PageRequest pageable = PageRequest.of(page, size, Sort.by("eventId"));
+        Page<OutboxDeadLetter> letters = webhook == null
+                ? deadLetterRepository.findAll(pageable)
+                : deadLetterRepository.findByWebhook(webhook, pageable);
+        return letters.map(this::toDTO);
+    }
+
+    public static String truncate(String error) {
+        return error == null || error.length() <= 1000 ? error : error.substring(0, 1000);
+    }
+
+    private void append(EntityChangedEvent<?> event) {
+        if (!enabled) {
+            return;
+        }
+        Object state = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        eventRepository.save(OutboxEvent.builder()
+                .aggregateType(event.getEntityType())
+                .aggregateId(event.getEntityId())
+                .changeType(event.getChangeType())
+                .payload(toJson(state))
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private OutboxSubscription subscription(String webhook) {
+        return subscriptionRepository.findById(webhook)
+                .orElseThrow(() -> new ResourceNotFoundException("Webhook not found: " + webhook));
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize outbox payload", e);
+        }
+    }
+
+    private OutboxDeadLetterDTO toDTO(OutboxDeadLetter letter) {
+        return OutboxDeadLetterDTO.builder()
+                .id(letter.getId())
+                .webhook(letter.getWebhook())
+                .eventId(letter.getEventId())
+                .aggregateType(letter.getAggregateType())
+                .aggregateId(letter.getAggregateId())
+                .changeType(letter.getChangeType())
+                .eventCreatedAt(letter.getEventCreatedAt())
+                .error(letter.getError())
+                .retryRequested(letter.isRetryRequested())
+                .createdAt(letter.getCreatedAt())
+                .build();
+    }
+}
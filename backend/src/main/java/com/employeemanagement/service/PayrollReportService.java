@@ -0,0 +1,435 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.JobRequestDTO;
+import com.employeemanagement.dto.ReportDTO;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.Report;
+import com.employeemanagement.entity.Report.ReportStatus;
+import com.employeemanagement.entity.Report.ReportType;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.job.JobContext;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.ReportRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Monthly payroll and department cost reports. Generation runs as a
+ * {@code payroll-report} job (one streaming pass over employees into an SXSSF workbook);
+ * requests only ever serve the stored file.
+ * <p>
+ * Salaries are read per {@code app.reports.salary-basis}: ANNUAL by default (a twelfth is
+ * paid monthly), or MONTHLY. Employee status is the current one,
+ * so the report for a month is scheduled right after it ends.
+ */
+@Service
+public class PayrollReportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PayrollReportService.class);
+    private static final String NO_DEPARTMENT = "(No department)";
+    private static final int ROW_WINDOW = 200;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.reports.dir:reports/}")
+    private String reportsDir;
+
+    @Value("${app.reports.salary-basis:ANNUAL}")
+    private SalaryBasis salaryBasis;
+
+    private Path reportsPath;
+
+    @PostConstruct
+    public void init() throws IOException {
+        reportsPath = Files.createDirectories(Paths.get(reportsDir));
+    }
+
+    /** Every instance fires this; the unique (type, period) key lets only one of them submit. */
+    @Scheduled(cron = "${app.reports.payroll.cron:0 30 1 1 * *}")
+    public void scheduleLastMonth() {
+        YearMonth month = YearMonth.now().minusMonths(1);
+        if (reportRepository.findByTypeAndPeriodStart(ReportType.MONTHLY_PAYROLL, month.atDay(1)).isPresent()) {
+            return;
+        }
+        try {
+            requestPayroll(month);
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Payroll report for {} already requested by another instance", month);
+        }
+    }
+
+    /** Creates or regenerates the month's report; returns at once with the report PENDING. */
+    public ReportDTO requestPayroll(YearMonth month) {
+        if (month.isAfter(YearMonth.now())) {
+            throw new RuntimeException("Cannot report on a future month: " + month);
+        }
+        Report report = reportRepository.findByTypeAndPeriodStart(ReportType.MONTHLY_PAYROLL, month.atDay(1))
+                .orElseGet(() -> Report.builder()
+                        .type(ReportType.MONTHLY_PAYROLL)
+                        .periodStart(month.atDay(1))
+                        .periodEnd(month.atEndOfMonth())
+                        .build());
+        if (report.getStatus() == ReportStatus.PENDING && report.getJobId() != null
+                && !jobService.getJob(report.getJobId()).getStatus().isFinished()) {
+            return toDTO(report);
+        }
+        report.setStatus(ReportStatus.PENDING);
+        report.setError(null);
+        report.setRequestedBy(currentPrincipal());
+        report.setRequestedAt(LocalDateTime.now());
+        report = reportRepository.saveAndFlush(report);
+
+        Long jobId = jobService.submit(JobRequestDTO.builder()
+                .type("payroll-report")
+                .params(Map.of("reportId", report.getId()))
+                .build()).getId();
+        report.setJobId(jobId);
+        return toDTO(reportRepository.save(report));
+    }
+
+    public List<ReportDTO> getReports() {
+        return reportRepository.findByTypeOrderByPeriodStartDesc(ReportType.MONTHLY_PAYROLL).stream()
+                .map(this::toDTO)
+                .toList();
+    }
+
+    public ReportDTO getReport(Long id) {
+        return toDTO(findReport(id));
+    }
+
+    public Path getFile(Long id) {
+        Report report = findReport(id);
+        if (report.getFileName() == null) {
+            throw new RuntimeException("Report " + id + " has not been generated yet");
+        }
+        Path file = reportsPath.resolve(report.getFileName());
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("File of report " + id + " is not available on this server");
+        }
+        return file;
+    }
+
+    /**
+     * Builds the workbook for the report in one pass over the employees and swaps it into
+     * place. Payroll and cost sheets are per-department totals, written at the end; the
+     * new-joinee sheet is written row by row as the stream goes.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Object> generate(Long reportId, JobContext context) throws IOException {
+        Report report = findReport(reportId);
+        LocalDate start = report.getPeriodStart();
+        LocalDate end = report.getPeriodEnd();
+        BigDecimal monthsPerSalary = BigDecimal.valueOf(salaryBasis == SalaryBasis.ANNUAL ? 12 : 1);
+        int daysInMonth = end.getDayOfMonth();
+        long total = employeeRepository.count();
+
+        Map<String, DepartmentTotals> departments = new TreeMap<>();
+        Path tmp = Files.createTempFile(reportsPath, "payroll-", ".xlsx.tmp");
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_WINDOW);
+        workbook.setCompressTempFiles(true);
+        long scanned = 0;
+        try {
+            Styles styles = new Styles(workbook);
+            SXSSFSheet payrollSheet = workbook.createSheet("Payroll by department");
+            SXSSFSheet costSheet = workbook.createSheet("Active headcount cost");
+            SXSSFSheet joineeSheet = workbook.createSheet("New joinees");
+            header(joineeSheet, styles, "Employee ID", "Name", "Department", "Joining date", "Salary", "Cost this month");
+            int joineeRow = 1;
+
+            try (Stream<Object[]> rows = employeeRepository.streamPayrollColumns()) {
+                Iterator<Object[]> it = rows.iterator();
+                while (it.hasNext()) {
+                    Object[] row = it.next();
+                    if (++scanned % 1000 == 0) {
+                        context.throwIfCancelled();
+                        context.progress(scanned, total);
+                    }
+                    LocalDate joined = (LocalDate) row[6];
+                    if (joined != null && joined.isAfter(end)) {
+                        continue;
+                    }
+                    String department = row[4] != null ? (String) row[4] : NO_DEPARTMENT;
+                    DepartmentTotals totals = departments.computeIfAbsent(department, k -> new DepartmentTotals());
+                    if (row[5] != EmployeeStatus.ACTIVE) {
+                        totals.inactive++;
+                        continue;
+                    }
+                    totals.active++;
+                    BigDecimal salary = (BigDecimal) row[7];
+                    if (salary == null) {
+                        continue;
+                    }
+                    BigDecimal monthly = salary.divide(monthsPerSalary, 2, RoundingMode.HALF_UP);
+                    totals.add(monthly);
+                    if (joined != null && !joined.isBefore(start)) {
+                        // first month is prorated by calendar days from the joining date
+                        BigDecimal cost = monthly.multiply(BigDecimal.valueOf(daysInMonth - joined.getDayOfMonth() + 1))
+                                .divide(BigDecimal.valueOf(daysInMonth), 2, RoundingMode.HALF_UP);
+                        totals.newJoinees++;
+                        totals.newJoineeCost = totals.newJoineeCost.add(cost);
+                        Row out = joineeSheet.createRow(joineeRow++);
+                        out.createCell(0).setCellValue((String) row[0]);
+                        out.createCell(1).setCellValue(row[1] + " " + row[2]);
+                        out.createCell(2).setCellValue(department);
+                        Cell date = out.createCell(3);
+                        date.setCellValue(joined);
+                        date.setCellStyle(styles.date);
+                        money(out, 4, salary, styles);
+                        money(out, 5, cost, styles);
+                    }
+                }
+            }
+            context.progress(scanned, total);
+
+            Map<String, Object> summary = writeDepartmentSheets(payrollSheet, costSheet, departments, styles);
+            summary.put("newJoinees", departments.values().stream().mapToLong(t -> t.newJoinees).sum());
+            summary.put("newJoineeCost", departments.values().stream()
+                    .map(t -> t.newJoineeCost).reduce(BigDecimal.ZERO, BigDecimal::add));
+            try (OutputStream out = Files.newOutputStream(tmp)) {
+                workbook.write(out);
+            }
+
+            String fileName = "payroll-" + YearMonth.from(start) + ".xlsx";
+            Files.move(tmp, reportsPath.resolve(fileName), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            summary.put("file", fileName);
+            summary.put("employeesScanned", scanned);
+            return summary;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    /** Records a finished generation; separate transaction from the read-only pass. */
+    @Transactional
+    public void markReady(Long reportId, Map<String, Object> summary) throws IOException {
+        Report report = findReport(reportId);
+        String fileName = (String) summary.get("file");
+        report.setStatus(ReportStatus.READY);
+        report.setFileName(fileName);
+        report.setSizeBytes(Files.size(reportsPath.resolve(fileName)));
+        report.setEmployeesScanned(((Number) summary.get("employeesScanned")).longValue());
+        report.setSummary(toJson(summary));
+        report.setError(null);
+        report.setGeneratedAt(LocalDateTime.now());
+        reportRepository.save(report);
+    }
+
+    @Transactional
+    public void markFailed(Long reportId, String error) {
+        reportRepository.findById(reportId).ifPresent(report -> {
+            report.setStatus(ReportStatus.FAILED);
+            report.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            reportRepository.save(report);
+        });
+    }
+
+    private Map<String, Object> writeDepartmentSheets(SXSSFSheet payrollSheet, SXSSFSheet costSheet,
+            Map<String, DepartmentTotals> departments, Styles styles) {
+        header(payrollSheet, styles, "Department", "Paid employees", "Monthly payroll", "Average", "Minimum", "Maximum");
+        header(costSheet, styles, "Department", "Active", "Inactive", "Monthly cost", "Annual cost", "Share of cost %");
+
+        DepartmentTotals all = new DepartmentTotals();
+        departments.values().forEach(all::merge);
+        int r = 1;
+        for (Map.Entry<String, DepartmentTotals> entry : departments.entrySet()) {
+            payrollRow(payrollSheet.createRow(r), entry.getKey(), entry.getValue(), styles);
+            costRow(costSheet.createRow(r), entry.getKey(), entry.getValue(), all.payroll, styles);
+            r++;
+        }
+        payrollRow(payrollSheet.createRow(r), "Total", all, styles);
+        costRow(costSheet.createRow(r), "Total", all, all.payroll, styles);
+
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("monthlyPayroll", all.payroll);
+        summary.put("annualCost", all.payroll.multiply(BigDecimal.valueOf(12)));
+        summary.put("paidEmployees", all.paid);
+        summary.put("activeHeadcount", all.active);
+        summary.put("inactiveHeadcount", all.inactive);
+        summary.put("departments", departments.size());
+        return summary;
+    }
+
+    private void payrollRow(Row row, String department, DepartmentTotals t, Styles styles) {
+        row.createCell(0).setCellValue(department);
+        row.createCell(1).setCellValue(t.paid);
+        money(row, 2, t.payroll, styles);
+        if (t.paid > 0) {
+            money(row, 3, t.payroll.divide(BigDecimal.valueOf(t.paid), 2, RoundingMode.HALF_UP), styles);
+            money(row, 4, t.min, styles);
+            money(row, 5, t.max, styles);
+        }
+    }
+
+    private void costRow(Row row, String department, DepartmentTotals t, BigDecimal grandTotal, Styles styles) {
+        row.createCell(0).setCellValue(department);
+        row.createCell(1).setCellValue(t.active);
+        row.createCell(2).setCellValue(t.inactive);
+        money(row, 3, t.payroll, styles);
+        money(row, 4, t.payroll.multiply(BigDecimal.valueOf(12)), styles);
+        Cell share = row.createCell(5);
+        share.setCellValue(grandTotal.signum() == 0 ? 0
+                : t.payroll.multiply(BigDecimal.valueOf(100)).divide(grandTotal, 2, RoundingMode.HALF_UP).doubleValue());
+        share.setCellStyle(styles.percent);
+    }
+
+    private void header(SXSSFSheet sheet, Styles styles, String... titles) {
+        Row row = sheet.createRow(0);
+        for (int i = 0; i < titles.length; i++) {
+            Cell cell = row.createCell(i);
+            cell.setCellValue(titles[i]);
+            cell.setCellStyle(styles.header);
+            // SXSSF cannot autosize after rows are flushed, so widths are fixed
+            sheet.setColumnWidth(i, (i == 0 || i == 1 ? 24 : 16) * 256);
+        }
+        sheet.createFreezePane(0, 1);
+    }
+
+    private void money(Row row, int column, BigDecimal value, Styles styles) {
+        Cell cell = row.createCell(column);
+        cell.setCellValue(value.doubleValue());
+        cell.setCellStyle(styles.money);
+    }
+
+    private Report findReport(Long id) {
+        return reportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found with id: " + id));
+    }
+
+    private String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() ? auth.getName() : "system";
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private ReportDTO toDTO(Report report) {
+        Object summary = null;
+        if (report.getSummary() != null) {
+            try {
+                summary = objectMapper.readValue(report.getSummary(), Object.class);
+            } catch (JsonProcessingException e) {
+                summary = report.getSummary();
+            }
+        }
+        return ReportDTO.builder()
+                .id(report.getId())
+                .type(report.getType())
+                .periodStart(report.getPeriodStart())
+                .periodEnd(report.getPeriodEnd())
+                .status(report.getStatus())
+                .jobId(report.getJobId())
+                .downloadable(report.getFileName() != null)
+                .sizeBytes(report.getSizeBytes())
+                .employeesScanned(report.getEmployeesScanned())
+                .summary(summary)
+                .error(report.getError())
+                .requestedBy(report.getRequestedBy())
+                .requestedAt(report.getRequestedAt())
+                .generatedAt(report.getGeneratedAt())
+                .build();
+    }
+
+    /** What {@code employees.salary} holds. */
+    public enum SalaryBasis {
+        ANNUAL, MONTHLY
+    }
+
+    /** Per-department accumulator over the stream; amounts are monthly. */
+    private static class DepartmentTotals {
+        long active;
+        long inactive;
+        long paid;
+        long newJoinees;
+        BigDecimal payroll = BigDecimal.ZERO;
+        BigDecimal newJoineeCost = BigDecimal.ZERO;
+        BigDecimal min;
+        BigDecimal max;
+
+        void add(BigDecimal monthly) {
+            paid++;
+            payroll = payroll.add(monthly);
+            min = min == null || monthly.compareTo(min) < 0 ? monthly : min;
+            max = max == null || monthly.compareTo(max) > 0 ? monthly : max;
+        }
+
+        void merge(DepartmentTotals other) {
+            active += other.active;
+            inactive += other.inactive;
+            paid += other.paid;
+            newJoinees += other.newJoinees;
+            payroll = payroll.add(other.payroll);
+            newJoineeCost = newJoineeCost.add(other.newJoineeCost);
+            if (other.min != null) {
+                min = min == null || other.min.compareTo(min) < 0 ? other.min : min;
+                max = max == null || other.max.compareTo(max) > 0 ? other.max : max;
+            }
+        }
+    }
+
+    private static class Styles {
+        final CellStyle header;
+        final CellStyle money;
+        final CellStyle percent;
+        final CellStyle date;
+
+        Styles(Workbook workbook) {
+            DataFormat format = workbook.createDataFormat();
+            Font bold = workbook.createFont();
+            bold.setBold(true);
+            header = workbook.createCellStyle();
+            header.setFont(bold);
+            money = workbook.createCellStyle();
+            money.setDataFormat(format.getFormat("#,##0.00"));
+            percent = workbook.createCellStyle();
+            percent.setDataFormat(format.getFormat("0.00"));
+            date = workbook.createCellStyle();
+            date.setDataFormat(format.getFormat("yyyy-mm-dd"));
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.dto.RecordingDTO;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded on-demand Java Flight Recorder recordings. Every recording has a maximum
+ * duration and size and is written to its own file when it stops.
+ */
+@Service
+public class ProfilingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProfilingService.class);
+
+    private static final Set<String> SETTINGS = Set.of("default", "profile");
+
+    @Value("${app.profiling.dir:recordings}")
+    private String recordingDir;
+
+    @Value("${app.profiling.max-duration-seconds:300}")
+    private long maxDurationSeconds;
+
+    @Value("${app.profiling.max-size-mb:256}")
+    private long maxSizeMb;
+
+    @Value("${app.profiling.max-concurrent:1}")
+    private int maxConcurrent;
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final Map<Long, String> settingsById = new ConcurrentHashMap<>();
+
+    public synchronized RecordingDTO start(long durationSeconds, String settings) {
+        if (!SETTINGS.contains(settings)) {
+            throw new RuntimeException("Unknown JFR settings '" + settings + "', expected one of " + SETTINGS);
+        }
+        long running = recordings.values().stream().filter(r -> r.getState() == RecordingState.RUNNING).count();
+        if (running >= maxConcurrent) {
+            throw new RuntimeException("A recording is already running; stop it before starting another");
+        }
+        try {
+            Path dir = Paths.get(recordingDir);
+            Files.createDirectories(dir);
+            Recording recording = new Recording(Configuration.getConfiguration(settings));
+            recording.setName("on-demand-" + System.currentTimeMillis());
+            recording.setDuration(Duration.ofSeconds(Math.max(1, Math.min(durationSeconds, maxDurationSeconds))));
+            recording.setMaxSize(maxSizeMb * 1024 * 1024);
+            recording.setToDisk(true);
+            recording.setDestination(dir.resolve(recording.getName() + ".jfr"));
+            recording.start();
+            recordings.put(recording.getId(), recording);
+            settingsById.put(recording.getId(), settings);
+            logger.info("Started JFR recording {} ({}s, settings={})", recording.getId(),
+                    recording.getDuration().toSeconds(), settings);
+            return toDTO(recording);
+        } catch (IOException | ParseException e) {
+            throw new RuntimeException("Could not start recording: " + e.getMessage(), e);
+        }
+    }
+
+    public RecordingDTO stop(long id) {
+        Recording recording = get(id);
+        if (recording.getState() == RecordingState.RUNNING) {
+            recording.stop();
+            logger.info("Stopped JFR recording {}", id);
+        }
+        return toDTO(recording);
+    }
+
+    public List<RecordingDTO> list() {
+        return recordings.values().stream()
+                .sorted(Comparator.comparingLong(Recording::getId))
+                .map(this::toDTO)
+                .toList();
+    }
+
+    /**
+     * Returns the recording file once the recording has stopped (on request or because its
+     * duration elapsed).
+     */
+    public Path getFile(long id) {
+        Recording recording = get(id);
+        if (recording.getState() != RecordingState.STOPPED) {
+            throw new RuntimeException("Recording " + id + " is " + recording.getState() + "; stop it first");
+        }
+        return recording.getDestination();
+    }
+
+    public void delete(long id) {
+        Recording recording = get(id);
+        Path file = recording.getDestination();
+        recording.close();
+        recordings.remove(id);
+        settingsById.remove(id);
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete recording file {}", file, e);
+        }
+    }
+
+    private Recording get(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new ResourceNotFoundException("Recording not found with id: " + id);
+        }
+        return recording;
+    }
+
+    private RecordingDTO toDTO(Recording recording) {
+        long size = 0;
+        try {
+            if (recording.getDestination() != null && Files.exists(recording.getDestination())) {
+                size = Files.size(recording.getDestination());
+            }
+        } catch (IOException ignored) {
+        }
+        return RecordingDTO.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .state(recording.getState().name())
+                .settings(settingsById.get(recording.getId()))
+                .startTime(recording.getStartTime())
+                .durationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : 0)
+                .sizeBytes(size)
+                .build();
+    }
+}
@@ -0,0 +1,226 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.analytics.QuantileSketch;
+import com.employeemanagement.analytics.SalaryColumn;
+import com.employeemanagement.dto.EmployeeDTO;
+import com.employeemanagement.dto.HistogramBucketDTO;
+import com.employeemanagement.dto.SalaryAnalyticsDTO;
+import com.employeemanagement.dto.SalaryDistributionDTO;
+import com.employeemanagement.entity.Department;
+import com.employeemanagement.entity.Employee;
+import com.employeemanagement.event.EmployeeChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.invalidation.RemoteChangeEvent;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Salary percentiles and histograms served from an in-memory cents column and one
+ * {@link QuantileSketch} per department. Company-wide figures merge the department
+ * sketches, so no request ever rescans employees.
+ */
+@Service
+public class SalaryAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryAnalyticsService.class);
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Value("${app.analytics.salary.relative-accuracy:0.01}")
+    private double relativeAccuracy;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final SalaryColumn column = new SalaryColumn();
+    private final Map<Long, QuantileSketch> sketches = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List<Object[]> rows = employeeRepository.findSalaryColumn();
+        lock.writeLock().lock();
+        try {
+            for (Object[] row : rows) {
+                // a change event may have put this employee already
+                remove((Long) row[0]);
+                put((Long) row[0], (Long) row[1], (BigDecimal) row[2]);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Salary column loaded: {} employees, ~{} KB", rows.size(), column.footprintBytes() / 1024);
+    }
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeDTO after = event.getAfter();
+        lock.writeLock().lock();
+        try {
+            remove(event.getEntityId());
+            if (after != null) {
+                put(after.getId(), after.getDepartmentId(), after.getSalary());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener
+    public void onSalariesChanged(EmployeeSalariesChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            for (EmployeeSalariesChangedEvent.SalaryChange change : event.getChanges()) {
+                int slot = column.remove(change.employeeId());
+                if (slot < 0) {
+                    continue;
+                }
+                long dept = column.departmentAt(slot);
+                sketches.get(dept).remove(column.centsAt(slot));
+                put(change.employeeId(), dept == SalaryColumn.NO_DEPARTMENT ? null : dept, change.newSalary());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Another instance changed an employee: the event has no salary, so re-read the row.
+     */
+    @EventListener
+    public void onRemoteChange(RemoteChangeEvent event) {
+        if (!EmployeeChangedEvent.ENTITY_TYPE.equals(event.entityType())) {
+            return;
+        }
+        Employee employee = employeeRepository.findById(event.entityId()).orElse(null);
+        lock.writeLock().lock();
+        try {
+            remove(event.entityId());
+            if (employee != null) {
+                put(employee.getId(), employee.getDepartment() != null ? employee.getDepartment().getId() : null,
+                        employee.getSalary());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public SalaryAnalyticsDTO getDistribution(int buckets) {
+        if (buckets < 1 || buckets > 100) {
+            throw new RuntimeException("Histogram buckets must be between 1 and 100");
+        }
+        Map<Long, String> names = departmentRepository.findAll().stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+
+        List<SalaryDistributionDTO> departments = new ArrayList<>();
+        QuantileSketch company = new QuantileSketch(relativeAccuracy);
+        long footprint;
+        lock.readLock().lock();
+        try {
+            for (Map.Entry<Long, QuantileSketch> entry : sketches.entrySet()) {
+                QuantileSketch sketch = entry.getValue();
+                if (sketch.isEmpty()) {
+                    continue;
+                }
+                company.merge(sketch);
+                Long deptId = entry.getKey() == SalaryColumn.NO_DEPARTMENT ? null : entry.getKey();
+                departments.add(toDistribution(sketch, deptId,
+                        deptId == null ? "Unassigned" : names.getOrDefault(deptId, "Unknown"), buckets));
+            }
+            footprint = column.footprintBytes() + (long) sketches.size() * 8 * company.getBucketCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+        departments.sort(Comparator.comparing(SalaryDistributionDTO::getDepartmentName));
+
+        return SalaryAnalyticsDTO.builder()
+                .relativeAccuracy(relativeAccuracy)
+                .company(toDistribution(company, null, "All Departments", buckets))
+                .departments(departments)
+                .columnFootprintBytes(footprint)
+                .build();
+    }
+
+    private void put(Long employeeId, Long departmentId, BigDecimal salary) {
+        if (salary == null) {
+            return;
+        }
+        long dept = departmentId == null ? SalaryColumn.NO_DEPARTMENT : departmentId;
+        long cents = Math.max(0, salary.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue());
+        column.put(employeeId, dept, cents);
+        sketches.computeIfAbsent(dept, d -> new QuantileSketch(relativeAccuracy)).add(cents);
+    }
+
+    private void remove(Long employeeId) {
+        int slot = column.remove(employeeId);
+        if (slot >= 0) {
+            sketches.get(column.departmentAt(slot)).remove(column.centsAt(slot));
+        }
+    }
+
+    private SalaryDistributionDTO toDistribution(QuantileSketch sketch, Long deptId, String name, int buckets) {
+        SalaryDistributionDTO.SalaryDistributionDTOBuilder dto = SalaryDistributionDTO.builder()
+                .departmentId(deptId)
+                .departmentName(name)
+                .count(sketch.getCount());
+        if (sketch.isEmpty()) {
+            return dto.histogram(List.of()).build();
+        }
+        long min = sketch.quantile(0.0);
+        long max = sketch.quantile(1.0);
+        return dto.min(toAmount(min))
+                .max(toAmount(max))
+                .median(toAmount(sketch.quantile(0.5)))
+                .p90(toAmount(sketch.quantile(0.9)))
+                .p99(toAmount(sketch.quantile(0.99)))
+                .histogram(histogram(sketch, min, max, buckets))
+                .build();
+    }
+
+    private List<HistogramBucketDTO> histogram(QuantileSketch sketch, long min, long max, int buckets) {
+        long width = Math.max(1, (max - min + buckets) / buckets);
+        long[] counts = new long[buckets];
+        counts[bucketOf(0, min, width, buckets)] += sketch.getZeroCount();
+        for (int i = 0; i < sketch.getBucketCount(); i++) {
+            long c = sketch.getBucketCountAt(i);
+            if (c != 0) {
+                counts[bucketOf(sketch.valueOf(i), min, width, buckets)] += c;
+            }
+        }
+        List<HistogramBucketDTO> result = new ArrayList<>(buckets);
+        for (int b = 0; b < buckets; b++) {
+            long lower = min + b * width;
+            result.add(HistogramBucketDTO.builder()
+                    .lowerBound(toAmount(lower))
+                    .upperBound(toAmount(b == buckets - 1 ? max : lower + width))
+                    .count(counts[b])
+                    .build());
+        }
+        return result;
+    }
+
+    private int bucketOf(long value, long min, long width, int buckets) {
+        long index = (Math.max(value, min) - min) / width;
+        return (int) Math.min(index, buckets - 1);
+    }
+
+    private BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+}
@@ -0,0 +1,476 @@
+package com.employeemanagement.service;
+
+import com.employeemanagement.analytics.EmployeeColumns;
+import com.employeemanagement.dto.*;
+import com.employeemanagement.entity.Department;
+import com.employeemanagement.entity.Employee.EmployeeStatus;
+import com.employeemanagement.entity.SalaryRevision;
+import com.employeemanagement.entity.SalaryRevision.RevisionStatus;
+import com.employeemanagement.entity.SalaryRevisionItem;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent;
+import com.employeemanagement.event.EmployeeSalariesChangedEvent.SalaryChange;
+import com.employeemanagement.exception.ResourceNotFoundException;
+import com.employeemanagement.profiling.ServiceCallEvent;
+import com.employeemanagement.repository.DepartmentRepository;
+import com.employeemanagement.repository.EmployeeRepository;
+import com.employeemanagement.repository.SalaryRevisionItemRepository;
+import com.employeemanagement.repository.SalaryRevisionRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Department-wide raises. A revision is an ordered list of rules; the first rule matching
+ * an employee (department, status, salary band) sets the raise. Previews run over the
+ * in-memory {@link EmployeeColumns} snapshot in parallel and never touch the database.
+ * Applying runs as a {@code salary-revision} job: employees are locked a keyset chunk at
+ * a time, each raise is recorded as an item, and the chunk's salaries are set by one
+ * UPDATE joined to its items. Rollback restores the items' old salaries the same way.
+ * <p>
+ * Preview and apply share {@link EmployeeColumns.RaiseRule}, so both compute the same
+ * cents; the preview may lag the database by in-flight writes.
+ */
+@Service
+public class SalaryRevisionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalaryRevisionService.class);
+    public static final String JOB_TYPE = "salary-revision";
+    // DECIMAL(12, 2)
+    private static final long MAX_SALARY_CENTS = 999_999_999_999L;
+
+    @Autowired
+    private SalaryRevisionRepository revisionRepository;
+
+    @Autowired
+    private SalaryRevisionItemRepository itemRepository;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private DepartmentRepository departmentRepository;
+
+    @Autowired
+    private ColumnarAnalyticsService columnarAnalyticsService;
+
+    @Autowired
+    private JobService jobService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${app.salary-revisions.chunk-size:1000}")
+    private int chunkSize;
+
+    public SalaryRevisionPreviewDTO preview(SalaryRevisionRequestDTO request) {
+        return preview(request.getRules());
+    }
+
+    /** Stores the rules as a draft with their preview; nothing is changed until {@link #apply}. */
+    public SalaryRevisionDTO create(SalaryRevisionRequestDTO request) {
+        SalaryRevisionPreviewDTO preview = preview(request.getRules());
+        String name = request.getName() != null && !request.getName().isBlank()
+                ? request.getName().trim() : "Salary revision " + LocalDateTime.now().toLocalDate();
+        SalaryRevision revision = revisionRepository.save(SalaryRevision.builder()
+                .name(name)
+                .rules(toJson(request.getRules()))
+                .status(RevisionStatus.DRAFT)
+                .preview(toJson(preview))
+                .createdBy(currentPrincipal())
+                .createdAt(LocalDateTime.now())
+                .build());
+        return toDTO(revision);
+    }
+
+    public List<SalaryRevisionDTO> getRevisions() {
+        return revisionRepository.findAllByOrderByIdDesc().stream().map(this::toDTO).toList();
+    }
+
+    public SalaryRevisionDTO getRevision(Long id) {
+        return toDTO(findRevision(id));
+    }
+
+    /** The audit trail: one line per raised employee, in employee id order. */
+    public Page<SalaryRevisionItemDTO> getItems(Long id, int page, int size) {
+        findRevision(id);
+        return itemRepository.findWithEmployees(id, PageRequest.of(page, size, Sort.by("id.entityId")))
+                .map(row -> {
+                    SalaryRevisionItem item = (SalaryRevisionItem) row[0];
+                    return SalaryRevisionItemDTO.builder()
+                            .id(item.getId().getEntityId())
+                            .employeeId((String) row[1])
+                            .fullName(row[2] != null ? row[2] + " " + row[3] : null)
+                            .ruleIndex(item.getRuleIndex())
+                            .oldSalary(item.getOldSalary())
+                            .newSalary(item.getNewSalary())
+                            .increase(item.getNewSalary().subtract(item.getOldSalary()))
+                            .rolledBack(item.isRolledBack())
+                            .build();
+                });
+    }
+
+    /** Queues the apply job. A FAILED revision resumes: employees already raised are skipped. */
+    public SalaryRevisionDTO apply(Long id) {
+        SalaryRevision revision = findRevision(id);
+        if (revision.getStatus() != RevisionStatus.DRAFT && revision.getStatus() != RevisionStatus.FAILED) {
+            throw new RuntimeException("Only a draft or failed revision can be applied; revision " + id + " is "
+                    + revision.getStatus());
+        }
+        revision.setStatus(RevisionStatus.APPLYING);
+        revision.setError(null);
+        revision.setAppliedBy(currentPrincipal());
+        revision = revisionRepository.saveAndFlush(revision);
+        return submit(revision, "APPLY");
+    }
+
+    /** Queues the rollback job for an applied (or partly applied) revision. */
+    public SalaryRevisionDTO rollback(Long id) {
+        SalaryRevision revision = findRevision(id);
+        if (revision.getStatus() != RevisionStatus.APPLIED && revision.getStatus() != RevisionStatus.FAILED) {
+            throw new RuntimeException("Only an applied or failed revision can be rolled back; revision " + id
+                    + " is " + revision.getStatus());
+        }
+        revision.setStatus(RevisionStatus.ROLLING_BACK);
+        revision.setError(null);
+        revision.setRolledBackBy(currentPrincipal());
+        revision = revisionRepository.saveAndFlush(revision);
+        return submit(revision, "ROLLBACK");
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    @Transactional(readOnly = true)
+    public EmployeeColumns.RaiseRule[] getRules(Long id) {
+        return toRaiseRules(readRules(findRevision(id)));
+    }
+
+    @Transactional(readOnly = true)
+    public long countEmployeesWithSalary() {
+        return employeeRepository.countBySalaryIsNotNull();
+    }
+
+    @Transactional(readOnly = true)
+    public int nextChunk(Long id) {
+        return itemRepository.maxChunk(id) + 1;
+    }
+
+    /**
+     * Locks the next {@code limit} employees after {@code afterId}, records the raises of
+     * those matching a rule and sets their salaries in one UPDATE. Returns the last employee
+     * id scanned, or -1 when none were left.
+     */
+    @Transactional
+    public long applyChunk(Long id, EmployeeColumns.RaiseRule[] rules, long afterId, int chunk, int limit) {
+        List<Object[]> rows = employeeRepository.lockRevisionCandidates(id, afterId, limit);
+        if (rows.isEmpty()) {
+            return -1;
+        }
+        List<SalaryRevisionItem> items = new ArrayList<>();
+        List<SalaryChange> changes = new ArrayList<>();
+        long lastId = afterId;
+        for (Object[] row : rows) {
+            long employeeId = ((Number) row[0]).longValue();
+            long departmentId = row[1] != null ? ((Number) row[1]).longValue() : EmployeeColumns.NO_DEPARTMENT;
+            int status = EmployeeStatus.valueOf((String) row[2]).ordinal();
+            BigDecimal salary = (BigDecimal) row[3];
+            lastId = employeeId;
+            long cents = toCents(salary);
+            int rule = EmployeeColumns.RaiseRule.firstMatch(rules, departmentId, status, cents);
+            if (rule < 0) {
+                continue;
+            }
+            long raise = rules[rule].raiseCents(cents);
+            if (raise == 0) {
+                continue;
+            }
+            if (cents + raise > MAX_SALARY_CENTS) {
+                throw new RuntimeException("Raise would take the salary of employee " + employeeId
+                        + " beyond the maximum");
+            }
+            BigDecimal newSalary = BigDecimal.valueOf(cents + raise, 2);
+            items.add(SalaryRevisionItem.builder()
+                    .id(new SalaryRevisionItem.Key(id, employeeId))
+                    .chunk(chunk)
+                    .ruleIndex(rule)
+                    .oldSalary(salary)
+                    .newSalary(newSalary)
+                    .build());
+            changes.add(new SalaryChange(employeeId, salary, newSalary));
+        }
+        if (!items.isEmpty()) {
+            itemRepository.insertAll(items);
+            itemRepository.applyChunk(id, chunk);
+            eventPublisher.publishEvent(new EmployeeSalariesChangedEvent(changes));
+        }
+        return lastId;
+    }
+
+    @Transactional(readOnly = true)
+    public List<Integer> getChunksToRollBack(Long id) {
+        return itemRepository.findChunksToRollBack(id);
+    }
+
+    /**
+     * Restores one chunk's old salaries where they are still the revised ones; returns how
+     * many of the chunk's items are now rolled back.
+     */
+    @Transactional
+    public int rollbackChunk(Long id, int chunk) {
+        itemRepository.rollbackChunk(id, chunk);
+        // the multi-table UPDATE counts rows of both tables, so read back what was restored
+        List<SalaryChange> changes = itemRepository.findChunk(id, chunk).stream()
+                .filter(SalaryRevisionItem::isRolledBack)
+                .map(item -> new SalaryChange(item.getId().getEntityId(), item.getNewSalary(), item.getOldSalary()))
+                .toList();
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new EmployeeSalariesChangedEvent(changes));
+        }
+        return changes.size();
+    }
+
+    @Transactional
+    public Map<String, Object> markApplied(Long id) {
+        SalaryRevision revision = findRevision(id);
+        Object[] totals = itemRepository.summarize(id).get(0);
+        revision.setStatus(RevisionStatus.APPLIED);
+        revision.setEmployeesAffected(((Number) totals[0]).longValue());
+        revision.setTotalBefore((BigDecimal) totals[1]);
+        revision.setTotalIncrease((BigDecimal) totals[2]);
+        revision.setAppliedAt(LocalDateTime.now());
+        revisionRepository.save(revision);
+        logger.info("Salary revision {} applied: {} employees, +{}", id, totals[0], totals[2]);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("revisionId", id);
+        result.put("employeesAffected", revision.getEmployeesAffected());
+        result.put("totalBefore", revision.getTotalBefore());
+        result.put("totalIncrease", revision.getTotalIncrease());
+        return result;
+    }
+
+    @Transactional
+    public Map<String, Object> markRolledBack(Long id) {
+        SalaryRevision revision = findRevision(id);
+        long rolledBack = itemRepository.countByIdRevisionIdAndRolledBack(id, true);
+        long skipped = itemRepository.countByIdRevisionIdAndRolledBack(id, false);
+        revision.setStatus(RevisionStatus.ROLLED_BACK);
+        revision.setRolledBack(rolledBack);
+        revision.setRollbackSkipped(skipped);
+        revision.setRolledBackAt(LocalDateTime.now());
+        revisionRepository.save(revision);
+        logger.info("Salary revision {} rolled back: {} restored, {} changed since and kept", id, rolledBack, skipped);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("revisionId", id);
+        result.put("rolledBack", rolledBack);
+        result.put("skipped", skipped);
+        return result;
+    }
+
+    @Transactional
+    public void markFailed(Long id, String error) {
+        revisionRepository.findById(id).ifPresent(revision -> {
+            revision.setStatus(RevisionStatus.FAILED);
+            revision.setError(error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+            revisionRepository.save(revision);
+        });
+    }
+
+    private SalaryRevisionDTO submit(SalaryRevision revision, String action) {
+        Long jobId = jobService.submit(JobRequestDTO.builder()
+                .type(JOB_TYPE)
+                .params(Map.of("revisionId", revision.getId(), "action", action))
+                .build()).getId();
+        revision.setJobId(jobId);
+        return toDTO(revisionRepository.save(revision));
+    }
+
+    private SalaryRevisionPreviewDTO preview(List<SalaryRevisionRuleDTO> rules) {
+        EmployeeColumns.RaiseRule[] raiseRules = toRaiseRules(rules);
+        ServiceCallEvent event = ServiceCallEvent.start("SalaryRevisionService.preview");
+        long start = System.nanoTime();
+        EmployeeColumns.RaisePreview totals = columnarAnalyticsService.previewRaises(raiseRules);
+        long elapsed = System.nanoTime() - start;
+        event.finish(raiseRules.length);
+
+        List<SalaryRevisionImpactDTO> ruleLines = new ArrayList<>(raiseRules.length);
+        long employees = 0;
+        long before = 0;
+        long raise = 0;
+        for (int r = 0; r < raiseRules.length; r++) {
+            employees += totals.ruleCounts()[r];
+            before += totals.ruleBeforeCents()[r];
+            raise += totals.ruleRaiseCents()[r];
+            SalaryRevisionImpactDTO line = impact(totals.ruleCounts()[r], totals.ruleBeforeCents()[r],
+                    totals.ruleRaiseCents()[r]);
+            line.setRuleIndex(r);
+            line.setMaxIncrease(BigDecimal.valueOf(totals.ruleMaxRaiseCents()[r], 2));
+            ruleLines.add(line);
+        }
+        Map<Long, String> names = departmentRepository.findAll().stream()
+                .collect(Collectors.toMap(Department::getId, Department::getName));
+        List<SalaryRevisionImpactDTO> departmentLines = new ArrayList<>();
+        for (int d = 0; d < totals.departmentCounts().length; d++) {
+            if (totals.departmentCounts()[d] == 0) {
+                continue;
+            }
+            long departmentId = totals.departmentIds()[d];
+            SalaryRevisionImpactDTO line = impact(totals.departmentCounts()[d], totals.departmentBeforeCents()[d],
+                    totals.departmentRaiseCents()[d]);
+            if (departmentId != EmployeeColumns.NO_DEPARTMENT) {
+                line.setDepartmentId(departmentId);
+                line.setDepartmentName(names.getOrDefault(departmentId, "Unknown"));
+            }
+            departmentLines.add(line);
+        }
+        departmentLines.sort(Comparator.comparing(SalaryRevisionImpactDTO::getDepartmentName,
+                Comparator.nullsLast(Comparator.naturalOrder())));
+
+        SalaryRevisionImpactDTO all = impact(employees, before, raise);
+        return SalaryRevisionPreviewDTO.builder()
+                .employeesAffected(employees)
+                .currentTotal(all.getCurrentTotal())
+                .increase(all.getIncrease())
+                .newTotal(all.getNewTotal())
+                .increasePercent(all.getIncreasePercent())
+                .rules(ruleLines)
+                .departments(departmentLines)
+                .rowsScanned(columnarAnalyticsService.getRowCount())
+                .elapsedMicros(TimeUnit.NANOSECONDS.toMicros(elapsed))
+                .build();
+    }
+
+    private SalaryRevisionImpactDTO impact(long employees, long beforeCents, long raiseCents) {
+        return SalaryRevisionImpactDTO.builder()
+                .employees(employees)
+                .currentTotal(BigDecimal.valueOf(beforeCents, 2))
+                .increase(BigDecimal.valueOf(raiseCents, 2))
+                .newTotal(BigDecimal.valueOf(beforeCents + raiseCents, 2))
+                .increasePercent(beforeCents == 0 ? BigDecimal.ZERO
+                        : BigDecimal.valueOf(raiseCents * 100).divide(BigDecimal.valueOf(beforeCents), 2, RoundingMode.HALF_UP))
+                .build();
+    }
+
+    private EmployeeColumns.RaiseRule[] toRaiseRules(List<SalaryRevisionRuleDTO> rules) {
+        if (rules == null || rules.isEmpty()) {
+            throw new RuntimeException("At least one rule is required");
+        }
+        EmployeeColumns.RaiseRule[] result = new EmployeeColumns.RaiseRule[rules.size()];
+        for (int r = 0; r < rules.size(); r++) {
+            SalaryRevisionRuleDTO rule = rules.get(r);
+            BigDecimal percent = rule.getPercent() != null ? rule.getPercent() : BigDecimal.ZERO;
+            BigDecimal amount = rule.getAmount() != null ? rule.getAmount() : BigDecimal.ZERO;
+            if (percent.signum() < 0 || percent.compareTo(BigDecimal.valueOf(100)) > 0) {
+                throw new RuntimeException("Rule " + r + ": percent must be between 0 and 100");
+            }
+            if (amount.signum() < 0) {
+                throw new RuntimeException("Rule " + r + ": amount must not be negative");
+            }
+            if (percent.signum() == 0 && amount.signum() == 0) {
+                throw new RuntimeException("Rule " + r + ": percent or amount is required");
+            }
+            if (percent.stripTrailingZeros().scale() > 2 || amount.stripTrailingZeros().scale() > 2) {
+                throw new RuntimeException("Rule " + r + ": percent and amount allow at most two decimals");
+            }
+            if (rule.getMinSalary() != null && rule.getMaxSalary() != null
+                    && rule.getMinSalary().compareTo(rule.getMaxSalary()) > 0) {
+                throw new RuntimeException("Rule " + r + ": minSalary is above maxSalary");
+            }
+            if (rule.getDepartmentId() != null && !departmentRepository.existsById(rule.getDepartmentId())) {
+                throw new ResourceNotFoundException("Rule " + r + ": department not found: " + rule.getDepartmentId());
+            }
+            result[r] = new EmployeeColumns.RaiseRule(
+                    rule.getDepartmentId(),
+                    rule.getStatus() != null ? rule.getStatus().ordinal() : null,
+                    rule.getMinSalary() != null ? toCents(rule.getMinSalary()) : null,
+                    rule.getMaxSalary() != null ? toCents(rule.getMaxSalary()) : null,
+                    percent.movePointRight(2).longValueExact(),
+                    amount.movePointRight(2).longValueExact());
+        }
+        return result;
+    }
+
+    private List<SalaryRevisionRuleDTO> readRules(SalaryRevision revision) {
+        try {
+            return objectMapper.readValue(revision.getRules(), new TypeReference<List<SalaryRevisionRuleDTO>>() {
+            });
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unreadable rules of salary revision " + revision.getId(), e);
+        }
+    }
+
+    private SalaryRevision findRevision(Long id) {
+        return revisionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Salary revision not found with id: " + id));
+    }
+
+    private String currentPrincipal() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.isAuthenticated() ? auth.getName() : "system";
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Could not serialize salary revision", e);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValue();
+    }
+
+    private SalaryRevisionDTO toDTO(SalaryRevision revision) {
+        SalaryRevisionPreviewDTO preview = null;
+        if (revision.getPreview() != null) {
+            try {
+                preview = objectMapper.readValue(revision.getPreview(), SalaryRevisionPreviewDTO.class);
+            } catch (JsonProcessingException e) {
+                logger.debug("Unreadable preview of salary revision {}: {}", revision.getId(), e.getMessage());
+            }
+        }
+        return SalaryRevisionDTO.builder()
+                .id(revision.getId())
+                .name(revision.getName())
+                .rules(readRules(revision))
+                .status(revision.getStatus())
+                .jobId(revision.getJobId())
+                .preview(preview)
+                .employeesAffected(revision.getEmployeesAffected())
+                .totalBefore(revision.getTotalBefore())
+                .totalIncrease(revision.getTotalIncrease())
+                .rolledBack(revision.getRolledBack())
+                .rollbackSkipped(revision.getRollbackSkipped())
+                .error(revision.getError())
+                .createdBy(revision.getCreatedBy())
+                .createdAt(revision.getCreatedAt())
+                .appliedBy(revision.getAppliedBy())
+                .appliedAt(revision.getAppliedAt())
+                .rolledBackBy(revision.getRolledBackBy())
+                .rolledBackAt(revision.getRolledBackAt())
+                .build();
+    }
+}
@@ -1,14 +1,21 @@
 package com.employeemanagement.service;
 
+import com.employeemanagement.dto.KeysetPageDTO;
 import com.employeemanagement.dto.UserDTO;
 import com.employeemanagement.entity.User;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.event.UserChangedEvent;
 import com.employeemanagement.exception.ResourceNotFoundException;
 import com.employeemanagement.repository.UserRepository;
+import com.employeemanagement.repository.UserSearchRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -16,16 +23,43 @@ import java.util.stream.Collectors;
 @Transactional
 public class UserService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private PasswordEncoder passwordEncoder;
 
-    public List<UserDTO> getAllUsers() {
-        return userRepository.findAll().stream()
-                .map(this::toDTO)
-                .collect(Collectors.toList());
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * One keyset page of users ordered by {@code sortBy} (username, email or id), optionally
+     * narrowed to usernames or emails starting with {@code search}. {@code after} is the
+     * previous page's {@code nextCursor}; the total is counted for the first page only.
+     */
+    @Transactional(readOnly = true)
+    public KeysetPageDTO<UserDTO> getUsers(String search, String role, String sortBy, String sortDir, int size,
+                                          String after) {
+        if (!UserSearchRepository.SORT_FIELDS.contains(sortBy)) {
+            throw new RuntimeException("Unknown sort field: " + sortBy + ". Allowed: " + UserSearchRepository.SORT_FIELDS);
+        }
+        String prefix = search == null || search.isBlank() ? null : search.trim();
+        User.Role roleFilter = parseRole(role);
+        boolean descending = "desc".equalsIgnoreCase(sortDir);
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        List<User> users = userRepository.findPage(prefix, roleFilter, sortBy, descending, decodeCursor(after, sortBy),
+                limit + 1);
+        boolean hasMore = users.size() > limit;
+        List<UserDTO> content = users.stream().limit(limit).map(this::toDTO).collect(Collectors.toList());
+        return KeysetPageDTO.<UserDTO>builder()
+                .content(content)
+                .size(limit)
+                .nextCursor(hasMore ? encodeCursor(sortBy, content.get(content.size() - 1)) : null)
+                .totalElements(after == null ? userRepository.countMatching(prefix, roleFilter) : null)
+                .build();
     }
 
     public UserDTO getUserById(Long id) {
@@ -44,7 +78,9 @@ public class UserService {
 
         User user = toEntity(dto);
         user.setPassword(passwordEncoder.encode(dto.getPassword()));
-        return toDTO(userRepository.save(user));
+        UserDTO created = toDTO(userRepository.save(user));
+        publish(ChangeType.CREATED, created.getId(), null, created);
+        return created;
     }
 
     public UserDTO updateUser(Long id, UserDTO dto) {
@@ -58,6 +94,7 @@ public class UserService {
             throw new RuntimeException("Email already exists: " + dto.getEmail());
         }
 
+        UserDTO before = toDTO(user);
         user.setUsername(dto.getUsername());
         user.setEmail(dto.getEmail());
         user.setEnabled(dto.isEnabled());
@@ -67,13 +104,59 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(dto.getPassword()));
         }
 
-        return toDTO(userRepository.save(user));
+        UserDTO updated = toDTO(userRepository.save(user));
+        publish(ChangeType.UPDATED, id, before, updated);
+        return updated;
     }
 
     public void deleteUser(Long id) {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found with id: " + id));
+        UserDTO before = toDTO(user);
         userRepository.delete(user);
+        publish(ChangeType.DELETED, id, before, null);
+    }
+
+    private static User.Role parseRole(String role) {
+        if (role == null || role.isEmpty()) {
+            return null;
+        }
+        try {
+            return User.Role.valueOf(role.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Unknown role: " + role);
+        }
+    }
+
+    /** The cursor is the sort field and the last row's value in it, Base64url encoded. */
+    private static String encodeCursor(String sortBy, UserDTO last) {
+        String value = switch (sortBy) {
+            case "email" -> last.getEmail();
+            case "id" -> String.valueOf(last.getId());
+            default -> last.getUsername();
+        };
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((sortBy + ":" + value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Comparable<?> decodeCursor(String cursor, String sortBy) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(sortBy + ":")) {
+                throw new RuntimeException("Cursor does not match sort field " + sortBy);
+            }
+            String value = decoded.substring(sortBy.length() + 1);
+            return "id".equals(sortBy) ? Long.valueOf(value) : value;
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Invalid cursor");
+        }
+    }
+
+    private void publish(ChangeType type, Long id, UserDTO before, UserDTO after) {
+        eventPublisher.publishEvent(new UserChangedEvent(type, id, before, after));
     }
 
     private UserDTO toDTO(User user) {
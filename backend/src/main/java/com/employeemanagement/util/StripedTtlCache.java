@@ -0,0 +1,172 @@
+package com.employeemanagement.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded map with per-entry expiry, split into lock-striped segments so callers working
+ * on different keys rarely contend. Each segment is an insertion-ordered map: expired
+ * entries are dropped from its head whenever one is added, and the eldest entry is
+ * evicted once the segment is full. Lookups never return an expired entry.
+ */
+public class StripedTtlCache<K, V> {
+
+    private final Segment<K, V>[] segments;
+    private final int mask;
+    private final int segmentCapacity;
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong expirations = new AtomicLong();
+
+    /** {@code stripes} is rounded down to a power of two; capacity is split evenly. */
+    @SuppressWarnings("unchecked")
+    public StripedTtlCache(int maxEntries, int stripes) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(stripes, maxEntries)));
+        segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment<>();
+        }
+        mask = count - 1;
+        segmentCapacity = Math.max(1, maxEntries / count);
+    }
+
+    public V get(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.currentTimeMillis();
+        segment.lock();
+        try {
+            Entry<V> entry = segment.map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAt() <= now) {
+                segment.map.remove(key);
+                expirations.incrementAndGet();
+                return null;
+            }
+            return entry.value();
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** Adds the entry unless a live one exists; returns that one, or null when added. */
+    public V putIfAbsent(K key, V value, long ttlMillis) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.currentTimeMillis();
+        segment.lock();
+        try {
+            Entry<V> existing = segment.map.get(key);
+            if (existing != null && existing.expiresAt() > now) {
+                return existing.value();
+            }
+            insert(segment, key, value, now, ttlMillis);
+            return null;
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** Adds or replaces the entry; a replaced entry moves to the young end. */
+    public void put(K key, V value, long ttlMillis) {
+        Segment<K, V> segment = segmentFor(key);
+        long now = System.currentTimeMillis();
+        segment.lock();
+        try {
+            insert(segment, key, value, now, ttlMillis);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    public void remove(K key) {
+        Segment<K, V> segment = segmentFor(key);
+        segment.lock();
+        try {
+            segment.map.remove(key);
+        } finally {
+            segment.unlock();
+        }
+    }
+
+    /** Drops every expired entry, not just those at segment heads; returns how many. */
+    public int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int purged = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                Iterator<Entry<V>> it = segment.map.values().iterator();
+                while (it.hasNext()) {
+                    if (it.next().expiresAt() <= now) {
+                        it.remove();
+                        purged++;
+                    }
+                }
+            } finally {
+                segment.unlock();
+            }
+        }
+        expirations.addAndGet(purged);
+        return purged;
+    }
+
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock();
+            try {
+                size += segment.map.size();
+            } finally {
+                segment.unlock();
+            }
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return segmentCapacity * segments.length;
+    }
+
+    /** Live entries dropped because their segment was full. */
+    public long evictions() {
+        return evictions.get();
+    }
+
+    public long expirations() {
+        return expirations.get();
+    }
+
+    private void insert(Segment<K, V> segment, K key, V value, long now, long ttlMillis) {
+        segment.map.remove(key);
+        Iterator<Entry<V>> it = segment.map.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().expiresAt() > now) {
+                break;
+            }
+            it.remove();
+            expirations.incrementAndGet();
+        }
+        while (segment.map.size() >= segmentCapacity) {
+            Iterator<Map.Entry<K, Entry<V>>> eldest = segment.map.entrySet().iterator();
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+        segment.map.put(key, new Entry<>(value, now + ttlMillis));
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & mask];
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class Segment<K, V> extends ReentrantLock {
+        final LinkedHashMap<K, Entry<V>> map = new LinkedHashMap<>();
+    }
+}
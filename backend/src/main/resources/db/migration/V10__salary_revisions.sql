@@ -0,0 +1,41 @@
+-- Salary revisions (SalaryRevisionService). Rules are previewed against the in-memory
+-- employee columns, then applied by a job in chunks of set-based updates. Every raise is
+-- an item holding the old and new salary: the audit trail and the source for rollback.
+CREATE TABLE salary_revisions (
+    id                 BIGINT        NOT NULL AUTO_INCREMENT,
+    name               VARCHAR(100)  NOT NULL,
+    rules              TEXT          NOT NULL,
+    status             ENUM('DRAFT','APPLYING','APPLIED','ROLLING_BACK','ROLLED_BACK','FAILED') NOT NULL,
+    job_id             BIGINT,
+    preview            TEXT,
+    employees_affected BIGINT,
+    total_before       DECIMAL(15, 2),
+    total_increase     DECIMAL(15, 2),
+    rolled_back        BIGINT,
+    rollback_skipped   BIGINT,
+    error              VARCHAR(1000),
+    created_by         VARCHAR(50),
+    created_at         DATETIME(6)   NOT NULL,
+    applied_by         VARCHAR(50),
+    applied_at         DATETIME(6),
+    rolled_back_by     VARCHAR(50),
+    rolled_back_at     DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- entity_id is employees.id, as in employee_history; no foreign key, so the trail
+-- outlives deleted or archived employees.
+CREATE TABLE salary_revision_items (
+    revision_id BIGINT         NOT NULL,
+    entity_id   BIGINT         NOT NULL,
+    chunk       INT            NOT NULL,
+    rule_index  INT            NOT NULL,
+    old_salary  DECIMAL(12, 2) NOT NULL,
+    new_salary  DECIMAL(12, 2) NOT NULL,
+    rolled_back BIT            NOT NULL DEFAULT 0,
+    PRIMARY KEY (revision_id, entity_id),
+    -- one chunk's set-based update and rollback join on this
+    INDEX idx_salary_revision_items_chunk (revision_id, chunk),
+    CONSTRAINT fk_salary_revision_items_revision FOREIGN KEY (revision_id) REFERENCES salary_revisions (id)
+        ON DELETE CASCADE
+) ENGINE = InnoDB;
@@ -0,0 +1,15 @@
+-- Idempotency-Key dedupe store shared by all instances (DatabaseIdempotencyStore, used when
+-- app.idempotency.store=database). key_hash is SHA-256 of the principal and the client key;
+-- a row with status 0 is a request still in progress, claimed with INSERT IGNORE.
+CREATE TABLE idempotency_keys (
+    key_hash     CHAR(64)     NOT NULL,
+    fingerprint  CHAR(64)     NOT NULL,
+    status       SMALLINT     NOT NULL DEFAULT 0,
+    content_type VARCHAR(255),
+    headers      TEXT,
+    body         MEDIUMBLOB,
+    created_at   DATETIME(6)  NOT NULL,
+    expires_at   DATETIME(6)  NOT NULL,
+    PRIMARY KEY (key_hash),
+    INDEX idx_idempotency_keys_expires_at (expires_at)
+) ENGINE = InnoDB;
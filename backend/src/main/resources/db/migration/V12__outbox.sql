@@ -0,0 +1,49 @@
+-- Transactional outbox (OutboxService, OutboxDispatcher). Employee and department changes
+-- are appended here before commit, in the transaction that made them, and relayed to the
+-- configured webhooks by a background dispatcher.
+CREATE TABLE outbox_events (
+    id             BIGINT      NOT NULL AUTO_INCREMENT,
+    aggregate_type VARCHAR(20) NOT NULL,
+    aggregate_id   BIGINT      NOT NULL,
+    change_type    ENUM('CREATED','UPDATED','DELETED','ARCHIVED','RESTORED','SALARY_REVISED') NOT NULL,
+    payload        TEXT        NOT NULL,
+    created_at     DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_outbox_events_created_at (created_at)
+) ENGINE = InnoDB;
+
+-- One row per webhook: how far it has been delivered, its retry state, and which instance
+-- currently holds the lease to dispatch it.
+CREATE TABLE outbox_subscriptions (
+    webhook         VARCHAR(50)   NOT NULL,
+    last_event_id   BIGINT        NOT NULL,
+    attempts        INT           NOT NULL DEFAULT 0,
+    next_attempt_at DATETIME(6),
+    last_error      VARCHAR(1000),
+    lease_owner     VARCHAR(64),
+    lease_until     DATETIME(6),
+    delivered       BIGINT        NOT NULL DEFAULT 0,
+    dead_lettered   BIGINT        NOT NULL DEFAULT 0,
+    updated_at      DATETIME(6)   NOT NULL,
+    PRIMARY KEY (webhook)
+) ENGINE = InnoDB;
+
+-- Events a webhook rejected or that ran out of retries, with their own copy of the payload
+-- so purging outbox_events never loses them. Later events for the same aggregate are
+-- parked here too, to keep per-aggregate order until the dead letters are retried.
+CREATE TABLE outbox_dead_letters (
+    id               BIGINT        NOT NULL AUTO_INCREMENT,
+    webhook          VARCHAR(50)   NOT NULL,
+    event_id         BIGINT        NOT NULL,
+    aggregate_type   VARCHAR(20)   NOT NULL,
+    aggregate_id     BIGINT        NOT NULL,
+    change_type      ENUM('CREATED','UPDATED','DELETED','ARCHIVED','RESTORED','SALARY_REVISED') NOT NULL,
+    payload          TEXT          NOT NULL,
+    event_created_at DATETIME(6)   NOT NULL,
+    error            VARCHAR(1000),
+    retry_requested  BIT           NOT NULL DEFAULT 0,
+    created_at       DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_outbox_dead_letters_event UNIQUE (webhook, event_id),
+    INDEX idx_outbox_dead_letters_aggregate (webhook, aggregate_type, aggregate_id)
+) ENGINE = InnoDB;
@@ -0,0 +1,4 @@
+-- Prefix lookups for the typeahead fallback (EmployeeSuggestService.fromDatabase):
+-- employee_id and email are served by their unique keys, first_name by
+-- idx_employees_first_name (V2); last_name had no index.
+CREATE INDEX idx_employees_last_name ON employees (last_name);
@@ -0,0 +1,75 @@
+-- Baseline schema, matching what ddl-auto=update used to create.
+-- IF NOT EXISTS keeps this safe on databases that were created by Hibernate.
+
+CREATE TABLE IF NOT EXISTS departments (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    name        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_departments_name UNIQUE (name)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS employees (
+    id            BIGINT                     NOT NULL AUTO_INCREMENT,
+    employee_id   VARCHAR(20)                NOT NULL,
+    first_name    VARCHAR(50)                NOT NULL,
+    last_name     VARCHAR(50)                NOT NULL,
+    email         VARCHAR(100)               NOT NULL,
+    phone         VARCHAR(15),
+    department_id BIGINT,
+    salary        DECIMAL(12, 2),
+    joining_date  DATE,
+    status        ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    profile_image VARCHAR(255),
+    address       VARCHAR(500),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_employee_id UNIQUE (employee_id),
+    CONSTRAINT uk_employees_email UNIQUE (email),
+    CONSTRAINT fk_employees_department FOREIGN KEY (department_id) REFERENCES departments (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS users (
+    id         BIGINT               NOT NULL AUTO_INCREMENT,
+    username   VARCHAR(50)          NOT NULL,
+    email      VARCHAR(100)         NOT NULL,
+    password   VARCHAR(255)         NOT NULL,
+    role       ENUM ('ADMIN','USER') NOT NULL,
+    enabled    BIT                  NOT NULL,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_username UNIQUE (username),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS headcount_snapshots (
+    id                 BIGINT  NOT NULL AUTO_INCREMENT,
+    snapshot_date      DATE    NOT NULL,
+    department_id      BIGINT,
+    department_name    VARCHAR(100),
+    total_employees    BIGINT  NOT NULL,
+    active_employees   BIGINT  NOT NULL,
+    inactive_employees BIGINT  NOT NULL,
+    salary_sum         DECIMAL(19, 2),
+    salary_count       BIGINT  NOT NULL,
+    created_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_headcount_snapshots_date_dept (snapshot_date, department_id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS audit_log (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    action      VARCHAR(10) NOT NULL,
+    principal   VARCHAR(50),
+    changes     TEXT,
+    occurred_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_audit_log_entity (entity_type, entity_id, occurred_at),
+    INDEX idx_audit_log_occurred_at (occurred_at)
+) ENGINE = InnoDB;
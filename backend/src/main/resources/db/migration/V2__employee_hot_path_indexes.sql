@@ -0,0 +1,18 @@
+-- Indexes for the employee listing (EmployeeService.getAllEmployees) and the dashboard.
+-- InnoDB secondary indexes carry the primary key, so (x, y) also covers ORDER BY id within x.
+
+-- status filter, and status filter + each sort option offered by the employee list
+CREATE INDEX idx_employees_status_first_name ON employees (status, first_name);
+CREATE INDEX idx_employees_status_salary ON employees (status, salary);
+CREATE INDEX idx_employees_status_joining_date ON employees (status, joining_date);
+
+-- department filter + status; salary makes it covering for the per-department
+-- counts, AVG(salary) and the headcount snapshot aggregation
+CREATE INDEX idx_employees_dept_status_salary ON employees (department_id, status, salary);
+
+-- new joinees this month, headcount backfill, "Newest First"
+CREATE INDEX idx_employees_joining_date ON employees (joining_date);
+
+-- unfiltered sorts
+CREATE INDEX idx_employees_first_name ON employees (first_name);
+CREATE INDEX idx_employees_salary ON employees (salary);
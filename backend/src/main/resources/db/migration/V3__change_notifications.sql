@@ -0,0 +1,12 @@
+-- Cross-instance invalidation: every entity write appends a row in the same transaction,
+-- and each instance polls for ids above its high-water mark (DatabaseInvalidationBus).
+CREATE TABLE change_notifications (
+    id          BIGINT      NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    change_type ENUM('CREATED','UPDATED','DELETED') NOT NULL,
+    origin_node VARCHAR(64) NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX idx_change_notifications_created_at (created_at)
+) ENGINE = InnoDB;
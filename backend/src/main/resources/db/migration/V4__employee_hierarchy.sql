@@ -0,0 +1,22 @@
+-- Manager link plus a closure table, so "all reports under X", "headcount under X" and
+-- "chain of command" are each a single indexed query (OrgChartService).
+ALTER TABLE employees
+    ADD COLUMN manager_id BIGINT NULL,
+    ADD CONSTRAINT fk_employees_manager FOREIGN KEY (manager_id) REFERENCES employees (id),
+    ADD INDEX idx_employees_manager (manager_id);
+
+-- PRIMARY KEY (ancestor_id, descendant_id) serves subtree lookups;
+-- (descendant_id, depth) serves the chain of command and subtree moves.
+CREATE TABLE employee_hierarchy (
+    ancestor_id   BIGINT NOT NULL,
+    descendant_id BIGINT NOT NULL,
+    depth         INT    NOT NULL,
+    PRIMARY KEY (ancestor_id, descendant_id),
+    INDEX idx_employee_hierarchy_descendant (descendant_id, depth),
+    CONSTRAINT fk_employee_hierarchy_ancestor FOREIGN KEY (ancestor_id) REFERENCES employees (id) ON DELETE CASCADE,
+    CONSTRAINT fk_employee_hierarchy_descendant FOREIGN KEY (descendant_id) REFERENCES employees (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+-- No manager links exist yet, so every employee starts as its own root.
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+SELECT id, id, 0 FROM employees;
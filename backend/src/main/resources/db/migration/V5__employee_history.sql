@@ -0,0 +1,33 @@
+-- Versioned employee rows for as-of queries (EmployeeHistoryService). valid_to is
+-- '9999-12-31' for the current version rather than NULL, so "valid at T" is the range
+-- predicate valid_from <= T AND valid_to > T and can use the indexes below.
+CREATE TABLE employee_history (
+    id            BIGINT                     NOT NULL AUTO_INCREMENT,
+    entity_id     BIGINT                     NOT NULL,
+    employee_id   VARCHAR(20)                NOT NULL,
+    first_name    VARCHAR(50)                NOT NULL,
+    last_name     VARCHAR(50)                NOT NULL,
+    email         VARCHAR(100)               NOT NULL,
+    department_id BIGINT,
+    manager_id    BIGINT,
+    salary        DECIMAL(12, 2),
+    joining_date  DATE,
+    status        ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    valid_from    DATETIME(6)                NOT NULL,
+    valid_to      DATETIME(6)                NOT NULL,
+    recorded_at   DATETIME(6)                NOT NULL,
+    PRIMARY KEY (id),
+    -- current version of one employee (closing it on update), and per-employee timelines
+    INDEX idx_employee_history_entity (entity_id, valid_to),
+    -- as-of scans: rows still valid at T, then the valid_from check from the index
+    INDEX idx_employee_history_valid (valid_to, valid_from),
+    -- as-of dashboard counts per department and status
+    INDEX idx_employee_history_dept_status (department_id, status, valid_to)
+) ENGINE = InnoDB;
+
+-- Existing employees start with one open version from their creation time.
+INSERT INTO employee_history (entity_id, employee_id, first_name, last_name, email, department_id, manager_id,
+                              salary, joining_date, status, valid_from, valid_to, recorded_at)
+SELECT id, employee_id, first_name, last_name, email, department_id, manager_id,
+       salary, joining_date, status, COALESCE(created_at, NOW(6)), '9999-12-31 00:00:00', NOW(6)
+FROM employees;
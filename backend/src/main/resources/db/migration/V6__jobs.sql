@@ -0,0 +1,25 @@
+-- Background jobs (JobRunner). Rows outlive the process: a RUNNING job whose heartbeat
+-- goes stale is put back to QUEUED and claimed again by whichever instance polls first.
+-- priority is declared HIGH..LOW so ORDER BY priority sorts by urgency (ENUM index order).
+CREATE TABLE jobs (
+    id               BIGINT       NOT NULL AUTO_INCREMENT,
+    type             VARCHAR(50)  NOT NULL,
+    status           ENUM('QUEUED','RUNNING','SUCCEEDED','FAILED','CANCELLED') NOT NULL,
+    priority         ENUM('HIGH','NORMAL','LOW') NOT NULL,
+    params           TEXT,
+    result           TEXT,
+    error            VARCHAR(1000),
+    processed        BIGINT       NOT NULL DEFAULT 0,
+    total            BIGINT,
+    checkpoint       BIGINT,
+    attempts         INT          NOT NULL DEFAULT 0,
+    cancel_requested BIT          NOT NULL DEFAULT 0,
+    owner_node       VARCHAR(64),
+    submitted_by     VARCHAR(50),
+    created_at       DATETIME(6)  NOT NULL,
+    started_at       DATETIME(6),
+    heartbeat_at     DATETIME(6),
+    finished_at      DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_jobs_status_priority (status, priority, id)
+) ENGINE = InnoDB;
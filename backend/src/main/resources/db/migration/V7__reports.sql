@@ -0,0 +1,20 @@
+-- Precomputed reports (PayrollReportService). One row per report type and period; the
+-- XLSX lives on disk under app.reports.dir and is replaced in place on regeneration.
+CREATE TABLE reports (
+    id                BIGINT       NOT NULL AUTO_INCREMENT,
+    type              ENUM('MONTHLY_PAYROLL') NOT NULL,
+    period_start      DATE         NOT NULL,
+    period_end        DATE         NOT NULL,
+    status            ENUM('PENDING','READY','FAILED') NOT NULL,
+    job_id            BIGINT,
+    file_name         VARCHAR(255),
+    size_bytes        BIGINT,
+    employees_scanned BIGINT,
+    summary           TEXT,
+    error             VARCHAR(1000),
+    requested_by      VARCHAR(50),
+    requested_at      DATETIME(6)  NOT NULL,
+    generated_at      DATETIME(6),
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_reports_type_period (type, period_start)
+) ENGINE = InnoDB;
@@ -0,0 +1,43 @@
+-- Archival tier (EmployeeArchiveService): employees inactive for longer than
+-- app.archive.inactive-days move here in batches, keeping ids, so the hot table and its
+-- indexes only hold current staff.
+CREATE TABLE employees_archive (
+    id            BIGINT                     NOT NULL,
+    employee_id   VARCHAR(20)                NOT NULL,
+    first_name    VARCHAR(50)                NOT NULL,
+    last_name     VARCHAR(50)                NOT NULL,
+    email         VARCHAR(100)               NOT NULL,
+    phone         VARCHAR(15),
+    department_id BIGINT,
+    manager_id    BIGINT,
+    salary        DECIMAL(12, 2),
+    joining_date  DATE,
+    status        ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    profile_image VARCHAR(255),
+    address       VARCHAR(500),
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    archived_at   DATETIME(6)                NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_employees_archive_employee_id UNIQUE (employee_id),
+    CONSTRAINT uk_employees_archive_email UNIQUE (email),
+    INDEX idx_employees_archive_dept_status (department_id, status),
+    INDEX idx_employees_archive_archived_at (archived_at)
+) ENGINE = InnoDB;
+
+-- archival candidates: INACTIVE, not touched since the cutoff
+CREATE INDEX idx_employees_status_updated_at ON employees (status, updated_at);
+
+-- moves between tiers are broadcast to other instances like any other change
+ALTER TABLE change_notifications
+    MODIFY change_type ENUM('CREATED','UPDATED','DELETED','ARCHIVED','RESTORED') NOT NULL;
+
+-- Both tiers, for listings with includeArchived=true; archived_at is NULL for hot rows.
+CREATE VIEW employee_directory AS
+SELECT id, employee_id, first_name, last_name, email, phone, department_id, manager_id, salary,
+       joining_date, status, profile_image, address, created_at, updated_at, NULL AS archived_at
+FROM employees
+UNION ALL
+SELECT id, employee_id, first_name, last_name, email, phone, department_id, manager_id, salary,
+       joining_date, status, profile_image, address, created_at, updated_at, archived_at
+FROM employees_archive;
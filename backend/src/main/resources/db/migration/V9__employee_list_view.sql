@@ -0,0 +1,42 @@
+-- Denormalized read table for the employee list (EmployeeListViewService): one row per
+-- employee with department and manager names copied in and a lowercased search key, so
+-- GET /employees reads a single table with no joins. Written in the same transaction as
+-- every employee/department change; a department rename is one UPDATE on department_id.
+CREATE TABLE employee_list_view (
+    id              BIGINT                     NOT NULL,
+    employee_id     VARCHAR(20)                NOT NULL,
+    first_name      VARCHAR(50)                NOT NULL,
+    last_name       VARCHAR(50)                NOT NULL,
+    email           VARCHAR(100)               NOT NULL,
+    phone           VARCHAR(15),
+    department_id   BIGINT,
+    department_name VARCHAR(100),
+    manager_id      BIGINT,
+    manager_name    VARCHAR(101),
+    salary          DECIMAL(12, 2),
+    joining_date    DATE,
+    status          ENUM ('ACTIVE','INACTIVE') NOT NULL,
+    profile_image   VARCHAR(255),
+    address         VARCHAR(500),
+    -- lower(employee_id, first_name, last_name, email) joined by U+001F
+    search_key      VARCHAR(230)               NOT NULL,
+    PRIMARY KEY (id),
+    -- same access paths as the employees indexes in V2
+    INDEX idx_employee_list_view_status_first_name (status, first_name),
+    INDEX idx_employee_list_view_status_salary (status, salary),
+    INDEX idx_employee_list_view_status_joining_date (status, joining_date),
+    INDEX idx_employee_list_view_dept_status_salary (department_id, status, salary),
+    INDEX idx_employee_list_view_joining_date (joining_date),
+    INDEX idx_employee_list_view_first_name (first_name),
+    INDEX idx_employee_list_view_salary (salary),
+    INDEX idx_employee_list_view_manager (manager_id)
+) ENGINE = InnoDB;
+
+INSERT INTO employee_list_view (id, employee_id, first_name, last_name, email, phone, department_id, department_name,
+                                manager_id, manager_name, salary, joining_date, status, profile_image, address, search_key)
+SELECT e.id, e.employee_id, e.first_name, e.last_name, e.email, e.phone, d.id, d.name,
+       m.id, CONCAT(m.first_name, ' ', m.last_name), e.salary, e.joining_date, e.status, e.profile_image, e.address,
+       LOWER(CONCAT_WS(CHAR(31 USING utf8mb4), e.employee_id, e.first_name, e.last_name, e.email))
+FROM employees e
+         LEFT JOIN departments d ON d.id = e.department_id
+         LEFT JOIN employees m ON m.id = e.manager_id;
@@ -0,0 +1,95 @@
+package com.employeemanagement.analytics;
+
+import com.employeemanagement.analytics.EmployeeColumns.RaisePreview;
+import com.employeemanagement.analytics.EmployeeColumns.RaiseRule;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class EmployeeColumnsTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmployeeColumnsTest.class);
+
+    private static final int ROWS = 200_000;
+    private static final int DEPARTMENTS = 40;
+
+    private static final RaiseRule[] RULES = {
+            // 5% for department 3, 2.5% plus 100.00 for active employees under 40k, 1% for the rest
+            new RaiseRule(3L, null, null, null, 500, 0),
+            new RaiseRule(null, 0, null, 4_000_000L, 250, 10_000),
+            new RaiseRule(null, null, null, null, 100, 0)
+    };
+
+    @Test
+    void previewRaisesMatchesRowByRowTotals() {
+        Random random = new Random(11);
+        EmployeeColumns columns = new EmployeeColumns();
+        long[] departmentOf = new long[ROWS + 1];
+        int[] statusOf = new int[ROWS + 1];
+        long[] centsOf = new long[ROWS + 1];
+        for (int id = 1; id <= ROWS; id++) {
+            departmentOf[id] = random.nextInt(20) == 0 ? EmployeeColumns.NO_DEPARTMENT : 1 + random.nextInt(DEPARTMENTS);
+            statusOf[id] = random.nextInt(4) == 0 ? 1 : 0;
+            centsOf[id] = random.nextInt(50) == 0 ? EmployeeColumns.NO_SALARY
+                    : 2_000_000 + random.nextInt(18_000_000);
+            columns.put(id, departmentOf[id], statusOf[id], 18_000 + random.nextInt(2_000), centsOf[id]);
+        }
+        // removed rows leave free slots the scan has to skip
+        for (int id = 7; id <= ROWS; id += 97) {
+            columns.remove(id);
+            centsOf[id] = EmployeeColumns.NO_SALARY;
+        }
+
+        long[] ruleCounts = new long[RULES.length];
+        long[] ruleBefore = new long[RULES.length];
+        long[] ruleRaise = new long[RULES.length];
+        long[] ruleMax = new long[RULES.length];
+        Map<Long, long[]> byDepartment = new HashMap<>();
+        for (int id = 1; id <= ROWS; id++) {
+            long cents = centsOf[id];
+            if (cents == EmployeeColumns.NO_SALARY) {
+                continue;
+            }
+            int rule = RaiseRule.firstMatch(RULES, departmentOf[id], statusOf[id], cents);
+            long raise = RULES[rule].raiseCents(cents);
+            ruleCounts[rule]++;
+            ruleBefore[rule] += cents;
+            ruleRaise[rule] += raise;
+            ruleMax[rule] = Math.max(ruleMax[rule], raise);
+            long[] totals = byDepartment.computeIfAbsent(departmentOf[id], d -> new long[3]);
+            totals[0]++;
+            totals[1] += cents;
+            totals[2] += raise;
+        }
+
+        RaisePreview preview = columns.previewRaises(RULES);
+
+        assertArrayEquals(ruleCounts, preview.ruleCounts());
+        assertArrayEquals(ruleBefore, preview.ruleBeforeCents());
+        assertArrayEquals(ruleRaise, preview.ruleRaiseCents());
+        assertArrayEquals(ruleMax, preview.ruleMaxRaiseCents());
+        for (int code = 0; code < preview.departmentIds().length; code++) {
+            long[] expected = byDepartment.getOrDefault(preview.departmentIds()[code], new long[3]);
+            long id = preview.departmentIds()[code];
+            assertEquals(expected[0], preview.departmentCounts()[code], "count, department " + id);
+            assertEquals(expected[1], preview.departmentBeforeCents()[code], "before, department " + id);
+            assertEquals(expected[2], preview.departmentRaiseCents()[code], "raise, department " + id);
+        }
+
+        // warm up, then the best of a few runs
+        long best = Long.MAX_VALUE;
+        for (int run = 0; run < 8; run++) {
+            long start = System.nanoTime();
+            columns.previewRaises(RULES);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        logger.info("previewRaises over {} rows, {} rules: best {} us", columns.rowCount(), RULES.length, best / 1000);
+    }
+}
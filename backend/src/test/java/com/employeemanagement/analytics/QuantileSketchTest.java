@@ -0,0 +1,85 @@
+package com.employeemanagement.analytics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+    private static final double[] QUANTILES = {0.0, 0.5, 0.9, 0.99, 1.0};
+
+    @Test
+    void quantilesAreWithinRelativeAccuracyOfExactValues() {
+        Random random = new Random(42);
+        long[] values = new long[100_000];
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int i = 0; i < values.length; i++) {
+            // log-normal salaries in cents, roughly 20k to 500k a year
+            values[i] = Math.round(Math.exp(15.6 + 0.6 * random.nextGaussian()));
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : QUANTILES) {
+            long exact = values[(int) Math.floor(q * (values.length - 1))];
+            long estimate = sketch.quantile(q);
+            // +1 for rounding the bucket value to whole cents
+            assertTrue(Math.abs(estimate - exact) <= ACCURACY * exact + 1,
+                    "p" + q * 100 + ": exact " + exact + ", estimate " + estimate);
+        }
+    }
+
+    @Test
+    void removeUndoesAdd() {
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        QuantileSketch expected = new QuantileSketch(ACCURACY);
+        for (long value = 0; value < 1000; value++) {
+            sketch.add(value * 1000);
+            expected.add(value * 1000);
+        }
+        sketch.add(123_456_789);
+        sketch.remove(123_456_789);
+
+        assertEquals(expected.getCount(), sketch.getCount());
+        for (double q : QUANTILES) {
+            assertEquals(expected.quantile(q), sketch.quantile(q));
+        }
+    }
+
+    @Test
+    void mergeMatchesSingleSketch() {
+        Random random = new Random(7);
+        QuantileSketch single = new QuantileSketch(ACCURACY);
+        QuantileSketch[] parts = new QuantileSketch[4];
+        for (int i = 0; i < parts.length; i++) {
+            parts[i] = new QuantileSketch(ACCURACY);
+        }
+        for (int i = 0; i < 50_000; i++) {
+            // parts cover different ranges, so merging has to grow the bucket array
+            int part = i % parts.length;
+            long value = i % 97 == 0 ? 0 : (long) (random.nextDouble() * Math.pow(100, part + 1) * 1000);
+            single.add(value);
+            parts[part].add(value);
+        }
+        QuantileSketch merged = new QuantileSketch(ACCURACY);
+        for (QuantileSketch part : parts) {
+            merged.merge(part);
+        }
+
+        assertEquals(single.getCount(), merged.getCount());
+        assertEquals(single.getZeroCount(), merged.getZeroCount());
+        for (double q = 0; q <= 1.0; q += 0.01) {
+            assertEquals(single.quantile(q), merged.quantile(q), "q=" + q);
+        }
+    }
+
+    @Test
+    void emptySketchReturnsMinusOne() {
+        assertEquals(-1, new QuantileSketch(ACCURACY).quantile(0.5));
+    }
+}
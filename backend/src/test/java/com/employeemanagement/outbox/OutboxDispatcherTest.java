@@ -0,0 +1,180 @@
+package com.employeemanagement.outbox;
+
+import com.employeemanagement.entity.OutboxDeadLetter;
+import com.employeemanagement.entity.OutboxEvent;
+import com.employeemanagement.event.ChangeType;
+import com.employeemanagement.outbox.OutboxDispatcher.Delivery;
+import com.employeemanagement.outbox.WebhookClient.Response;
+import com.employeemanagement.outbox.WebhookClient.Result;
+import com.employeemanagement.repository.OutboxSubscriptionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class OutboxDispatcherTest {
+
+    private static final String WEBHOOK = "payroll";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final StandInReceiver receiver = new StandInReceiver();
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        OutboxSubscriptionRepository subscriptions = mock(OutboxSubscriptionRepository.class);
+        when(subscriptions.renewLease(anyString(), anyString(), any())).thenReturn(1);
+        dispatcher = new OutboxDispatcher();
+        ReflectionTestUtils.setField(dispatcher, "subscriptionRepository", subscriptions);
+        ReflectionTestUtils.setField(dispatcher, "webhookClient", receiver);
+        ReflectionTestUtils.setField(dispatcher, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(dispatcher, "gapTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(dispatcher, "leaseSeconds", 30L);
+    }
+
+    @Test
+    void beforeGapStopsAtARecentGap() {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = List.of(event(1, 1, now), event(2, 2, now), event(4, 3, now), event(5, 4, now));
+
+        assertEquals(List.of(1L, 2L), ids(dispatcher.beforeGap(0, events, now)));
+        assertEquals(List.of(), ids(dispatcher.beforeGap(0, events.subList(2, 4), now)));
+    }
+
+    @Test
+    void beforeGapPassesAGapOlderThanTheTimeout() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime old = now.minusSeconds(10);
+        List<OutboxEvent> events = List.of(event(1, 1, old), event(3, 2, old), event(4, 3, now));
+
+        assertEquals(List.of(1L, 3L, 4L), ids(dispatcher.beforeGap(0, events, now)));
+    }
+
+    @Test
+    void bisectionDeadLettersOnlyRejectedEvents() {
+        receiver.poison = Set.of(3L, 6L);
+        List<OutboxEvent> events = new ArrayList<>();
+        for (long id = 1; id <= 8; id++) {
+            events.add(event(id, id, LocalDateTime.now()));
+        }
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+
+        Delivery delivery = dispatcher.deliverSplitting(WEBHOOK, new WebhookProperties(), events, new HashMap<>(),
+                deadLetters);
+
+        assertEquals(Result.DELIVERED, delivery.result());
+        assertEquals(6, delivery.delivered());
+        assertEquals(List.of(1L, 2L, 4L, 5L, 7L, 8L), receiver.received);
+        assertEquals(List.of(3L, 6L), deadLetters.stream().map(OutboxDeadLetter::getEventId).toList());
+        assertTrue(deadLetters.stream().allMatch(d -> d.getError().startsWith("Rejected")));
+        // 8 -> 4+4 -> 2+2+2+2 -> the two poisoned pairs split into singles
+        assertEquals(11, receiver.requests);
+    }
+
+    @Test
+    void laterEventsOfARejectedAggregateAreParked() {
+        receiver.poison = Set.of(1L);
+        LocalDateTime now = LocalDateTime.now();
+        // aggregate 10: events 1 (rejected) and 3; aggregate 20: events 2 and 4
+        List<OutboxEvent> events = List.of(event(1, 10, now), event(2, 20, now), event(3, 10, now),
+                event(4, 20, now));
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+
+        Delivery delivery = dispatcher.deliverSplitting(WEBHOOK, new WebhookProperties(), events, new HashMap<>(),
+                deadLetters);
+
+        assertEquals(Result.DELIVERED, delivery.result());
+        assertEquals(List.of(2L, 4L), receiver.received);
+        assertEquals(List.of(1L, 3L), deadLetters.stream().map(OutboxDeadLetter::getEventId).toList());
+        assertTrue(deadLetters.get(1).getError().startsWith("Parked"));
+    }
+
+    @Test
+    void eventsOfAggregatesWithDeadLettersAreParkedWithTheirRetryFlag() {
+        Map<String, Boolean> parked = new HashMap<>(Map.of("EMPLOYEE:10", true));
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+
+        dispatcher.deliverSplitting(WEBHOOK, new WebhookProperties(), List.of(event(1, 10, now), event(2, 20, now)),
+                parked, deadLetters);
+
+        assertEquals(List.of(2L), receiver.received);
+        assertEquals(1, deadLetters.size());
+        assertTrue(deadLetters.get(0).isRetryRequested());
+    }
+
+    @Test
+    void unavailableReceiverIsRetriedNotDeadLettered() {
+        receiver.down = true;
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxDeadLetter> deadLetters = new ArrayList<>();
+
+        Delivery delivery = dispatcher.deliverSplitting(WEBHOOK, new WebhookProperties(),
+                List.of(event(1, 10, now), event(2, 20, now)), new HashMap<>(), deadLetters);
+
+        assertEquals(Result.RETRY, delivery.result());
+        assertTrue(deadLetters.isEmpty());
+        assertEquals(1, receiver.requests);
+    }
+
+    private static OutboxEvent event(long id, long aggregateId, LocalDateTime createdAt) {
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateType("EMPLOYEE")
+                .aggregateId(aggregateId)
+                .changeType(ChangeType.UPDATED)
+                .payload("{\"id\":" + aggregateId + "}")
+                .createdAt(createdAt)
+                .build();
+    }
+
+    private static List<Long> ids(List<OutboxEvent> events) {
+        return events.stream().map(OutboxEvent::getId).toList();
+    }
+
+    /** Rejects any batch holding a poisoned event id with 400; 503 for everything while down. */
+    private class StandInReceiver extends WebhookClient {
+        Set<Long> poison = Set.of();
+        boolean down;
+        int requests;
+        final List<Long> received = new ArrayList<>();
+
+        @Override
+        public Response post(String webhook, WebhookProperties target, byte[] json, int events) {
+            requests++;
+            if (down) {
+                return new Response(Result.RETRY, "HTTP 503", json.length);
+            }
+            List<Long> ids = new ArrayList<>();
+            try {
+                for (JsonNode event : objectMapper.readTree(json).path("events")) {
+                    ids.add(event.path("id").asLong());
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            if (ids.stream().anyMatch(poison::contains)) {
+                return new Response(Result.REJECTED, "HTTP 400", json.length);
+            }
+            received.addAll(ids);
+            return new Response(Result.DELIVERED, null, json.length);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.employeemanagement.resilience;
+
+import com.employeemanagement.resilience.CircuitBreaker.State;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(2000);
+
+    @Test
+    void opensOnceTheRingReachesTheFailureRate() {
+        CircuitBreaker breaker = new CircuitBreaker(4, 4, 75, 1000, 60_000, 2);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        // evicts the first failure: still one in four
+        call(breaker, true);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        call(breaker, true);
+        assertEquals(State.CLOSED, breaker.getState());
+        call(breaker, true);
+        assertEquals(State.OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+    }
+
+    @Test
+    void slowCallsCountAsFailuresAndMinimumCallsApplies() {
+        CircuitBreaker breaker = new CircuitBreaker(10, 3, 50, 1000, 60_000, 2);
+        breaker.record(breaker.tryAcquire(), SLOW, false);
+        breaker.record(breaker.tryAcquire(), SLOW, false);
+        assertEquals(State.CLOSED, breaker.getState());
+        breaker.record(breaker.tryAcquire(), FAST, false);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void halfOpenClosesAfterAllTrialsSucceedAndReopensOnAFailure() {
+        CircuitBreaker breaker = open(new CircuitBreaker(2, 2, 50, 1000, 0, 2));
+
+        long first = breaker.tryAcquire();
+        long second = breaker.tryAcquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertEquals(CircuitBreaker.REJECTED, breaker.tryAcquire());
+        breaker.record(first, FAST, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        breaker.record(second, FAST, false);
+        assertEquals(State.CLOSED, breaker.getState());
+
+        open(breaker);
+        breaker.record(breaker.tryAcquire(), FAST, true);
+        assertEquals(State.OPEN, breaker.getState());
+    }
+
+    @Test
+    void outcomesOfCallsAdmittedBeforeTheCircuitOpenedAreIgnored() {
+        CircuitBreaker breaker = new CircuitBreaker(2, 2, 50, 1000, 0, 1);
+        long early = breaker.tryAcquire();
+        long late = breaker.tryAcquire();
+        open(breaker);
+
+        long trial = breaker.tryAcquire();
+        assertEquals(State.HALF_OPEN, breaker.getState());
+        assertNotEquals(early, trial);
+        // a success admitted before the open is not a passed trial
+        breaker.record(early, FAST, false);
+        assertEquals(State.HALF_OPEN, breaker.getState());
+
+        breaker.record(trial, FAST, false);
+        assertEquals(State.CLOSED, breaker.getState());
+        // nor does an old failure land in the fresh ring
+        breaker.record(late, FAST, true);
+        assertEquals(0, breaker.getStats().get("windowCalls"));
+    }
+
+    private static void call(CircuitBreaker breaker, boolean failed) {
+        breaker.record(breaker.tryAcquire(), FAST, failed);
+    }
+
+    private static CircuitBreaker open(CircuitBreaker breaker) {
+        while (breaker.getState() != State.OPEN) {
+            call(breaker, true);
+        }
+        return breaker;
+    }
+}
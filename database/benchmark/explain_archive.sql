@@ -0,0 +1,30 @@
+-- Hot-path employee queries, to run before and after archival. Row estimates and
+-- actual times should drop in proportion to the rows moved to employees_archive.
+-- With includeArchived the list reads both tiers through the employee_directory view.
+
+ANALYZE TABLE employees;
+SELECT table_name, table_rows, ROUND((data_length + index_length) / 1048576, 1) AS size_mb
+FROM information_schema.tables
+WHERE table_schema = DATABASE() AND table_name IN ('employees', 'employees_archive');
+
+-- Default list, first page and its count (GET /employees)
+EXPLAIN ANALYZE SELECT * FROM employees ORDER BY first_name LIMIT 10;
+EXPLAIN ANALYZE SELECT COUNT(*) FROM employees;
+
+-- Search (GET /employees?search=)
+EXPLAIN ANALYZE
+SELECT * FROM employees
+WHERE LOWER(first_name) LIKE '%meer%' OR LOWER(last_name) LIKE '%meer%' OR LOWER(email) LIKE '%meer%'
+ORDER BY id LIMIT 10;
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM employees
+WHERE LOWER(first_name) LIKE '%meer%' OR LOWER(last_name) LIKE '%meer%' OR LOWER(email) LIKE '%meer%';
+
+-- Dashboard counts and average salary
+EXPLAIN ANALYZE SELECT status, COUNT(*) FROM employees GROUP BY status;
+EXPLAIN ANALYZE SELECT AVG(salary) FROM employees WHERE salary IS NOT NULL;
+
+-- Same search over both tiers (GET /employees?includeArchived=true&search=)
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM employee_directory
+WHERE LOWER(first_name) LIKE '%meer%' OR LOWER(last_name) LIKE '%meer%' OR LOWER(email) LIKE '%meer%';
@@ -0,0 +1,35 @@
+-- As-of list and dashboard queries next to their current-state equivalents. Run after
+-- seed_employees.sql and seed_employee_history.sql; @past is a year back, where every
+-- benchmark employee is on an older, closed version.
+
+SET @past = DATE_SUB(NOW(6), INTERVAL 365 DAY);
+SET @now = NOW(6);
+
+-- Employee list, status filter, default sort: current vs as-of past vs as-of now
+EXPLAIN ANALYZE
+SELECT * FROM employees WHERE status = 'ACTIVE' ORDER BY id LIMIT 10 OFFSET 1000;
+EXPLAIN ANALYZE
+SELECT * FROM employee_history WHERE valid_to > @past AND valid_from <= @past AND status = 'ACTIVE'
+ORDER BY entity_id LIMIT 10 OFFSET 1000;
+EXPLAIN ANALYZE
+SELECT * FROM employee_history WHERE valid_to > @now AND valid_from <= @now AND status = 'ACTIVE'
+ORDER BY entity_id LIMIT 10 OFFSET 1000;
+
+-- Employee list, department + status filter
+EXPLAIN ANALYZE
+SELECT * FROM employees WHERE department_id = (SELECT MIN(id) FROM departments) AND status = 'ACTIVE'
+ORDER BY salary DESC LIMIT 10;
+EXPLAIN ANALYZE
+SELECT * FROM employee_history
+WHERE department_id = (SELECT MIN(id) FROM departments) AND status = 'ACTIVE'
+  AND valid_to > @past AND valid_from <= @past
+ORDER BY salary DESC LIMIT 10;
+
+-- Dashboard aggregates: current vs as-of past
+EXPLAIN ANALYZE
+SELECT d.name, e.status, COUNT(*), SUM(e.salary), COUNT(e.salary)
+FROM employees e LEFT JOIN departments d ON d.id = e.department_id GROUP BY d.name, e.status;
+EXPLAIN ANALYZE
+SELECT d.name, h.status, COUNT(*), SUM(h.salary), COUNT(h.salary)
+FROM employee_history h LEFT JOIN departments d ON d.id = h.department_id
+WHERE h.valid_to > @past AND h.valid_from <= @past GROUP BY d.name, h.status;
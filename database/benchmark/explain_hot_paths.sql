@@ -0,0 +1,35 @@
+-- Query plans for the hot read paths. Run once on a database migrated only to V1
+-- (flyway target=1, i.e. the old ddl-auto=update schema) and once on the current
+-- schema, after seed_employees.sql, and compare the access type, rows and timings.
+
+-- Employee list: status filter, default sort
+EXPLAIN ANALYZE
+SELECT * FROM employees WHERE status = 'ACTIVE' ORDER BY id LIMIT 10 OFFSET 1000;
+
+-- Employee list: department + status filter, sorted by salary (High)
+EXPLAIN ANALYZE
+SELECT * FROM employees
+WHERE department_id = (SELECT MIN(id) FROM departments) AND status = 'ACTIVE'
+ORDER BY salary DESC LIMIT 10;
+
+-- Employee list: status filter, "Newest First"
+EXPLAIN ANALYZE
+SELECT * FROM employees WHERE status = 'INACTIVE' ORDER BY joining_date DESC LIMIT 10;
+
+-- Employee list count query
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM employees WHERE status = 'ACTIVE';
+
+-- Dashboard: counts per status, per department, average salary, new joinees
+EXPLAIN ANALYZE
+SELECT status, COUNT(*) FROM employees GROUP BY status;
+EXPLAIN ANALYZE
+SELECT d.name, COUNT(e.id) FROM employees e JOIN departments d ON d.id = e.department_id GROUP BY d.name;
+EXPLAIN ANALYZE
+SELECT AVG(salary) FROM employees WHERE salary IS NOT NULL;
+EXPLAIN ANALYZE
+SELECT COUNT(*) FROM employees WHERE joining_date >= DATE_FORMAT(CURDATE(), '%Y-%m-01');
+
+-- Headcount snapshot aggregation
+EXPLAIN ANALYZE
+SELECT department_id, status, COUNT(*), SUM(salary), COUNT(salary) FROM employees GROUP BY department_id, status;
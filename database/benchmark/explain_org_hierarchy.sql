@@ -0,0 +1,63 @@
+-- Hierarchy queries on the closure table versus walking manager_id with a recursive CTE
+-- (what an app without the closure table would have to do). Run after
+-- seed_org_hierarchy.sql. @root is the top of the synthetic org, @mid a level-5 manager
+-- (~180 people below), @leaf an employee on the deepest level.
+
+SELECT MIN(id) INTO @root FROM employees WHERE employee_id LIKE 'BM%';
+SELECT ancestor_id INTO @mid FROM employee_hierarchy
+WHERE descendant_id = (SELECT MAX(descendant_id) FROM employee_hierarchy WHERE ancestor_id = @root AND depth = 11)
+  AND depth = 6;
+SELECT descendant_id INTO @leaf FROM employee_hierarchy WHERE ancestor_id = @root AND depth = 11 LIMIT 1;
+
+-- Reports under X, first page (GET /employees/{id}/reports)
+EXPLAIN ANALYZE
+SELECT e.* FROM employee_hierarchy h JOIN employees e ON e.id = h.descendant_id
+WHERE h.ancestor_id = @mid AND h.depth BETWEEN 1 AND 2147483647
+ORDER BY h.depth, e.id LIMIT 10;
+
+EXPLAIN ANALYZE
+WITH RECURSIVE sub (id, depth) AS (
+    SELECT id, 0 FROM employees WHERE id = @mid
+    UNION ALL
+    SELECT e.id, s.depth + 1 FROM sub s JOIN employees e ON e.manager_id = s.id
+)
+SELECT e.* FROM sub s JOIN employees e ON e.id = s.id WHERE s.depth > 0 ORDER BY s.depth, e.id LIMIT 10;
+
+-- Headcount under X, root and mid-level (GET /employees/{id}/subtree-stats)
+EXPLAIN ANALYZE
+SELECT d.name, COUNT(*), SUM(e.status = 'ACTIVE'), SUM(h.depth = 1), MAX(h.depth), SUM(e.salary), COUNT(e.salary)
+FROM employee_hierarchy h JOIN employees e ON e.id = h.descendant_id LEFT JOIN departments d ON d.id = e.department_id
+WHERE h.ancestor_id = @root AND h.depth > 0 GROUP BY d.name;
+
+EXPLAIN ANALYZE
+SELECT d.name, COUNT(*), SUM(e.status = 'ACTIVE'), SUM(h.depth = 1), MAX(h.depth), SUM(e.salary), COUNT(e.salary)
+FROM employee_hierarchy h JOIN employees e ON e.id = h.descendant_id LEFT JOIN departments d ON d.id = e.department_id
+WHERE h.ancestor_id = @mid AND h.depth > 0 GROUP BY d.name;
+
+EXPLAIN ANALYZE
+WITH RECURSIVE sub (id) AS (
+    SELECT id FROM employees WHERE id = @root
+    UNION ALL
+    SELECT e.id FROM sub s JOIN employees e ON e.manager_id = s.id
+)
+SELECT COUNT(*) - 1 FROM sub;
+
+-- Chain of command for a leaf (GET /employees/{id}/chain)
+EXPLAIN ANALYZE
+SELECT e.* FROM employee_hierarchy h JOIN employees e ON e.id = h.ancestor_id
+WHERE h.descendant_id = @leaf AND h.depth > 0 ORDER BY h.depth;
+
+-- Subtree move: @mid (and everyone under it) to the root's first direct report.
+-- Same statements as OrgChartService.move; rolled back so the script can be re-run.
+SELECT descendant_id INTO @target FROM employee_hierarchy WHERE ancestor_id = @root AND depth = 1 ORDER BY descendant_id LIMIT 1;
+START TRANSACTION;
+SET @t = NOW(6);
+DELETE link FROM employee_hierarchy link
+JOIN employee_hierarchy sub ON sub.descendant_id = link.descendant_id AND sub.ancestor_id = @mid
+JOIN employee_hierarchy sup ON sup.descendant_id = @mid AND sup.ancestor_id = link.ancestor_id
+WHERE sup.depth > 0;
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+SELECT sup.ancestor_id, sub.descendant_id, sup.depth + sub.depth + 1
+FROM employee_hierarchy sup JOIN employee_hierarchy sub ON sup.descendant_id = @target AND sub.ancestor_id = @mid;
+SELECT TIMESTAMPDIFF(MICROSECOND, @t, NOW(6)) / 1000 AS subtree_move_ms;
+ROLLBACK;
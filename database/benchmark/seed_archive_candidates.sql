@@ -0,0 +1,12 @@
+-- Turns the seeded employees into a workforce with years of departed staff: 60% of the
+-- BM% rows become INACTIVE, last touched one to five years ago, so they qualify for
+-- archival at the default app.archive.inactive-days=365. Run after seed_employees.sql.
+
+UPDATE employees
+SET status     = 'INACTIVE',
+    updated_at = DATE_SUB(NOW(), INTERVAL 400 + (id * 37) % 1400 DAY)
+WHERE employee_id LIKE 'BM%'
+  AND id % 5 IN (0, 1, 2);
+
+ANALYZE TABLE employees;
+SELECT status, COUNT(*) FROM employees GROUP BY status;
@@ -0,0 +1,29 @@
+-- Version history for the benchmark employees (MySQL 8.0+, schema at V5 or later).
+-- Usage, after seed_employees.sql: mysql employee_management_db < seed_employee_history.sql
+-- Gives every benchmark employee @versions versions: @versions - 1 closed ones spread over
+-- the last two years (salary and status changes) plus the current, open version, so the
+-- history table holds @versions times as many rows as employees.
+
+SET @versions = 4;
+SET SESSION cte_max_recursion_depth = 1000000;
+
+DELETE h FROM employee_history h JOIN employees e ON e.id = h.entity_id WHERE e.employee_id LIKE 'BM%';
+
+INSERT INTO employee_history (entity_id, employee_id, first_name, last_name, email, department_id, manager_id,
+                              salary, joining_date, status, valid_from, valid_to, recorded_at)
+WITH RECURSIVE v (k) AS (SELECT 1 UNION ALL SELECT k + 1 FROM v WHERE k < @versions)
+SELECT e.id, e.employee_id, e.first_name, e.last_name, e.email,
+       IF(v.k = @versions, e.department_id, (SELECT MIN(id) FROM departments) + (e.id + v.k) % 8),
+       e.manager_id,
+       IF(v.k = @versions, e.salary, ROUND(e.salary * (0.85 + 0.05 * v.k), 2)),
+       e.joining_date,
+       IF(v.k = @versions, e.status, IF((e.id + v.k) % 7 = 0, 'INACTIVE', 'ACTIVE')),
+       -- version k starts (@versions - k) * 180 days ago, offset per employee
+       DATE_SUB(NOW(6), INTERVAL (@versions - v.k) * 180 + e.id % 90 DAY),
+       IF(v.k = @versions, '9999-12-31 00:00:00',
+          DATE_SUB(NOW(6), INTERVAL (@versions - v.k - 1) * 180 + e.id % 90 DAY)),
+       NOW(6)
+FROM employees e JOIN v
+WHERE e.employee_id LIKE 'BM%';
+
+ANALYZE TABLE employee_history;
@@ -0,0 +1,31 @@
+-- Synthetic dataset for schema/index comparisons (MySQL 8.0+).
+-- Usage: mysql employee_management_db < seed_employees.sql
+-- Inserts 8 departments (if missing) and @rows employees with spread-out
+-- statuses, salaries and joining dates.
+
+SET @rows = 200000;
+SET SESSION cte_max_recursion_depth = 1000000;
+
+INSERT IGNORE INTO departments (name, description, created_at, updated_at) VALUES
+('Engineering', 'Benchmark', NOW(), NOW()), ('Human Resources', 'Benchmark', NOW(), NOW()),
+('Finance', 'Benchmark', NOW(), NOW()), ('Marketing', 'Benchmark', NOW(), NOW()),
+('Operations', 'Benchmark', NOW(), NOW()), ('Sales', 'Benchmark', NOW(), NOW()),
+('Design', 'Benchmark', NOW(), NOW()), ('Legal', 'Benchmark', NOW(), NOW());
+
+INSERT INTO employees (employee_id, first_name, last_name, email, phone, department_id, salary,
+                       joining_date, status, address, created_at, updated_at)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < @rows)
+SELECT CONCAT('BM', LPAD(n, 8, '0')),
+       ELT(1 + n % 10, 'Aarav', 'Diya', 'Ishaan', 'Kavya', 'Rohan', 'Saanvi', 'Vihaan', 'Anaya', 'Arjun', 'Meera'),
+       CONCAT('Bench', n),
+       CONCAT('bench', n, '@example.com'),
+       '9000000000',
+       (SELECT MIN(id) FROM departments) + n % 8,
+       20000 + (n * 7919) % 180000,
+       DATE_SUB(CURDATE(), INTERVAL (n * 31) % 5000 DAY),
+       IF(n % 5 = 0, 'INACTIVE', 'ACTIVE'),
+       'Benchmark address',
+       NOW(), NOW()
+FROM seq;
+
+ANALYZE TABLE employees, departments;
@@ -0,0 +1,42 @@
+-- Synthetic 12-level org chart for the hierarchy queries (MySQL 8.0+, schema at V4 or later).
+-- Usage, after seed_employees.sql: mysql employee_management_db < seed_org_hierarchy.sql
+-- Takes the first @org_size benchmark employees by id and gives employee n the manager
+-- FLOOR((n - 2) / 3) + 1: a complete ternary tree, so 100,000 employees span levels 0..11.
+-- Then rebuilds the whole closure table from the manager links.
+
+SET @org_size = 100000;
+SET SESSION cte_max_recursion_depth = 1000000;
+
+DROP TEMPORARY TABLE IF EXISTS org_rank;
+CREATE TEMPORARY TABLE org_rank (n INT PRIMARY KEY, id BIGINT NOT NULL);
+INSERT INTO org_rank (n, id)
+SELECT n, id FROM (
+    SELECT ROW_NUMBER() OVER (ORDER BY id) AS n, id FROM employees WHERE employee_id LIKE 'BM%'
+) ranked WHERE n <= @org_size;
+
+-- Two copies: MySQL cannot open the same temporary table twice in one statement.
+DROP TEMPORARY TABLE IF EXISTS org_rank_manager;
+CREATE TEMPORARY TABLE org_rank_manager (n INT PRIMARY KEY, id BIGINT NOT NULL);
+INSERT INTO org_rank_manager SELECT n, id FROM org_rank;
+
+UPDATE employees e JOIN org_rank r ON r.id = e.id SET e.manager_id = NULL;
+UPDATE employees e
+JOIN org_rank r ON r.id = e.id
+JOIN org_rank_manager m ON m.n = FLOOR((r.n - 2) / 3) + 1
+SET e.manager_id = m.id
+WHERE r.n > 1;
+
+DELETE FROM employee_hierarchy;
+INSERT INTO employee_hierarchy (ancestor_id, descendant_id, depth)
+WITH RECURSIVE closure (ancestor_id, descendant_id, depth) AS (
+    SELECT id, id, 0 FROM employees
+    UNION ALL
+    SELECT e.manager_id, c.descendant_id, c.depth + 1
+    FROM closure c JOIN employees e ON e.id = c.ancestor_id
+    WHERE e.manager_id IS NOT NULL
+)
+SELECT ancestor_id, descendant_id, depth FROM closure;
+
+ANALYZE TABLE employees, employee_hierarchy;
+
+SELECT MAX(depth) + 1 AS levels, COUNT(*) AS closure_rows FROM employee_hierarchy;
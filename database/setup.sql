@@ -7,13 +7,13 @@ CREATE DATABASE IF NOT EXISTS employee_management_db
 
 USE employee_management_db;
 
--- The tables will be auto-created by Hibernate (spring.jpa.hibernate.ddl-auto=update)
--- But you can pre-create them for reference:
+-- The tables are created by Flyway migrations on startup
+-- (backend/src/main/resources/db/migration); Hibernate only validates them.
 
 -- Optional: Insert sample departments after the app starts
 -- (The app auto-creates admin and user accounts on first run)
 
--- Sample data to insert AFTER the app has started and created the tables:
+-- Sample data to insert AFTER the app has started and migrated the schema:
 /*
 INSERT INTO departments (name, description, created_at, updated_at) VALUES
 ('Engineering',       'Software development and technical operations',   NOW(), NOW()),
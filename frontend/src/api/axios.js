@@ -7,22 +7,47 @@ const api = axios.create({
     headers: { 'Content-Type': 'application/json' },
 })
 
-// Request interceptor - attach JWT
+const WRITE_METHODS = ['post', 'put', 'patch', 'delete']
+// a 503 is retried only when the server says when, and not if that is further off than this
+const MAX_RETRY_AFTER_SECONDS = 5
+
+// Request interceptor - attach JWT, and an Idempotency-Key to writes so a retry is safe
 api.interceptors.request.use(
     (config) => {
         const token = localStorage.getItem('token')
         if (token) {
             config.headers.Authorization = `Bearer ${token}`
         }
+        if (WRITE_METHODS.includes(config.method) && !config.headers['Idempotency-Key']) {
+            config.headers['Idempotency-Key'] = crypto.randomUUID()
+        }
         return config
     },
     (error) => Promise.reject(error)
 )
 
-// Response interceptor - handle 401
+// Seconds to wait before retrying a 503, or null when it should not be retried
+const retryAfterSeconds = (response) => {
+    const header = response.headers?.['retry-after']
+    const seconds = header ? Number(header) : NaN
+    return Number.isFinite(seconds) && seconds >= 0 && seconds <= MAX_RETRY_AFTER_SECONDS ? seconds : null
+}
+
+// Response interceptor - retry a write once on a lost response, or on a 503 after its
+// Retry-After (same config, same Idempotency-Key, so the server replays instead of writing
+// twice), and handle 401
 api.interceptors.response.use(
     (response) => response,
     (error) => {
+        const config = error.config
+        if (config && !config._retried && config.headers?.['Idempotency-Key'] && error.code !== 'ERR_CANCELED') {
+            const delay = !error.response ? 0
+                : error.response.status === 503 ? retryAfterSeconds(error.response) : null
+            if (delay !== null) {
+                config._retried = true
+                return new Promise((resolve) => setTimeout(resolve, delay * 1000)).then(() => api(config))
+            }
+        }
         if (error.response?.status === 401) {
             localStorage.removeItem('token')
             localStorage.removeItem('user')
@@ -18,17 +18,35 @@ export const employeeAPI = {
         headers: { 'Content-Type': 'multipart/form-data' }
     }),
     getDashboardStats: () => api.get('/employees/dashboard/stats'),
+    suggest: (q, limit = 10) => api.get('/employees/suggest', { params: { q, limit } }),
 }
 
 // Users
 export const userAPI = {
-    getAll: () => api.get('/users'),
+    getAll: (params) => api.get('/users', { params }),
     getById: (id) => api.get(`/users/${id}`),
     create: (data) => api.post('/users', data),
     update: (id, data) => api.put(`/users/${id}`, data),
     delete: (id) => api.delete(`/users/${id}`),
 }
 
+// Reports
+export const reportAPI = {
+    getAll: () => api.get('/reports'),
+    generatePayroll: (month) => api.post('/reports/payroll', null, { params: { month } }),
+    download: (id) => api.get(`/reports/${id}/file`, { responseType: 'blob' }),
+}
+
+export const salaryRevisionAPI = {
+    getAll: () => api.get('/salary-revisions'),
+    getById: (id) => api.get(`/salary-revisions/${id}`),
+    getItems: (id, params) => api.get(`/salary-revisions/${id}/items`, { params }),
+    preview: (data) => api.post('/salary-revisions/preview', data),
+    create: (data) => api.post('/salary-revisions', data),
+    apply: (id) => api.post(`/salary-revisions/${id}/apply`),
+    rollback: (id) => api.post(`/salary-revisions/${id}/rollback`),
+}
+
 // Departments
 export const departmentAPI = {
     getAll: () => api.get('/departments'),
@@ -26,6 +26,7 @@ export default function EmployeeList() {
     const [filterStatus, setFilterStatus] = useState('')
     const [sortBy, setSortBy] = useState('id')
     const [sortDir, setSortDir] = useState('asc')
+    const [facets, setFacets] = useState(null)
 
     const [formOpen, setFormOpen] = useState(false)
     const [editEmployee, setEditEmployee] = useState(null)
@@ -47,9 +48,11 @@ export default function EmployeeList() {
                 search: search || undefined,
                 departmentId: filterDept || undefined,
                 status: filterStatus || undefined,
+                includeFacets: true,
             })
             const data = res.data.data
             setEmployees(data.content || [])
+            setFacets(data.facets || null)
             setPagination(p => ({
                 ...p, page: data.number, totalElements: data.totalElements, totalPages: data.totalPages
             }))
@@ -63,6 +66,12 @@ export default function EmployeeList() {
     useEffect(() => { fetchDepartments() }, [fetchDepartments])
     useEffect(() => { fetchEmployees(0) }, [search, filterDept, filterStatus, sortBy, sortDir])
 
+    const facetCount = (facet, value) => {
+        if (!facets) return ''
+        const entry = facets[facet].find(f => f.value === String(value))
+        return ` (${entry ? entry.count : 0})`
+    }
+
     const handleCreate = async (data) => {
         setFormLoading(true)
         try {
@@ -196,7 +205,7 @@ export default function EmployeeList() {
                     >
                         <option value="">All Departments</option>
                         {departments.map(d => (
-                            <option key={d.id} value={d.id}>{d.name}</option>
+                            <option key={d.id} value={d.id}>{d.name}{facetCount('departments', d.id)}</option>
                         ))}
                     </select>
 
@@ -207,8 +216,8 @@ export default function EmployeeList() {
                         onChange={e => setFilterStatus(e.target.value)}
                     >
                         <option value="">All Status</option>
-                        <option value="ACTIVE">Active</option>
-                        <option value="INACTIVE">Inactive</option>
+                        <option value="ACTIVE">Active{facetCount('statuses', 'ACTIVE')}</option>
+                        <option value="INACTIVE">Inactive{facetCount('statuses', 'INACTIVE')}</option>
                     </select>
 
                     <select
@@ -2,15 +2,21 @@ import { useState, useEffect, useCallback } from 'react'
 import {
     Plus, Search, Filter, Edit2, Trash2, RefreshCw,
     ShieldAlert, ShieldCheck, Mail, User as UserIcon,
-    XCircle, CheckCircle, MoreVertical
+    XCircle, CheckCircle, MoreVertical, ChevronLeft, ChevronRight
 } from 'lucide-react'
 import { userAPI } from '../../api/services'
 import { ConfirmDialog } from '../../components/common/Modal'
 import UserForm from './UserForm'
 import toast from 'react-hot-toast'
 
+const PAGE_SIZE = 20
+
 export default function UserList() {
     const [users, setUsers] = useState([])
+    const [totalElements, setTotalElements] = useState(0)
+    // cursors[i] is the `after` of page i; the first page has none
+    const [cursors, setCursors] = useState([null])
+    const [nextCursor, setNextCursor] = useState(null)
     const [loading, setLoading] = useState(false)
     const [formLoading, setFormLoading] = useState(false)
     const [deleteLoading, setDeleteLoading] = useState(false)
@@ -23,17 +29,28 @@ export default function UserList() {
     const [deleteUser, setDeleteUser] = useState(null)
     const [actionMenuId, setActionMenuId] = useState(null)
 
-    const fetchUsers = useCallback(async () => {
+    const fetchPage = useCallback(async (pageCursors) => {
         setLoading(true)
         try {
-            const res = await userAPI.getAll()
-            setUsers(res.data.data || [])
+            const res = await userAPI.getAll({
+                size: PAGE_SIZE,
+                search: search || undefined,
+                role: filterRole || undefined,
+                after: pageCursors[pageCursors.length - 1] || undefined,
+            })
+            const data = res.data.data
+            setUsers(data.content || [])
+            setNextCursor(data.nextCursor || null)
+            if (data.totalElements != null) setTotalElements(data.totalElements)
+            setCursors(pageCursors)
         } catch {
             toast.error('Failed to load users')
         } finally {
             setLoading(false)
         }
-    }, [])
+    }, [search, filterRole])
+
+    const fetchUsers = useCallback(() => fetchPage([null]), [fetchPage])
 
     useEffect(() => { fetchUsers() }, [fetchUsers])
 
@@ -57,7 +74,7 @@ export default function UserList() {
             await userAPI.update(editUser.id, data)
             toast.success('User updated successfully!')
             setEditUser(null)
-            fetchUsers()
+            fetchPage(cursors)
         } catch (err) {
             toast.error(err.response?.data?.message || 'Failed to update user')
         } finally {
@@ -71,7 +88,7 @@ export default function UserList() {
             await userAPI.delete(deleteUser.id)
             toast.success('User deleted')
             setDeleteUser(null)
-            fetchUsers()
+            fetchPage(cursors)
         } catch (err) {
             toast.error(err.response?.data?.message || 'Failed to delete user')
         } finally {
@@ -79,13 +96,7 @@ export default function UserList() {
         }
     }
 
-    const filteredUsers = users.filter(u => {
-        const matchesSearch =
-            u.username.toLowerCase().includes(search.toLowerCase()) ||
-            u.email.toLowerCase().includes(search.toLowerCase())
-        const matchesRole = !filterRole || u.role === filterRole
-        return matchesSearch && matchesRole
-    })
+    const page = cursors.length - 1
 
     return (
         <div className="page-enter">
@@ -93,7 +104,7 @@ export default function UserList() {
                 <div className="page-header-left">
                     <h1 className="page-header-title">System Users</h1>
                     <p className="page-header-subtitle">
-                        Manage portal access and permissions · {filteredUsers.length} users
+                        Manage portal access and permissions · {totalElements} users
                     </p>
                 </div>
                 <div style={{ display: 'flex', gap: '0.75rem' }}>
@@ -139,7 +150,7 @@ export default function UserList() {
                             <div className="spinner" />
                             <p>Loading users...</p>
                         </div>
-                    ) : filteredUsers.length === 0 ? (
+                    ) : users.length === 0 ? (
                         <div className="empty-state">
                             <div className="empty-state-icon"><UserIcon size={32} /></div>
                             <h3>No Users Found</h3>
@@ -157,7 +168,7 @@ export default function UserList() {
                                 </tr>
                             </thead>
                             <tbody>
-                                {filteredUsers.map((user) => (
+                                {users.map((user) => (
                                     <tr key={user.id}>
                                         <td>
                                             <div style={{ display: 'flex', alignItems: 'center', gap: '0.75rem' }}>
@@ -249,6 +260,34 @@ export default function UserList() {
                         </table>
                     )}
                 </div>
+
+                {/* Pagination */}
+                {(page > 0 || nextCursor) && (
+                    <div className="pagination">
+                        <div className="pagination-info">
+                            Showing {page * PAGE_SIZE + 1}–{page * PAGE_SIZE + users.length} of {totalElements}
+                        </div>
+                        <div className="pagination-buttons">
+                            <button
+                                className="page-btn"
+                                onClick={() => fetchPage(cursors.slice(0, -1))}
+                                disabled={page === 0}
+                                aria-label="Previous page"
+                            >
+                                <ChevronLeft size={14} />
+                            </button>
+                            <button className="page-btn active">{page + 1}</button>
+                            <button
+                                className="page-btn"
+                                onClick={() => fetchPage([...cursors, nextCursor])}
+                                disabled={!nextCursor}
+                                aria-label="Next page"
+                            >
+                                <ChevronRight size={14} />
+                            </button>
+                        </div>
+                    </div>
+                )}
             </div>
 
             <UserForm